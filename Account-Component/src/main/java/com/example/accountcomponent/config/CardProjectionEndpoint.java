@@ -0,0 +1,43 @@
+package com.example.accountcomponent.config;
+
+import com.example.accountcomponent.service.CardProjection;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "cardprojection")
+public class CardProjectionEndpoint {
+    private final CardProjection cardProjection;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    public CardProjectionEndpoint(CardProjection cardProjection,
+                                  KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry) {
+        this.cardProjection = cardProjection;
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+    }
+
+    @ReadOperation
+    public ProjectionStatus status() {
+        MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(CardProjection.LISTENER_ID);
+        return new ProjectionStatus(container != null && container.isRunning(), cardProjection.isReady(),
+                cardProjection.size(), cardProjection.lag());
+    }
+
+    @WriteOperation
+    public ProjectionStatus rebuild() {
+        MessageListenerContainer container = kafkaListenerEndpointRegistry.getListenerContainer(CardProjection.LISTENER_ID);
+        if (container != null) {
+            container.stop();
+            cardProjection.clear();
+            container.start();
+        }
+        return status();
+    }
+
+    public record ProjectionStatus(boolean running, boolean ready, int cards, long lag) {
+    }
+}
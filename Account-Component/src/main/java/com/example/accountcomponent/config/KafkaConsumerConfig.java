@@ -1,8 +1,17 @@
 package com.example.accountcomponent.config;
 
+import com.example.accountcomponent.dto.CardDTO;
 import com.example.accountcomponent.dto.RefillRequestDTO;
 import com.example.accountcomponent.dto.UpdateRequestDTO;
 import com.example.accountcomponent.exception.GlobalKafkaExceptionHandler;
+import com.example.accountcomponent.service.CardProjection;
+import com.example.kafkaschema.group.InstanceConsumerGroups;
+import com.example.kafkaschema.routing.ReadYourWritesContext;
+import com.example.kafkaschema.routing.ReadYourWritesPinListener;
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import com.example.kafkaschema.schema.FundsTransfer;
+import com.example.kafkaschema.schema.ReadYourWritesPin;
+import com.example.kafkaschema.serde.WireDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -12,8 +21,12 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.CompositeRecordInterceptor;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.RecordInterceptor;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.Map;
 import java.util.UUID;
@@ -27,10 +40,25 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String kafkaBootstrapServers;
 
+    @Value("${kafka.batch.max-records:100}")
+    private int batchMaxRecords;
+
     private final GlobalKafkaExceptionHandler globalKafkaExceptionHandler;
+    private final ReplyTopicResolver replyTopicResolver;
+    private final RequestDeadlineContext requestDeadlineContext;
+    private final ReadYourWritesContext readYourWritesContext;
+    private final InstanceConsumerGroups instanceConsumerGroups;
 
-    public KafkaConsumerConfig(GlobalKafkaExceptionHandler globalKafkaExceptionHandler) {
+    public KafkaConsumerConfig(GlobalKafkaExceptionHandler globalKafkaExceptionHandler,
+                               ReplyTopicResolver replyTopicResolver,
+                               RequestDeadlineContext requestDeadlineContext,
+                               ReadYourWritesContext readYourWritesContext,
+                               InstanceConsumerGroups instanceConsumerGroups) {
         this.globalKafkaExceptionHandler = globalKafkaExceptionHandler;
+        this.replyTopicResolver = replyTopicResolver;
+        this.requestDeadlineContext = requestDeadlineContext;
+        this.readYourWritesContext = readYourWritesContext;
+        this.instanceConsumerGroups = instanceConsumerGroups;
     }
 
     @Bean
@@ -40,7 +68,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueAccountComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
     }
@@ -51,6 +79,31 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(uuidConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, UUID> uuidBatchConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, uniqueAccountComponentGroupId,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxRecords,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "*"
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UUID> uuidBatchKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, UUID> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(uuidBatchConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setBatchInterceptor(requestDeadlineContext.batchInterceptor());
         return factory;
     }
 
@@ -61,7 +114,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueAccountComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
     }
@@ -72,6 +125,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(stringConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -82,7 +136,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueAccountComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.HashMap",
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -94,6 +148,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(mapObjectToObjectConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -104,7 +159,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueAccountComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.TYPE_MAPPINGS,
                 "com.example.apigatewaycomponent.dto.AccountRefillRequestDTO:com.example.accountcomponent.dto.RefillRequestDTO"
         ));
@@ -116,6 +171,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(refillConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -126,7 +182,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueAccountComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.TYPE_MAPPINGS,
                 "com.example.apigatewaycomponent.dto.AccountUpdateRequestDTO:com.example.accountcomponent.dto.UpdateRequestDTO"
         ));
@@ -138,6 +194,108 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(updateConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public ConsumerFactory<String, CardDTO> cardEventConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, instanceConsumerGroups.groupId("card-projection"),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.accountcomponent.dto.CardDTO",
+                JsonDeserializer.TRUSTED_PACKAGES, "*",
+                JsonDeserializer.TYPE_MAPPINGS,
+                "com.example.cardcomponent.dto.CardDTO:com.example.accountcomponent.dto.CardDTO"
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, CardDTO> cardEventKafkaListenerFactory(
+            CardProjection cardProjection) {
+        ConcurrentKafkaListenerContainerFactory<String, CardDTO> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(cardEventConsumerFactory());
+        factory.getContainerProperties().setConsumerRebalanceListener(cardProjection);
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, FundsTransfer> fundsTransferConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, uniqueAccountComponentGroupId,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxRecords,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, FundsTransfer.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example.kafkaschema.schema"
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, FundsTransfer> fundsTransferBatchKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, FundsTransfer> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(fundsTransferConsumerFactory());
+        factory.setBatchListener(true);
+        ExponentialBackOff backOff = new ExponentialBackOff(200L, 2.0);
+        backOff.setMaxInterval(10_000L);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, EntityChangeEvent> userEventConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, instanceConsumerGroups.groupId("user-events"),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, EntityChangeEvent.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example.kafkaschema.schema"
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, EntityChangeEvent> userEventKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, EntityChangeEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(userEventConsumerFactory());
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, ReadYourWritesPin> readYourWritesPinConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, instanceConsumerGroups.groupId("read-your-writes-pins"),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, ReadYourWritesPin.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example.kafkaschema.schema"
+        ));
+    }
+
+    @Bean(ReadYourWritesPinListener.CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, ReadYourWritesPin> readYourWritesPinKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ReadYourWritesPin> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(readYourWritesPinConsumerFactory());
+        return factory;
+    }
+
+    private <K, V> RecordInterceptor<K, V> requestRecordInterceptor() {
+        return new CompositeRecordInterceptor<>(requestDeadlineContext.recordInterceptor(),
+                replyTopicResolver.recordInterceptor(), readYourWritesContext.recordInterceptor());
+    }
+}
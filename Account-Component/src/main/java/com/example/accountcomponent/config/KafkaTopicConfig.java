@@ -0,0 +1,86 @@
+package com.example.accountcomponent.config;
+
+import com.example.kafkaschema.routing.ReadYourWritesPinListener;
+import com.example.kafkaschema.schema.FundsTransfer;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.List;
+
+@Configuration
+public class KafkaTopicConfig {
+    public static final String ACCOUNT_EVENTS_TOPIC = "account-events";
+
+    private static final List<String> REQUEST_TOPICS = List.of(
+            "create-account-by-user-id",
+            "get-account-by-account-name",
+            "get-account-by-account-id",
+            "get-all-accounts-by-user-id",
+            "get-all-accounts-by-holder-full-name",
+            "get-balance-by-account-id",
+            "get-all-accounts-by-status",
+            "refill-account-by-account-id",
+            "update-account-by-account-id",
+            "update-account-status-by-account-id",
+            "update-account-balance-by-account-id",
+            "delete-account-by-account-id",
+            "delete-account-by-account-name",
+            "delete-all-accounts-by-user-id",
+            "transfer-funds"
+    );
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${kafka.topics.partitions:1}")
+    private int requestTopicPartitions;
+
+    @Value("${kafka.topics.replicas:1}")
+    private int requestTopicReplicas;
+
+    @Bean
+    public KafkaAdmin.NewTopics requestTopics() {
+        return new KafkaAdmin.NewTopics(REQUEST_TOPICS.stream()
+                .map(topic -> TopicBuilder.name(topic)
+                        .partitions(requestTopicPartitions)
+                        .replicas(requestTopicReplicas)
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+
+    @Bean
+    public NewTopic accountEventsTopic() {
+        return TopicBuilder.name(ACCOUNT_EVENTS_TOPIC)
+                .partitions(requestTopicPartitions)
+                .replicas(requestTopicReplicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic appliedFundsTransfersTopic() {
+        return TopicBuilder.name(FundsTransfer.APPLIED_TOPIC)
+                .partitions(requestTopicPartitions)
+                .replicas(requestTopicReplicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic rejectedFundsTransfersTopic() {
+        return TopicBuilder.name(FundsTransfer.REJECTED_TOPIC)
+                .partitions(requestTopicPartitions)
+                .replicas(requestTopicReplicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic readYourWritesPinsTopic() {
+        return TopicBuilder.name(ReadYourWritesPinListener.topicFor(applicationName))
+                .partitions(requestTopicPartitions)
+                .replicas(requestTopicReplicas)
+                .build();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.accountcomponent.config;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class ReplyTopicResolver {
+    private final ThreadLocal<String> currentReplyTopic = new ThreadLocal<>();
+
+    public <K, V> RecordInterceptor<K, V> recordInterceptor() {
+        return new RecordInterceptor<>() {
+            @Override
+            public ConsumerRecord<K, V> intercept(@NonNull ConsumerRecord<K, V> record, @NonNull Consumer<K, V> consumer) {
+                String replyTopic = extractReplyTopic(record.headers());
+                if (replyTopic == null) {
+                    currentReplyTopic.remove();
+                } else {
+                    currentReplyTopic.set(replyTopic);
+                }
+                return record;
+            }
+
+            @Override
+            public void afterRecord(@NonNull ConsumerRecord<K, V> record, @NonNull Consumer<K, V> consumer) {
+                currentReplyTopic.remove();
+            }
+        };
+    }
+
+    public String resolve(String defaultTopic) {
+        String replyTopic = currentReplyTopic.get();
+        return replyTopic != null ? replyTopic : defaultTopic;
+    }
+
+    public String resolve(Headers headers, String defaultTopic) {
+        String replyTopic = extractReplyTopic(headers);
+        return replyTopic != null ? replyTopic : defaultTopic;
+    }
+
+    public static String extractReplyTopic(Headers headers) {
+        Header header = headers.lastHeader(KafkaHeaders.REPLY_TOPIC);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+}
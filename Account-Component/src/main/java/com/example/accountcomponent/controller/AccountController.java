@@ -5,10 +5,12 @@ import com.example.accountcomponent.service.RestAccountService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -51,6 +53,17 @@ public class AccountController {
         return ResponseEntity.ok(responseBigDecimal);
     }
 
+    @GetMapping("/by-account-id/{accountId}/balance/as-of")
+    public ResponseEntity<BigDecimal> getBalanceByAccountIdAsOf(@PathVariable UUID accountId,
+                                                                @RequestParam("timestamp")
+                                                                @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+                                                                LocalDateTime timestamp) {
+        LOGGER.debug("Received GET request to get Account balance by ACCOUNT ID: {} as of: {}", accountId, timestamp);
+        BigDecimal responseBigDecimal = restAccountService.getBalanceByAccountIdAsOf(accountId, timestamp);
+        LOGGER.debug(RESPONSE_LOG, responseBigDecimal);
+        return ResponseEntity.ok(responseBigDecimal);
+    }
+
     @GetMapping("/by-account-name/{accountName}")
     public ResponseEntity<AccountDTO> getAccountByAccountName(@PathVariable String accountName) {
         LOGGER.debug("Received GET request to get Account by ACCOUNT NAME: {}", accountName);
@@ -4,11 +4,14 @@ import com.example.accountcomponent.dto.CardDTO;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.cloud.openfeign.FeignClient;
-import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Qualifier("Card-Components")
@@ -18,7 +21,11 @@ public interface CardComponentClient {
     @CircuitBreaker(name = "cardComponentCircuitBreaker")
     List<CardDTO> findAllCardsByAccountId(@PathVariable UUID accountId);
 
-    @DeleteMapping("card/by-account-id/{accountId}")
+    @PostMapping("card/by-account-ids")
     @CircuitBreaker(name = "cardComponentCircuitBreaker")
-    void deleteAllAccountCardsByAccountId(@PathVariable UUID accountId);
+    Map<UUID, List<CardDTO>> findAllCardsByAccountIds(@RequestBody Set<UUID> accountIds);
+
+    @PostMapping("card/deactivate/by-account-ids")
+    @CircuitBreaker(name = "cardComponentCircuitBreaker")
+    int deactivateAllCardsByAccountIds(@RequestBody Set<UUID> accountIds);
 }
@@ -5,6 +5,8 @@ import org.springframework.stereotype.Component;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -15,7 +17,12 @@ public class CardComponentClientFallback implements CardComponentClient {
     }
 
     @Override
-    public void deleteAllAccountCardsByAccountId(UUID accountId) {
+    public Map<UUID, List<CardDTO>> findAllCardsByAccountIds(Set<UUID> accountIds) {
+        return Collections.emptyMap();
+    }
 
+    @Override
+    public int deactivateAllCardsByAccountIds(Set<UUID> accountIds) {
+        return 0;
     }
 }
@@ -1,8 +1,10 @@
 package com.example.accountcomponent.feign;
 
 import com.example.accountcomponent.config.AccountAppComponentConfig;
+import com.example.accountcomponent.config.RequestDeadlineContext;
 import com.example.accountcomponent.dto.AuthResponseDTO;
 import com.example.accountcomponent.dto.AuthRequestDTO;
+import com.example.kafkaschema.routing.ReadYourWritesContext;
 import feign.FeignException;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
@@ -16,15 +18,23 @@ public class FeignClientInterceptor implements RequestInterceptor {
     private static final Logger LOGGER = LoggerFactory.getLogger(FeignClientInterceptor.class);
     private final SecurityComponentClient securityComponentClient;
     private final AccountAppComponentConfig accountConfig;
+    private final RequestDeadlineContext requestDeadlineContext;
+    private final ReadYourWritesContext readYourWritesContext;
 
-    public FeignClientInterceptor(@Qualifier("Security-Components") SecurityComponentClient securityComponentClient, AccountAppComponentConfig accountConfig) {
+    public FeignClientInterceptor(@Qualifier("Security-Components") SecurityComponentClient securityComponentClient, AccountAppComponentConfig accountConfig,
+                                  RequestDeadlineContext requestDeadlineContext,
+                                  ReadYourWritesContext readYourWritesContext) {
         this.securityComponentClient = securityComponentClient;
         this.accountConfig = accountConfig;
+        this.requestDeadlineContext = requestDeadlineContext;
+        this.readYourWritesContext = readYourWritesContext;
     }
 
 
     @Override
     public void apply(RequestTemplate requestTemplate) {
+        applyDeadline(requestTemplate);
+        applySessionId(requestTemplate);
         try {
             LOGGER.debug("Inject to feign request my JWT Token");
             requestTemplate.header("Authorization", "Bearer " + accountConfig.getJwtToken());
@@ -39,6 +49,23 @@ public class FeignClientInterceptor implements RequestInterceptor {
         }
     }
 
+    private void applyDeadline(RequestTemplate requestTemplate) {
+        requestDeadlineContext.checkDeadline(requestTemplate.feignTarget().name());
+        Long deadline = requestDeadlineContext.getDeadline();
+        if (deadline != null) {
+            requestTemplate.removeHeader(RequestDeadlineContext.DEADLINE_HEADER);
+            requestTemplate.header(RequestDeadlineContext.DEADLINE_HEADER, String.valueOf(deadline));
+        }
+    }
+
+    private void applySessionId(RequestTemplate requestTemplate) {
+        String sessionId = readYourWritesContext.getSessionId();
+        if (sessionId != null) {
+            requestTemplate.removeHeader(ReadYourWritesContext.SESSION_HEADER);
+            requestTemplate.header(ReadYourWritesContext.SESSION_HEADER, sessionId);
+        }
+    }
+
     private void refreshToken() {
         try {
             AuthResponseDTO authResponseDTO = securityComponentClient.authenticateComponent(
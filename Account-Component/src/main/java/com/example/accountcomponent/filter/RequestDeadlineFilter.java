@@ -0,0 +1,39 @@
+package com.example.accountcomponent.filter;
+
+import com.example.accountcomponent.config.RequestDeadlineContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpMethod;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+public class RequestDeadlineFilter extends OncePerRequestFilter {
+    private final RequestDeadlineContext requestDeadlineContext;
+
+    public RequestDeadlineFilter(RequestDeadlineContext requestDeadlineContext) {
+        this.requestDeadlineContext = requestDeadlineContext;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        boolean live = requestDeadlineContext.bind(request.getHeader(RequestDeadlineContext.DEADLINE_HEADER),
+                HttpMethod.GET.matches(request.getMethod()), "rest");
+        if (!live) {
+            response.sendError(HttpServletResponse.SC_REQUEST_TIMEOUT, "Request deadline exceeded");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            requestDeadlineContext.clear();
+        }
+    }
+}
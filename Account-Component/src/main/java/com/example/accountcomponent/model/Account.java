@@ -1,9 +1,10 @@
 package com.example.accountcomponent.model;
 
+import com.example.kafkaschema.id.TimeOrderedId;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Version;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -12,8 +13,9 @@ import java.util.UUID;
 @Entity
 public class Account {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
+    @Column(unique = true)
     private String accountName;
     private String accountHolderFullName;
     private BigDecimal balance;
@@ -21,6 +23,8 @@ public class Account {
     private LocalDateTime createdDate;
     private String status;
     private String currency;
+    @Version
+    private long version;
 
     public Account() {
     }
@@ -102,6 +106,14 @@ public class Account {
         this.currency = currency;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     @Override
     public String toString() {
         return "Account{" +
@@ -113,6 +125,7 @@ public class Account {
                 ", accountType='" + accountType + '\'' +
                 ", createdDate=" + createdDate +
                 ", status='" + status + '\'' +
+                ", version=" + version +
                 '}';
     }
 }
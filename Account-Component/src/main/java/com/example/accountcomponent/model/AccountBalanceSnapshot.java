@@ -0,0 +1,77 @@
+package com.example.accountcomponent.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "account_balance_snapshot", indexes = @Index(name = "idx_account_balance_snapshot_account_id",
+        columnList = "accountId, lastEntryId"))
+public class AccountBalanceSnapshot {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_balance_snapshot_seq")
+    @SequenceGenerator(name = "account_balance_snapshot_seq", sequenceName = "account_balance_snapshot_seq",
+            allocationSize = 50)
+    private Long id;
+    private UUID accountId;
+    private BigDecimal balance;
+    private Long lastEntryId;
+    private LocalDateTime lastEntryDate;
+    private LocalDateTime createdDate;
+
+    public AccountBalanceSnapshot() {
+    }
+
+    public AccountBalanceSnapshot(UUID accountId, BigDecimal balance, Long lastEntryId,
+                                  LocalDateTime lastEntryDate, LocalDateTime createdDate) {
+        this.accountId = accountId;
+        this.balance = balance;
+        this.lastEntryId = lastEntryId;
+        this.lastEntryDate = lastEntryDate;
+        this.createdDate = createdDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public BigDecimal getBalance() {
+        return balance;
+    }
+
+    public Long getLastEntryId() {
+        return lastEntryId;
+    }
+
+    public LocalDateTime getLastEntryDate() {
+        return lastEntryDate;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    @Override
+    public String toString() {
+        return "AccountBalanceSnapshot{" +
+                "id=" + id +
+                ", accountId=" + accountId +
+                ", balance=" + balance +
+                ", lastEntryId=" + lastEntryId +
+                ", lastEntryDate=" + lastEntryDate +
+                ", createdDate=" + createdDate +
+                '}';
+    }
+}
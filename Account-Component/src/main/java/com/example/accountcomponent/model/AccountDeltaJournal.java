@@ -0,0 +1,66 @@
+package com.example.accountcomponent.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "account_delta_journal", indexes = @Index(name = "idx_account_delta_journal_instance",
+        columnList = "instanceId"))
+public class AccountDeltaJournal {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long sequence;
+    private UUID accountId;
+    private BigDecimal amount;
+    private String instanceId;
+    private LocalDateTime createdDate;
+
+    public AccountDeltaJournal() {
+    }
+
+    public AccountDeltaJournal(UUID accountId, BigDecimal amount, String instanceId, LocalDateTime createdDate) {
+        this.accountId = accountId;
+        this.amount = amount;
+        this.instanceId = instanceId;
+        this.createdDate = createdDate;
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    @Override
+    public String toString() {
+        return "AccountDeltaJournal{" +
+                "sequence=" + sequence +
+                ", accountId=" + accountId +
+                ", amount=" + amount +
+                ", instanceId='" + instanceId + '\'' +
+                ", createdDate=" + createdDate +
+                '}';
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.accountcomponent.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "account_entries", indexes = @Index(name = "idx_account_entries_account_id",
+        columnList = "accountId, id"))
+public class AccountEntry {
+    public static final String OPENING = "OPENING";
+    public static final String REFILL = "REFILL";
+    public static final String BALANCE_SET = "BALANCE_SET";
+    public static final String FUNDS_MOVEMENT = "FUNDS_MOVEMENT";
+    public static final String HOT_FLUSH = "HOT_FLUSH";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private UUID accountId;
+    private BigDecimal amount;
+    private String entryType;
+    private LocalDateTime createdDate;
+
+    public AccountEntry() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getEntryType() {
+        return entryType;
+    }
+
+    public LocalDateTime getCreatedDate() {
+        return createdDate;
+    }
+
+    @Override
+    public String toString() {
+        return "AccountEntry{" +
+                "id=" + id +
+                ", accountId=" + accountId +
+                ", amount=" + amount +
+                ", entryType='" + entryType + '\'' +
+                ", createdDate=" + createdDate +
+                '}';
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.accountcomponent.model;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Table(name = "processed_funds_movement")
+public class ProcessedFundsMovement {
+    @Id
+    private String id;
+    private UUID paymentId;
+    private UUID accountId;
+    private BigDecimal delta;
+    private String status;
+    private LocalDateTime processedDate;
+
+    public ProcessedFundsMovement() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public UUID getPaymentId() {
+        return paymentId;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public BigDecimal getDelta() {
+        return delta;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getProcessedDate() {
+        return processedDate;
+    }
+
+    @Override
+    public String toString() {
+        return "ProcessedFundsMovement{" +
+                "id='" + id + '\'' +
+                ", paymentId=" + paymentId +
+                ", accountId=" + accountId +
+                ", delta=" + delta +
+                ", status='" + status + '\'' +
+                ", processedDate=" + processedDate +
+                '}';
+    }
+}
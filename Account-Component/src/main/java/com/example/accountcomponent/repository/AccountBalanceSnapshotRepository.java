@@ -0,0 +1,53 @@
+package com.example.accountcomponent.repository;
+
+import com.example.accountcomponent.model.AccountBalanceSnapshot;
+import feign.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AccountBalanceSnapshotRepository extends JpaRepository<AccountBalanceSnapshot, Long> {
+    @Query(value = "WITH horizon AS (SELECT CAST(clock_timestamp() AS timestamp) " +
+            "- make_interval(secs => CAST(:settleMillis AS double precision) / 1000) AS settled_before) " +
+            "SELECT account.id AS accountId, COALESCE(latest.balance, 0) + tail.amount AS balance, " +
+            "tail.last_entry_id AS lastEntryId, tail.last_entry_date AS lastEntryDate, " +
+            "tail.unsettled_amount AS unsettledAmount, account.balance AS accountBalance " +
+            "FROM horizon CROSS JOIN account " +
+            "LEFT JOIN LATERAL (SELECT snapshot.balance, snapshot.last_entry_id " +
+            "FROM account_balance_snapshot snapshot WHERE snapshot.account_id = account.id " +
+            "ORDER BY snapshot.last_entry_id DESC LIMIT 1) latest ON true " +
+            "CROSS JOIN LATERAL (SELECT " +
+            "SUM(entry.amount) FILTER (WHERE entry.created_date <= horizon.settled_before) AS amount, " +
+            "MAX(entry.id) FILTER (WHERE entry.created_date <= horizon.settled_before) AS last_entry_id, " +
+            "MAX(entry.created_date) FILTER (WHERE entry.created_date <= horizon.settled_before) AS last_entry_date, " +
+            "COUNT(*) FILTER (WHERE entry.created_date <= horizon.settled_before) AS entries, " +
+            "COALESCE(SUM(entry.amount) FILTER (WHERE entry.created_date > horizon.settled_before), 0) " +
+            "AS unsettled_amount " +
+            "FROM account_entries entry WHERE entry.account_id = account.id " +
+            "AND entry.id > COALESCE(latest.last_entry_id, 0)) tail " +
+            "WHERE tail.entries > 0 AND account.id > :afterAccountId " +
+            "ORDER BY account.id LIMIT :batchSize", nativeQuery = true)
+    List<EntryTail> findEntryTailsAfter(@Param("afterAccountId") UUID afterAccountId,
+                                        @Param("settleMillis") long settleMillis,
+                                        @Param("batchSize") int batchSize);
+
+    interface EntryTail {
+        UUID getAccountId();
+
+        BigDecimal getBalance();
+
+        Long getLastEntryId();
+
+        LocalDateTime getLastEntryDate();
+
+        BigDecimal getUnsettledAmount();
+
+        BigDecimal getAccountBalance();
+    }
+}
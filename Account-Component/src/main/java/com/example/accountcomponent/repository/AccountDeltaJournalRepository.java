@@ -0,0 +1,75 @@
+package com.example.accountcomponent.repository;
+
+import com.example.accountcomponent.model.AccountDeltaJournal;
+import feign.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AccountDeltaJournalRepository extends JpaRepository<AccountDeltaJournal, Long> {
+    @Transactional
+    @Query(value = "DELETE FROM account_delta_journal WHERE instance_id = :instanceId " +
+            "RETURNING sequence AS sequence, account_id AS accountId, amount AS amount, instance_id AS instanceId, " +
+            "created_date AS createdDate", nativeQuery = true)
+    List<JournaledDelta> drainByInstanceId(@Param("instanceId") String instanceId);
+
+    @Transactional
+    @Query(value = "DELETE FROM account_delta_journal journal WHERE NOT EXISTS (" +
+            "SELECT 1 FROM account_journal_owner owner WHERE owner.instance_id = journal.instance_id) " +
+            "RETURNING sequence AS sequence, account_id AS accountId, amount AS amount, instance_id AS instanceId, " +
+            "created_date AS createdDate", nativeQuery = true)
+    List<JournaledDelta> drainOrphaned();
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO account_delta_dead_letter " +
+            "(sequence, account_id, amount, instance_id, created_date, dead_lettered_at) " +
+            "VALUES (:sequence, :accountId, :amount, :instanceId, :createdDate, now())", nativeQuery = true)
+    int deadLetter(@Param("sequence") Long sequence, @Param("accountId") UUID accountId,
+                   @Param("amount") BigDecimal amount, @Param("instanceId") String instanceId,
+                   @Param("createdDate") LocalDateTime createdDate);
+
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO account_journal_owner (instance_id, heartbeat_at) VALUES (:instanceId, now()) " +
+            "ON CONFLICT (instance_id) DO UPDATE SET heartbeat_at = now()", nativeQuery = true)
+    int registerOwner(@Param("instanceId") String instanceId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE account_journal_owner SET heartbeat_at = now() WHERE instance_id = :instanceId",
+            nativeQuery = true)
+    int renewOwnerLease(@Param("instanceId") String instanceId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM account_journal_owner WHERE instance_id = :instanceId", nativeQuery = true)
+    int releaseOwner(@Param("instanceId") String instanceId);
+
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM account_journal_owner " +
+            "WHERE heartbeat_at < now() - make_interval(secs => CAST(:leaseMillis AS double precision) / 1000)",
+            nativeQuery = true)
+    int expireOwners(@Param("leaseMillis") long leaseMillis);
+
+    interface JournaledDelta {
+        Long getSequence();
+
+        UUID getAccountId();
+
+        BigDecimal getAmount();
+
+        String getInstanceId();
+
+        LocalDateTime getCreatedDate();
+    }
+}
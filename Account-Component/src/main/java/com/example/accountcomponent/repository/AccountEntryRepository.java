@@ -0,0 +1,24 @@
+package com.example.accountcomponent.repository;
+
+import com.example.accountcomponent.model.AccountEntry;
+import feign.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface AccountEntryRepository extends JpaRepository<AccountEntry, Long> {
+    @Query(value = "WITH base AS (" +
+            "SELECT balance, last_entry_id FROM account_balance_snapshot " +
+            "WHERE account_id = :accountId AND last_entry_date <= :asOf " +
+            "ORDER BY last_entry_id DESC LIMIT 1) " +
+            "SELECT COALESCE((SELECT balance FROM base), 0) + COALESCE(SUM(entry.amount), 0) " +
+            "FROM account_entries entry WHERE entry.account_id = :accountId " +
+            "AND entry.id > COALESCE((SELECT last_entry_id FROM base), 0) " +
+            "AND entry.created_date <= :asOf", nativeQuery = true)
+    BigDecimal findBalanceAsOf(@Param("accountId") UUID accountId, @Param("asOf") LocalDateTime asOf);
+}
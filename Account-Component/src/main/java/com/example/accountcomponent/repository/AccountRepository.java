@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -22,4 +23,56 @@ public interface AccountRepository extends JpaRepository<Account, UUID> {
     Optional<BigDecimal> findAccountBalanceById(@Param("accountId") UUID accountId);
 
     boolean existsById(@NonNull UUID accountId);
+
+    @Transactional
+    @Query(value = "WITH created AS (" +
+            "INSERT INTO account (id, account_name, account_holder_full_name, balance, account_type, " +
+            "created_date, status, currency, version) " +
+            "VALUES (:#{#account.id}, :#{#account.accountName}, :#{#account.accountHolderFullName}, " +
+            ":#{#account.balance}, :#{#account.accountType}, :#{#account.createdDate}, :#{#account.status}, " +
+            ":#{#account.currency}, 0) " +
+            "ON CONFLICT (account_name) DO NOTHING RETURNING *), " +
+            "entry AS (INSERT INTO account_entries (account_id, amount, entry_type, created_date) " +
+            "SELECT id, balance, 'OPENING', CAST(clock_timestamp() AS timestamp) FROM created " +
+            "WHERE balance IS NOT NULL) " +
+            "SELECT * FROM created", nativeQuery = true)
+    Optional<Account> insertIfNameAbsent(@Param("account") Account account);
+
+    @Transactional
+    @Query(value = "WITH updated AS (" +
+            "UPDATE account SET balance = balance + :delta, version = version + 1 " +
+            "WHERE id = :accountId AND balance + :delta >= 0 RETURNING *), " +
+            "entry AS (INSERT INTO account_entries (account_id, amount, entry_type, created_date) " +
+            "SELECT id, :delta, :entryType, CAST(clock_timestamp() AS timestamp) FROM updated) " +
+            "SELECT * FROM updated", nativeQuery = true)
+    Optional<Account> addToBalanceById(@Param("accountId") UUID accountId, @Param("delta") BigDecimal delta,
+                                       @Param("entryType") String entryType);
+
+    @Transactional
+    @Query(value = "WITH previous AS (SELECT id, balance FROM account WHERE id = :accountId FOR UPDATE), " +
+            "updated AS (UPDATE account SET balance = :newBalance, version = account.version + 1 FROM previous " +
+            "WHERE account.id = previous.id AND :newBalance >= 0 RETURNING account.*), " +
+            "entry AS (INSERT INTO account_entries (account_id, amount, entry_type, created_date) " +
+            "SELECT updated.id, updated.balance - COALESCE(previous.balance, 0), 'BALANCE_SET', " +
+            "CAST(clock_timestamp() AS timestamp) FROM updated JOIN previous ON previous.id = updated.id) " +
+            "SELECT * FROM updated", nativeQuery = true)
+    Optional<Account> setBalanceById(@Param("accountId") UUID accountId, @Param("newBalance") BigDecimal newBalance);
+
+    @Transactional
+    @Query(value = "WITH previous AS (SELECT id, balance FROM account WHERE account_name = :accountName FOR UPDATE), " +
+            "updated AS (UPDATE account SET balance = :newBalance, version = account.version + 1 FROM previous " +
+            "WHERE account.id = previous.id AND :newBalance >= 0 RETURNING account.*), " +
+            "entry AS (INSERT INTO account_entries (account_id, amount, entry_type, created_date) " +
+            "SELECT updated.id, updated.balance - COALESCE(previous.balance, 0), 'BALANCE_SET', " +
+            "CAST(clock_timestamp() AS timestamp) FROM updated JOIN previous ON previous.id = updated.id) " +
+            "SELECT * FROM updated", nativeQuery = true)
+    Optional<Account> setBalanceByAccountName(@Param("accountName") String accountName,
+                                              @Param("newBalance") BigDecimal newBalance);
+
+    boolean existsByAccountName(String accountName);
+
+    @Transactional
+    @Query(value = "UPDATE account SET status = 'PRE-REMOVED', version = version + 1 " +
+            "WHERE account_holder_full_name = :accountHolderFullName RETURNING id", nativeQuery = true)
+    List<UUID> markPreRemovedByAccountHolderFullName(@Param("accountHolderFullName") String accountHolderFullName);
 }
@@ -0,0 +1,25 @@
+package com.example.accountcomponent.repository;
+
+import com.example.accountcomponent.model.ProcessedFundsMovement;
+import feign.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Repository
+public interface ProcessedFundsMovementRepository extends JpaRepository<ProcessedFundsMovement, String> {
+    @Modifying
+    @Query(value = "INSERT INTO processed_funds_movement (id, payment_id, account_id, delta, status, processed_date) " +
+            "VALUES (:id, :paymentId, :accountId, :delta, 'APPLIED', now()) ON CONFLICT (id) DO NOTHING",
+            nativeQuery = true)
+    int claim(@Param("id") String id, @Param("paymentId") UUID paymentId, @Param("accountId") UUID accountId,
+              @Param("delta") BigDecimal delta);
+
+    @Modifying
+    @Query("UPDATE ProcessedFundsMovement movement SET movement.status = 'REJECTED' WHERE movement.id = :id")
+    int markRejected(@Param("id") String id);
+}
@@ -0,0 +1,133 @@
+package com.example.accountcomponent.service;
+
+import com.example.accountcomponent.model.AccountBalanceSnapshot;
+import com.example.accountcomponent.repository.AccountBalanceSnapshotRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class AccountBalanceSnapshotter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccountBalanceSnapshotter.class);
+    private static final UUID FIRST_ACCOUNT_ID = new UUID(0L, 0L);
+    private static final long SNAPSHOT_LOCK_KEY = 0x736e617073686f74L;
+    private static final String TRY_LOCK_QUERY = "SELECT pg_try_advisory_lock(?)";
+    private static final String UNLOCK_QUERY = "SELECT pg_advisory_unlock(?)";
+
+    private final AccountBalanceSnapshotRepository accountBalanceSnapshotRepository;
+    private final DataSource dataSource;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long settleMillis;
+    private final Counter snapshotsTaken;
+    private final Counter reconciliationMismatches;
+
+    public AccountBalanceSnapshotter(AccountBalanceSnapshotRepository accountBalanceSnapshotRepository,
+                                     DataSource dataSource,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${account.snapshots.batch-size:500}") int batchSize,
+                                     @Value("${account.snapshots.settle-ms:60000}") long settleMillis) {
+        this.accountBalanceSnapshotRepository = accountBalanceSnapshotRepository;
+        this.dataSource = dataSource;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.settleMillis = settleMillis;
+        this.snapshotsTaken = Counter.builder("account.snapshots.taken")
+                .description("Account balance snapshots written from the account entries journal")
+                .register(meterRegistry);
+        this.reconciliationMismatches = Counter.builder("account.reconciliation.mismatches")
+                .description("Accounts whose balance differs from their last snapshot plus newer entries")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${account.snapshots.interval-ms:3600000}",
+            initialDelayString = "${account.snapshots.interval-ms:3600000}")
+    public void takeSnapshots() {
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!advisoryLock(lockConnection, TRY_LOCK_QUERY)) {
+                LOGGER.info("Account balance snapshots are being taken by another instance, skipping this run");
+                return;
+            }
+            try {
+                snapshotAllAccounts();
+            } finally {
+                if (!advisoryLock(lockConnection, UNLOCK_QUERY)) {
+                    LOGGER.warn("Account balance snapshot lock was not held when the run finished");
+                }
+            }
+        } catch (SQLException exception) {
+            LOGGER.error("Account balance snapshot lock could not be taken or released: {}", exception.getMessage());
+        }
+    }
+
+    private void snapshotAllAccounts() {
+        UUID afterAccountId = FIRST_ACCOUNT_ID;
+        int taken = 0;
+        int mismatches = 0;
+        while (true) {
+            UUID cursor = afterAccountId;
+            List<AccountBalanceSnapshotRepository.EntryTail> tails = transactionTemplate.execute(status ->
+                    snapshotBatch(cursor));
+            if (tails == null || tails.isEmpty()) {
+                break;
+            }
+            taken += tails.size();
+            mismatches += (int) tails.stream().filter(tail -> !isReconciled(tail)).count();
+            if (tails.size() < batchSize) {
+                break;
+            }
+            afterAccountId = tails.get(tails.size() - 1).getAccountId();
+        }
+        snapshotsTaken.increment(taken);
+        reconciliationMismatches.increment(mismatches);
+        LOGGER.info("Took {} Account balance snapshots, {} Accounts failed reconciliation", taken, mismatches);
+    }
+
+    private List<AccountBalanceSnapshotRepository.EntryTail> snapshotBatch(UUID afterAccountId) {
+        List<AccountBalanceSnapshotRepository.EntryTail> tails =
+                accountBalanceSnapshotRepository.findEntryTailsAfter(afterAccountId, settleMillis, batchSize);
+        LocalDateTime createdDate = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        accountBalanceSnapshotRepository.saveAll(tails.stream()
+                .map(tail -> new AccountBalanceSnapshot(tail.getAccountId(), tail.getBalance(),
+                        tail.getLastEntryId(), tail.getLastEntryDate(), createdDate))
+                .toList());
+        return tails;
+    }
+
+    private static boolean advisoryLock(Connection connection, String query) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(query)) {
+            statement.setLong(1, SNAPSHOT_LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static boolean isReconciled(AccountBalanceSnapshotRepository.EntryTail tail) {
+        BigDecimal expectedBalance = tail.getBalance().add(tail.getUnsettledAmount());
+        if (tail.getAccountBalance() != null && expectedBalance.compareTo(tail.getAccountBalance()) == 0) {
+            return true;
+        }
+        LOGGER.error("Account: {} has balance: {} but its last snapshot plus newer entries add up to: {}",
+                tail.getAccountId(), tail.getAccountBalance(), expectedBalance);
+        return false;
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.accountcomponent.service;
+
+import com.example.accountcomponent.config.KafkaTopicConfig;
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Service
+public class AccountEventPublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccountEventPublisher.class);
+    private static final String ENTITY = "account";
+
+    private final KafkaTemplate<String, EntityChangeEvent> accountEventKafkaTemplate;
+
+    public AccountEventPublisher(KafkaTemplate<String, EntityChangeEvent> accountEventKafkaTemplate) {
+        this.accountEventKafkaTemplate = accountEventKafkaTemplate;
+    }
+
+    public void publish(String change, UUID accountId) {
+        EntityChangeEvent event = new EntityChangeEvent(ENTITY, accountId, change, Instant.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(EntityChangeEvent event) {
+        ProducerRecord<String, EntityChangeEvent> accountEvent = new ProducerRecord<>(
+                KafkaTopicConfig.ACCOUNT_EVENTS_TOPIC, event.id().toString(), event);
+        accountEventKafkaTemplate.send(accountEvent).whenComplete((sendResult, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error("Failed to publish {} event for Account with ID: {}", event.change(), event.id(), throwable);
+            }
+        });
+        LOGGER.debug("Published {} event for Account with ID: {}", event.change(), event.id());
+    }
+}
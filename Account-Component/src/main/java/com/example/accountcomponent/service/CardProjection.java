@@ -0,0 +1,163 @@
+package com.example.accountcomponent.service;
+
+import com.example.accountcomponent.dto.CardDTO;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class CardProjection implements ConsumerAwareRebalanceListener {
+    public static final String LISTENER_ID = "card-projection";
+    public static final String CARD_EVENTS_TOPIC = "card-events";
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardProjection.class);
+
+    private final Map<UUID, CardDTO> cardsById = new ConcurrentHashMap<>();
+    private final Map<UUID, Map<UUID, CardDTO>> cardsByAccountId = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Long> catchUpOffsets = new ConcurrentHashMap<>();
+    private final Map<TopicPartition, Long> partitionLag = new ConcurrentHashMap<>();
+    private volatile boolean fullyAssigned;
+    private volatile boolean ready;
+
+    public CardProjection(MeterRegistry meterRegistry) {
+        Gauge.builder("account.card-projection.lag", this, CardProjection::lag)
+                .description("Card events not yet applied to the local card projection")
+                .register(meterRegistry);
+        Gauge.builder("account.card-projection.size", cardsById, Map::size).register(meterRegistry);
+        Gauge.builder("account.card-projection.ready", this, projection -> projection.ready ? 1 : 0)
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(id = LISTENER_ID, topics = CARD_EVENTS_TOPIC,
+            containerFactory = "cardEventKafkaListenerFactory",
+            autoStartup = "${account.card-projection.enabled:false}")
+    public void onCardEvent(ConsumerRecord<String, CardDTO> cardEvent, Consumer<?, ?> consumer) {
+        if (cardEvent.value() == null) {
+            remove(UUID.fromString(cardEvent.key()));
+        } else {
+            put(cardEvent.value());
+        }
+
+        TopicPartition topicPartition = new TopicPartition(cardEvent.topic(), cardEvent.partition());
+        consumer.currentLag(topicPartition).ifPresent(lag -> partitionLag.put(topicPartition, lag));
+        Long catchUpOffset = catchUpOffsets.get(topicPartition);
+        if (catchUpOffset != null && cardEvent.offset() + 1 >= catchUpOffset) {
+            catchUpOffsets.remove(topicPartition);
+            markReadyIfCaughtUp();
+        }
+    }
+
+    public Optional<Map<UUID, List<CardDTO>>> findCardsByAccountIds(Set<UUID> accountIds) {
+        if (!ready) {
+            return Optional.empty();
+        }
+        Map<UUID, List<CardDTO>> cards = new HashMap<>();
+        accountIds.forEach(accountId ->
+                cards.put(accountId, List.copyOf(cardsByAccountId.getOrDefault(accountId, Map.of()).values())));
+        return Optional.of(cards);
+    }
+
+    public void clear() {
+        ready = false;
+        fullyAssigned = false;
+        catchUpOffsets.clear();
+        partitionLag.clear();
+        cardsById.clear();
+        cardsByAccountId.clear();
+        LOGGER.info("Card projection was cleared");
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        return cardsById.size();
+    }
+
+    public long lag() {
+        return partitionLag.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public void onPartitionsAssigned(@NonNull Consumer<?, ?> consumer, @NonNull Collection<TopicPartition> partitions) {
+        Set<TopicPartition> assignment = consumer.assignment();
+        consumer.seekToBeginning(assignment);
+        Map<TopicPartition, Long> beginningOffsets = consumer.beginningOffsets(assignment);
+        consumer.endOffsets(assignment).forEach((topicPartition, endOffset) -> {
+            long backlog = endOffset - beginningOffsets.getOrDefault(topicPartition, 0L);
+            partitionLag.put(topicPartition, backlog);
+            if (backlog > 0) {
+                catchUpOffsets.put(topicPartition, endOffset);
+            }
+        });
+        int topicPartitions = consumer.partitionsFor(CARD_EVENTS_TOPIC).size();
+        fullyAssigned = assignment.size() == topicPartitions;
+        if (!fullyAssigned) {
+            LOGGER.warn("Card projection is assigned {} of {} partitions of topic: {}, serving cards through Feign",
+                    assignment.size(), topicPartitions, CARD_EVENTS_TOPIC);
+        }
+        LOGGER.info("Rebuilding card projection from topic: {} with {} events to replay", CARD_EVENTS_TOPIC, lag());
+        markReadyIfCaughtUp();
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(@NonNull Consumer<?, ?> consumer,
+                                                @NonNull Collection<TopicPartition> partitions) {
+        if (!partitions.isEmpty()) {
+            clear();
+        }
+    }
+
+    private void put(CardDTO cardDTO) {
+        CardDTO previous = cardsById.put(cardDTO.getId(), cardDTO);
+        if (previous != null && !Objects.equals(previous.getAccountId(), cardDTO.getAccountId())) {
+            removeFromAccount(previous);
+        }
+        if (cardDTO.getAccountId() != null) {
+            cardsByAccountId.computeIfAbsent(cardDTO.getAccountId(), accountId -> new ConcurrentHashMap<>())
+                    .put(cardDTO.getId(), cardDTO);
+        }
+    }
+
+    private void remove(UUID cardId) {
+        CardDTO previous = cardsById.remove(cardId);
+        if (previous != null) {
+            removeFromAccount(previous);
+        }
+    }
+
+    private void removeFromAccount(CardDTO cardDTO) {
+        if (cardDTO.getAccountId() == null) {
+            return;
+        }
+        cardsByAccountId.computeIfPresent(cardDTO.getAccountId(), (accountId, accountCards) -> {
+            accountCards.remove(cardDTO.getId());
+            return accountCards.isEmpty() ? null : accountCards;
+        });
+    }
+
+    private void markReadyIfCaughtUp() {
+        if (!ready && fullyAssigned && catchUpOffsets.isEmpty()) {
+            ready = true;
+            LOGGER.info("Card projection caught up with {} Cards", cardsById.size());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.accountcomponent.service;
+
+import com.example.accountcomponent.model.AccountEntry;
+import com.example.accountcomponent.repository.AccountRepository;
+import com.example.accountcomponent.repository.ProcessedFundsMovementRepository;
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import com.example.kafkaschema.schema.FundsTransfer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Service
+public class FundsTransferApplier {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FundsTransferApplier.class);
+
+    private final AccountRepository accountRepository;
+    private final ProcessedFundsMovementRepository processedFundsMovementRepository;
+    private final AccountEventPublisher accountEventPublisher;
+    private final FundsTransferOutcomePublisher fundsTransferOutcomePublisher;
+    private final TransactionTemplate savepointTemplate;
+    private final Counter appliedTransfers;
+    private final Counter rejectedTransfers;
+    private final Counter duplicateTransfers;
+
+    public FundsTransferApplier(AccountRepository accountRepository,
+                                ProcessedFundsMovementRepository processedFundsMovementRepository,
+                                AccountEventPublisher accountEventPublisher,
+                                FundsTransferOutcomePublisher fundsTransferOutcomePublisher,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.accountRepository = accountRepository;
+        this.processedFundsMovementRepository = processedFundsMovementRepository;
+        this.accountEventPublisher = accountEventPublisher;
+        this.fundsTransferOutcomePublisher = fundsTransferOutcomePublisher;
+        this.savepointTemplate = new TransactionTemplate(transactionManager);
+        this.savepointTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+        this.appliedTransfers = Counter.builder("account.funds-transfers").tag("result", "applied")
+                .register(meterRegistry);
+        this.rejectedTransfers = Counter.builder("account.funds-transfers").tag("result", "rejected")
+                .register(meterRegistry);
+        this.duplicateTransfers = Counter.builder("account.funds-transfers").tag("result", "duplicate")
+                .register(meterRegistry);
+    }
+
+    @Transactional
+    public void apply(List<FundsTransfer> transfers) {
+        List<FundsTransfer> claimedTransfers = new ArrayList<>();
+        for (FundsTransfer transfer : transfers) {
+            int claimed = processedFundsMovementRepository.claim(transfer.transferId(), transfer.paymentId(),
+                    transfer.fromAccountId(), transfer.amount().negate());
+            if (claimed == 0) {
+                LOGGER.info("Funds transfer was already applied, skipping: {}", transfer.transferId());
+                duplicateTransfers.increment();
+                continue;
+            }
+            claimedTransfers.add(transfer);
+        }
+        if (claimedTransfers.isEmpty()) {
+            return;
+        }
+
+        Map<UUID, BigDecimal> netDeltas = new TreeMap<>();
+        claimedTransfers.forEach(transfer -> addLegs(netDeltas, transfer));
+        if (Boolean.TRUE.equals(savepointTemplate.execute(status -> applyDeltas(netDeltas, status)))) {
+            appliedTransfers.increment(claimedTransfers.size());
+            netDeltas.keySet().forEach(accountId -> accountEventPublisher.publish(EntityChangeEvent.UPDATED, accountId));
+            claimedTransfers.forEach(fundsTransferOutcomePublisher::publishApplied);
+            LOGGER.debug("Applied {} funds transfers across {} accounts", claimedTransfers.size(), netDeltas.size());
+            return;
+        }
+        LOGGER.warn("Net deltas of {} funds transfers were rejected, applying transfers one by one",
+                claimedTransfers.size());
+        claimedTransfers.forEach(this::applySingle);
+    }
+
+    private void applySingle(FundsTransfer transfer) {
+        Map<UUID, BigDecimal> legs = new TreeMap<>();
+        addLegs(legs, transfer);
+        if (Boolean.TRUE.equals(savepointTemplate.execute(status -> applyDeltas(legs, status)))) {
+            appliedTransfers.increment();
+            legs.keySet().forEach(accountId -> accountEventPublisher.publish(EntityChangeEvent.UPDATED, accountId));
+            fundsTransferOutcomePublisher.publishApplied(transfer);
+            return;
+        }
+        processedFundsMovementRepository.markRejected(transfer.transferId());
+        rejectedTransfers.increment();
+        fundsTransferOutcomePublisher.publishRejected(transfer);
+        LOGGER.error("Funds transfer: {} of {} from Account: {} to Account: {} was rejected, " +
+                        "an account is missing or has insufficient funds",
+                transfer.transferId(), transfer.amount(), transfer.fromAccountId(), transfer.toAccountId());
+    }
+
+    private boolean applyDeltas(Map<UUID, BigDecimal> deltasByAccountId, TransactionStatus status) {
+        for (Map.Entry<UUID, BigDecimal> delta : deltasByAccountId.entrySet()) {
+            if (accountRepository.addToBalanceById(delta.getKey(), delta.getValue(),
+                    AccountEntry.FUNDS_MOVEMENT).isEmpty()) {
+                status.setRollbackOnly();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addLegs(Map<UUID, BigDecimal> deltasByAccountId, FundsTransfer transfer) {
+        deltasByAccountId.merge(transfer.fromAccountId(), transfer.amount().negate(), BigDecimal::add);
+        deltasByAccountId.merge(transfer.toAccountId(), transfer.amount(), BigDecimal::add);
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.accountcomponent.service;
+
+import com.example.kafkaschema.schema.FundsTransfer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Service
+public class FundsTransferOutcomePublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(FundsTransferOutcomePublisher.class);
+
+    private final KafkaTemplate<String, FundsTransfer> fundsTransferOutcomeKafkaTemplate;
+
+    public FundsTransferOutcomePublisher(KafkaTemplate<String, FundsTransfer> fundsTransferOutcomeKafkaTemplate) {
+        this.fundsTransferOutcomeKafkaTemplate = fundsTransferOutcomeKafkaTemplate;
+    }
+
+    public void publishApplied(FundsTransfer transfer) {
+        publish(FundsTransfer.APPLIED_TOPIC, transfer);
+    }
+
+    public void publishRejected(FundsTransfer transfer) {
+        publish(FundsTransfer.REJECTED_TOPIC, transfer);
+    }
+
+    private void publish(String topic, FundsTransfer transfer) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(topic, transfer);
+                }
+            });
+        } else {
+            send(topic, transfer);
+        }
+    }
+
+    private void send(String topic, FundsTransfer transfer) {
+        ProducerRecord<String, FundsTransfer> outcome = new ProducerRecord<>(
+                topic, transfer.paymentId().toString(), transfer);
+        fundsTransferOutcomeKafkaTemplate.send(outcome).whenComplete((sendResult, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error("Failed to publish funds transfer outcome to topic: {} for Payment with ID: {}",
+                        topic, transfer.paymentId(), throwable);
+            }
+        });
+        LOGGER.debug("Published funds transfer outcome to topic: {} for Payment with ID: {}",
+                topic, transfer.paymentId());
+    }
+}
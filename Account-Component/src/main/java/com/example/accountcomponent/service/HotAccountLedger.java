@@ -0,0 +1,234 @@
+package com.example.accountcomponent.service;
+
+import com.example.accountcomponent.model.AccountDeltaJournal;
+import com.example.accountcomponent.model.AccountEntry;
+import com.example.accountcomponent.repository.AccountDeltaJournalRepository;
+import com.example.accountcomponent.repository.AccountRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+@Service
+public class HotAccountLedger {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HotAccountLedger.class);
+
+    private final AccountRepository accountRepository;
+    private final AccountDeltaJournalRepository accountDeltaJournalRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String instanceId;
+    private final long journalLeaseMillis;
+    private final int stripeMask;
+    private final Map<UUID, AtomicReferenceArray<BigDecimal>> pendingByAccountId;
+    private final AtomicLong journaledDeltas = new AtomicLong();
+    private final ReadWriteLock journalLock = new ReentrantReadWriteLock();
+    private final Counter flushedDeltas;
+    private final Counter deadLetteredDeltas;
+
+    public HotAccountLedger(AccountRepository accountRepository,
+                            AccountDeltaJournalRepository accountDeltaJournalRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${spring.application.name}") String applicationName,
+                            @Value("${account.hot-accounts.ids:}") Set<UUID> hotAccountIds,
+                            @Value("${account.hot-accounts.stripes:16}") int stripes,
+                            @Value("${account.hot-accounts.journal-lease-ms:30000}") long journalLeaseMillis) {
+        this.accountRepository = accountRepository;
+        this.accountDeltaJournalRepository = accountDeltaJournalRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.instanceId = applicationName + "-" + UUID.randomUUID();
+        this.journalLeaseMillis = journalLeaseMillis;
+        int stripeCount = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.stripeMask = stripeCount - 1;
+        this.pendingByAccountId = hotAccountIds.stream()
+                .collect(Collectors.toUnmodifiableMap(accountId -> accountId,
+                        accountId -> newCells(stripeCount)));
+        this.flushedDeltas = Counter.builder("account.hot-ledger.flushed-deltas")
+                .description("Journaled hot account credits applied to Account balances")
+                .register(meterRegistry);
+        this.deadLetteredDeltas = Counter.builder("account.hot-ledger.dead-lettered-deltas")
+                .description("Journaled hot account credits moved to the dead letter table because the Account was gone")
+                .register(meterRegistry);
+        Gauge.builder("account.hot-ledger.pending-deltas", journaledDeltas, AtomicLong::get)
+                .description("Hot account credits journaled but not yet applied to Account balances")
+                .register(meterRegistry);
+        if (!pendingByAccountId.isEmpty()) {
+            LOGGER.info("Write-behind ledger enabled for {} hot Accounts with {} stripes: {}",
+                    pendingByAccountId.size(), stripeCount, pendingByAccountId.keySet());
+        }
+    }
+
+    public boolean isHot(UUID accountId) {
+        return pendingByAccountId.containsKey(accountId);
+    }
+
+    public boolean acceptsCredit(UUID accountId, BigDecimal amount) {
+        return isHot(accountId) && amount != null && amount.signum() > 0;
+    }
+
+    public void credit(UUID accountId, BigDecimal amount) {
+        journalLock.readLock().lock();
+        try {
+            accountDeltaJournalRepository.save(new AccountDeltaJournal(accountId, amount, instanceId,
+                    LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS)));
+            journaledDeltas.incrementAndGet();
+            pendingByAccountId.get(accountId)
+                    .accumulateAndGet((int) Thread.currentThread().getId() & stripeMask, amount, BigDecimal::add);
+        } finally {
+            journalLock.readLock().unlock();
+        }
+    }
+
+    public BigDecimal effectiveBalance(UUID accountId, BigDecimal flushedBalance) {
+        AtomicReferenceArray<BigDecimal> cells = pendingByAccountId.get(accountId);
+        if (cells == null || flushedBalance == null) {
+            return flushedBalance;
+        }
+        BigDecimal balance = flushedBalance;
+        for (int stripe = 0; stripe < cells.length(); stripe++) {
+            balance = balance.add(cells.get(stripe));
+        }
+        return balance;
+    }
+
+    @PostConstruct
+    public void registerJournalOwner() {
+        accountDeltaJournalRepository.registerOwner(instanceId);
+        LOGGER.info("Journaling hot account credits as owner: {}", instanceId);
+        sweepOrphanedJournal();
+    }
+
+    @Scheduled(fixedDelayString = "${account.hot-accounts.flush-interval-ms:1000}")
+    public void scheduledFlush() {
+        renewJournalLease();
+        flush();
+    }
+
+    @Scheduled(initialDelayString = "${account.hot-accounts.orphan-sweep-interval-ms:30000}",
+            fixedDelayString = "${account.hot-accounts.orphan-sweep-interval-ms:30000}")
+    public void sweepOrphanedJournal() {
+        Drained drained = drainAndApply(() -> {
+            accountDeltaJournalRepository.expireOwners(journalLeaseMillis);
+            return accountDeltaJournalRepository.drainOrphaned();
+        });
+        if (drained.deltas() > 0) {
+            LOGGER.info("Applied {} hot account credits journaled by stopped instances: {}",
+                    drained.deltas(), drained.totals());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+        accountDeltaJournalRepository.releaseOwner(instanceId);
+    }
+
+    public synchronized void flush() {
+        if (journaledDeltas.get() == 0) {
+            return;
+        }
+        Drained drained = drainAndApply(() -> accountDeltaJournalRepository.drainByInstanceId(instanceId));
+        release(drained.totals(), drained.deltas());
+        LOGGER.debug("Flushed hot account credits to balances: {}", drained.totals());
+    }
+
+    private synchronized void renewJournalLease() {
+        if (accountDeltaJournalRepository.renewOwnerLease(instanceId) > 0) {
+            return;
+        }
+        LOGGER.error("Journal lease of owner: {} expired and its credits may have been applied by another instance, " +
+                "rebuilding pending hot account credits", instanceId);
+        journalLock.writeLock().lock();
+        try {
+            accountDeltaJournalRepository.registerOwner(instanceId);
+            Drained drained = drainAndApply(() -> accountDeltaJournalRepository.drainByInstanceId(instanceId));
+            release(drained.totals(), drained.deltas());
+            Map<UUID, BigDecimal> sweptTotals = pendingTotals();
+            long sweptDeltas = journaledDeltas.get();
+            release(sweptTotals, sweptDeltas);
+            LOGGER.info("Applied {} remaining hot account credits of owner: {}, {} were applied by another instance: {}",
+                    drained.deltas(), instanceId, sweptDeltas, sweptTotals);
+        } finally {
+            journalLock.writeLock().unlock();
+        }
+    }
+
+    private void release(Map<UUID, BigDecimal> totals, long deltas) {
+        journaledDeltas.addAndGet(-deltas);
+        totals.forEach((accountId, total) -> {
+            AtomicReferenceArray<BigDecimal> cells = pendingByAccountId.get(accountId);
+            if (cells != null) {
+                cells.accumulateAndGet(0, total.negate(), BigDecimal::add);
+            }
+        });
+    }
+
+    private Map<UUID, BigDecimal> pendingTotals() {
+        Map<UUID, BigDecimal> totals = new HashMap<>();
+        pendingByAccountId.keySet().forEach(accountId -> {
+            BigDecimal pending = effectiveBalance(accountId, BigDecimal.ZERO);
+            if (pending.signum() != 0) {
+                totals.put(accountId, pending);
+            }
+        });
+        return totals;
+    }
+
+    private Drained drainAndApply(Supplier<List<AccountDeltaJournalRepository.JournaledDelta>> drain) {
+        Drained drained = transactionTemplate.execute(status -> {
+            List<AccountDeltaJournalRepository.JournaledDelta> deltas = drain.get();
+            Map<UUID, BigDecimal> totals = new HashMap<>();
+            deltas.forEach(delta -> totals.merge(delta.getAccountId(), delta.getAmount(), BigDecimal::add));
+            List<UUID> missingAccountIds = totals.entrySet().stream()
+                    .filter(total -> accountRepository.addToBalanceById(total.getKey(), total.getValue(),
+                            AccountEntry.HOT_FLUSH).isEmpty())
+                    .map(Map.Entry::getKey)
+                    .toList();
+            List<AccountDeltaJournalRepository.JournaledDelta> undeliverable = deltas.stream()
+                    .filter(delta -> missingAccountIds.contains(delta.getAccountId()))
+                    .toList();
+            undeliverable.forEach(delta -> accountDeltaJournalRepository.deadLetter(delta.getSequence(),
+                    delta.getAccountId(), delta.getAmount(), delta.getInstanceId(), delta.getCreatedDate()));
+            missingAccountIds.forEach(accountId -> LOGGER.error("Journaled credits of {} could not be applied, " +
+                    "Account was not found, moved them to the dead letter table: {}", totals.get(accountId), accountId));
+            return new Drained(totals, deltas.size(), undeliverable.size());
+        });
+        flushedDeltas.increment(drained.deltas() - drained.deadLettered());
+        deadLetteredDeltas.increment(drained.deadLettered());
+        return drained;
+    }
+
+    private record Drained(Map<UUID, BigDecimal> totals, int deltas, int deadLettered) {
+    }
+
+    private static AtomicReferenceArray<BigDecimal> newCells(int stripeCount) {
+        AtomicReferenceArray<BigDecimal> cells = new AtomicReferenceArray<>(stripeCount);
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            cells.set(stripe, BigDecimal.ZERO);
+        }
+        return cells;
+    }
+}
@@ -3,10 +3,13 @@ package com.example.accountcomponent.service;
 import com.example.accountcomponent.dto.AccountDTO;
 import com.example.accountcomponent.dto.RefillRequestDTO;
 import com.example.accountcomponent.dto.UpdateRequestDTO;
+import com.example.kafkaschema.schema.FundsTransfer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -18,6 +21,8 @@ public interface KafkaAccountService {
 
     void getAccountById(UUID accountId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
 
+    void getAccountsByIds(List<ConsumerRecord<String, UUID>> records);
+
     void getAllUserAccountsByUserId(UUID userId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
 
     void getAllAccountsByHolderFullName(String accountHolderFullName, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
@@ -41,4 +46,6 @@ public interface KafkaAccountService {
     void deleteAccountByAccountName(String accountName, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
 
     void deleteAllUserAccountsByUserId(UUID userId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
+
+    void applyFundsTransfers(List<ConsumerRecord<String, FundsTransfer>> records);
 }
@@ -1,18 +1,25 @@
 package com.example.accountcomponent.service;
 
+import com.example.accountcomponent.config.ReplyTopicResolver;
 import com.example.accountcomponent.dto.AccountDTO;
+import com.example.accountcomponent.dto.CardDTO;
 import com.example.accountcomponent.dto.RefillRequestDTO;
 import com.example.accountcomponent.dto.UpdateRequestDTO;
 import com.example.accountcomponent.exception.CustomKafkaException;
+import com.example.accountcomponent.exception.GlobalKafkaExceptionHandler;
 import com.example.accountcomponent.feign.CardComponentClient;
-import com.example.accountcomponent.feign.UsersComponentClient;
 import com.example.accountcomponent.model.Account;
+import com.example.accountcomponent.model.AccountEntry;
 import com.example.accountcomponent.repository.AccountRepository;
+import com.example.kafkaschema.id.TimeOrderedUuid;
+import com.example.kafkaschema.schema.FundsTransfer;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -21,11 +28,17 @@ import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class KafkaAccountServiceImpl implements KafkaAccountService {
@@ -40,24 +53,42 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
     private final KafkaTemplate<String, List<AccountDTO>> responseDTOSKafkaTemplate;
     private final KafkaTemplate<String, String> responseMessageKafkaTemplate;
     private final KafkaTemplate<String, BigDecimal> responseBigDecimalKafkaTemplate;
+    private final ReplyTopicResolver replyTopicResolver;
+    private final GlobalKafkaExceptionHandler globalKafkaExceptionHandler;
 
     private final AccountRepository accountRepository;
-    private final UsersComponentClient usersComponentClient;
+    private final UsersNearCache usersNearCache;
     private final CardComponentClient cardComponentClient;
+    private final CardProjection cardProjection;
+    private final HotAccountLedger hotAccountLedger;
+    private final OptimisticRetry optimisticRetry;
+    private final FundsTransferApplier fundsTransferApplier;
 
     public KafkaAccountServiceImpl(AccountRepository accountRepository, KafkaTemplate<String,
             AccountDTO> responseDTOKafkaTemplate, KafkaTemplate<String, List<AccountDTO>> responseDTOSKafkaTemplate,
                                    KafkaTemplate<String, String> responseMessageKafkaTemplate,
                                    KafkaTemplate<String, BigDecimal> responseBigDecimalKafkaTemplate,
-                                   @Qualifier("Users-Components") UsersComponentClient usersComponentClient,
-                                   @Qualifier("Card-Components") CardComponentClient cardComponentClient) {
+                                   UsersNearCache usersNearCache,
+                                   @Qualifier("Card-Components") CardComponentClient cardComponentClient,
+                                   CardProjection cardProjection,
+                                   HotAccountLedger hotAccountLedger,
+                                   OptimisticRetry optimisticRetry,
+                                   FundsTransferApplier fundsTransferApplier,
+                                   ReplyTopicResolver replyTopicResolver,
+                                   GlobalKafkaExceptionHandler globalKafkaExceptionHandler) {
         this.accountRepository = accountRepository;
         this.responseDTOKafkaTemplate = responseDTOKafkaTemplate;
         this.responseDTOSKafkaTemplate = responseDTOSKafkaTemplate;
         this.responseMessageKafkaTemplate = responseMessageKafkaTemplate;
         this.responseBigDecimalKafkaTemplate = responseBigDecimalKafkaTemplate;
-        this.usersComponentClient = usersComponentClient;
+        this.usersNearCache = usersNearCache;
         this.cardComponentClient = cardComponentClient;
+        this.cardProjection = cardProjection;
+        this.hotAccountLedger = hotAccountLedger;
+        this.optimisticRetry = optimisticRetry;
+        this.fundsTransferApplier = fundsTransferApplier;
+        this.replyTopicResolver = replyTopicResolver;
+        this.globalKafkaExceptionHandler = globalKafkaExceptionHandler;
     }
 
     private AccountDTO convertAccountModelToDTO(Account account) {
@@ -67,14 +98,30 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
         accountDTO.setAccountHolderFullName(account.getAccountHolderFullName());
         accountDTO.setAccountType(account.getAccountType());
         accountDTO.setCreatedDate(account.getCreatedDate());
-        accountDTO.setBalance(account.getBalance());
+        accountDTO.setBalance(hotAccountLedger.effectiveBalance(account.getId(), account.getBalance()));
         accountDTO.setCurrency(account.getCurrency());
         accountDTO.setStatus(account.getStatus());
         return accountDTO;
     }
 
+    private List<AccountDTO> attachCards(List<AccountDTO> accountDTOS) {
+        if (accountDTOS.isEmpty()) {
+            return accountDTOS;
+        }
+        Set<UUID> accountIds = accountDTOS.stream()
+                .map(AccountDTO::getId)
+                .collect(Collectors.toSet());
+        LOGGER.debug("Trying to find Cards of {} Accounts with one request", accountIds.size());
+        Map<UUID, List<CardDTO>> cardsByAccountId = cardProjection.findCardsByAccountIds(accountIds)
+                .orElseGet(() -> cardComponentClient.findAllCardsByAccountIds(accountIds));
+        accountDTOS.forEach(accountDTO ->
+                accountDTO.setCards(cardsByAccountId.getOrDefault(accountDTO.getId(), Collections.emptyList())));
+        return accountDTOS;
+    }
+
     private Account convertAccountDTOToModel(String userName, AccountDTO accountDTO) {
         Account account = new Account();
+        account.setId(TimeOrderedUuid.next());
         account.setAccountName(accountDTO.getAccountName());
         account.setBalance(accountDTO.getBalance());
         account.setAccountHolderFullName(userName);
@@ -87,7 +134,8 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "create-account-by-user-id", groupId = "account-component",
-            containerFactory = "mapObjectToObjectKafkaListenerFactory")
+            containerFactory = "mapObjectToObjectKafkaListenerFactory",
+            concurrency = "${kafka.listener.create-account-by-user-id.concurrency:${kafka.listener.concurrency:1}}")
     public void createAccount(Map<String, AccountDTO> userIdToAccountDTOMap, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: create-account-by-user-id with correlation id: {} ", correlationId);
         ObjectMapper objectMapper = new ObjectMapper();
@@ -98,18 +146,17 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
         LOGGER.info("User was found successfully with Full name: {}", userName);
 
         LOGGER.info("Trying to create Account: {}", accountDTO);
-        accountRepository.findByAccountName(accountDTO.getAccountName())
-                .ifPresent(accountEntity -> {
-                    LOGGER.error("Account with such name already exists: {}", accountEntity);
-                    throw new CustomKafkaException(HttpStatus.BAD_REQUEST, "Account with such name: " +
-                            accountDTO.getAccountName() + " already exists correlationId:" + correlationId);
+        Account account = accountRepository.insertIfNameAbsent(convertAccountDTOToModel(userName, accountDTO))
+                .orElseThrow(() -> {
+                    LOGGER.error("Account with such name already exists: {}", accountDTO.getAccountName());
+                    return new CustomKafkaException(HttpStatus.BAD_REQUEST, "Account with such name: " +
+                            accountDTO.getAccountName() + " already exists");
                 });
-        Account account = accountRepository.save(convertAccountDTOToModel(userName, accountDTO));
         LOGGER.debug("Account created successfully: {}", accountDTO);
 
         LOGGER.info("Trying to create topic: create-account-by-user-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, AccountDTO> responseTopic = new ProducerRecord<>(
-                "create-account-by-user-id-response", null, convertAccountModelToDTO(account));
+                replyTopicResolver.resolve("create-account-by-user-id-response"), null, convertAccountModelToDTO(account));
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -117,7 +164,8 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "get-account-by-account-name", groupId = "account-component",
-            containerFactory = "stringKafkaListenerFactory")
+            containerFactory = "stringKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-account-by-account-name.concurrency:${kafka.listener.concurrency:1}}")
     public void getAccountByAccountName(String accountName, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-account-by-account-name with correlation id: {} ", correlationId);
 
@@ -125,7 +173,7 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
         LOGGER.info("Trying to create topic: get-account-by-account-name-response with correlation id: {} ", correlationId);
         ProducerRecord<String, AccountDTO> responseTopic = new ProducerRecord<>(
-                "get-account-by-account-name-response", null, accountDTO);
+                replyTopicResolver.resolve("get-account-by-account-name-response"), null, accountDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -133,7 +181,9 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "get-account-by-account-id", groupId = "account-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            autoStartup = "#{!${kafka.listener.get-account-by-account-id.batch:false}}",
+            concurrency = "${kafka.listener.get-account-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getAccountById(UUID accountId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-account-by-account-id with correlation id: {} ", correlationId);
 
@@ -141,15 +191,53 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
         LOGGER.info("Trying to create topic: get-account-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, AccountDTO> responseTopic = new ProducerRecord<>(
-                "get-account-by-account-id-response", null, accountDTO);
+                replyTopicResolver.resolve("get-account-by-account-id-response"), null, accountDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
+    @Override
+    @KafkaListener(topics = "get-account-by-account-id", groupId = "account-component",
+            containerFactory = "uuidBatchKafkaListenerFactory",
+            autoStartup = "${kafka.listener.get-account-by-account-id.batch:false}",
+            concurrency = "${kafka.listener.get-account-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
+    public void getAccountsByIds(List<ConsumerRecord<String, UUID>> records) {
+        LOGGER.info("Got batch of {} requests from kafka topic: get-account-by-account-id", records.size());
+        Set<UUID> accountIds = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, AccountDTO> accountsById = accountRepository.findAllById(accountIds).stream()
+                .collect(Collectors.toMap(Account::getId, this::convertAccountModelToDTO));
+        LOGGER.info("Resolved {} of {} requested Accounts with one query", accountsById.size(), accountIds.size());
+        attachCards(List.copyOf(accountsById.values()));
+
+        for (ConsumerRecord<String, UUID> record : records) {
+            String correlationId = extractCorrelationId(record);
+            if (record.value() == null || correlationId == null) {
+                LOGGER.warn("Skipping unreadable request at offset: {} of topic: get-account-by-account-id",
+                        record.offset());
+                continue;
+            }
+            AccountDTO accountDTO = accountsById.get(record.value());
+            if (accountDTO == null) {
+                LOGGER.error(ACCOUNT_NOT_FOUND_LOG, record.value());
+                globalKafkaExceptionHandler.kafkaErrorProducer(new CustomKafkaException(HttpStatus.BAD_REQUEST,
+                                "Account with such ID: " + record.value() + " was not found"), record);
+                continue;
+            }
+            ProducerRecord<String, AccountDTO> responseTopic = new ProducerRecord<>(
+                    replyTopicResolver.resolve(record.headers(), "get-account-by-account-id-response"), null, accountDTO);
+            responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
+            responseDTOKafkaTemplate.send(responseTopic);
+        }
+    }
+
     @Override
     @KafkaListener(topics = "get-all-accounts-by-user-id", groupId = "account-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-accounts-by-user-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllUserAccountsByUserId(UUID userId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-accounts-by-user-id with correlation id: {} ", correlationId);
 
@@ -160,7 +248,7 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
         LOGGER.info("Trying to create topic: get-all-accounts-by-user-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<AccountDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-accounts-by-user-id-response", null, accountDTOS);
+                replyTopicResolver.resolve("get-all-accounts-by-user-id-response"), null, accountDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -168,7 +256,8 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "get-all-accounts-by-holder-full-name", groupId = "account-component",
-            containerFactory = "stringKafkaListenerFactory")
+            containerFactory = "stringKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-accounts-by-holder-full-name.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllAccountsByHolderFullName(String accountHolderFullName, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-accounts-by-holder-full-name with correlation id: {} ", correlationId);
 
@@ -178,7 +267,7 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
         LOGGER.info("Trying to create topic: get-all-accounts-by-holder-full-name-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<AccountDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-accounts-by-holder-full-name-response", null, accountDTOS);
+                replyTopicResolver.resolve("get-all-accounts-by-holder-full-name-response"), null, accountDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -186,21 +275,23 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "get-balance-by-account-id", groupId = "account-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-balance-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getBalanceByAccountId(UUID accountId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-balance-by-account-id with correlation id: {} ", correlationId);
 
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
         BigDecimal balance = accountRepository.findAccountBalanceById(accountId)
+                .map(flushedBalance -> hotAccountLedger.effectiveBalance(accountId, flushedBalance))
                 .orElseThrow(() -> {
                     LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountId);
                     return new CustomKafkaException(HttpStatus.BAD_REQUEST,
-                            "Account with such ID: " + accountId + " was not found correlationId:" + correlationId);
+                            "Account with such ID: " + accountId + " was not found");
                 });
 
         LOGGER.info("Trying to create topic: get-balance-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, BigDecimal> responseTopic = new ProducerRecord<>(
-                "get-balance-by-account-id-response", null, balance);
+                replyTopicResolver.resolve("get-balance-by-account-id-response"), null, balance);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseBigDecimalKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -208,7 +299,8 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "get-all-accounts-by-status", groupId = "account-component",
-            containerFactory = "mapObjectToObjectKafkaListenerFactory")
+            containerFactory = "mapObjectToObjectKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-accounts-by-status.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllAccountsWithStatusByUserId(Map<String, String> userIdToAccountStatusMap, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-accounts-by-status with correlation id: {} ", correlationId);
         String userId = userIdToAccountStatusMap.keySet().iterator().next().replaceAll("\"", "");
@@ -226,7 +318,7 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
         LOGGER.info("Trying to create topic: get-all-accounts-by-status-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<AccountDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-accounts-by-status-response", null, accountDTOS);
+                replyTopicResolver.resolve("get-all-accounts-by-status-response"), null, accountDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -234,27 +326,34 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "refill-account-by-account-id", groupId = "account-component",
-            containerFactory = "refillKafkaListenerFactory")
+            containerFactory = "refillKafkaListenerFactory",
+            concurrency = "${kafka.listener.refill-account-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void refillAccount(RefillRequestDTO refillRequestDTO, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: refill-account-by-account-id with correlation id: {} ", correlationId);
 
         LOGGER.info(ACCOUNT_SEARCHING_LOG, refillRequestDTO.accountId());
-        AccountDTO accountDTO = accountRepository.findById(refillRequestDTO.accountId())
-                .map(accountEntity -> {
-                    accountEntity.setBalance(accountEntity.getBalance().add(refillRequestDTO.amount()));
-                    accountRepository.save(accountEntity);
-                    LOGGER.debug("Account was found and balance was refilled successfully: {}", accountEntity.getBalance());
-                    return convertAccountModelToDTO(accountEntity);
-                })
-                .orElseThrow(() -> {
-                    LOGGER.error(ACCOUNT_NOT_FOUND_LOG, refillRequestDTO.accountId());
-                    return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "Account with such ID: " + refillRequestDTO.accountId() + " was not found correlationId:" + correlationId);
-                });
+        AccountDTO accountDTO;
+        if (hotAccountLedger.acceptsCredit(refillRequestDTO.accountId(), refillRequestDTO.amount())) {
+            Account account = accountRepository.findById(refillRequestDTO.accountId())
+                    .orElseThrow(() -> rejectedBalanceUpdate(false, "ID", refillRequestDTO.accountId()));
+            hotAccountLedger.credit(refillRequestDTO.accountId(), refillRequestDTO.amount());
+            LOGGER.debug("Refill of hot Account was journaled for write-behind: {}", refillRequestDTO.accountId());
+            accountDTO = convertAccountModelToDTO(account);
+        } else {
+            flushIfHot(refillRequestDTO.accountId());
+            accountDTO = accountRepository.addToBalanceById(refillRequestDTO.accountId(), refillRequestDTO.amount(),
+                            AccountEntry.REFILL)
+                    .map(accountEntity -> {
+                        LOGGER.debug("Account was found and balance was refilled successfully: {}", accountEntity.getBalance());
+                        return convertAccountModelToDTO(accountEntity);
+                    })
+                    .orElseThrow(() -> rejectedBalanceUpdate(accountRepository.existsById(refillRequestDTO.accountId()),
+                            "ID", refillRequestDTO.accountId()));
+        }
 
         LOGGER.info("Trying to create topic: refill-account-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, AccountDTO> responseTopic = new ProducerRecord<>(
-                "refill-account-by-account-id-response", null, accountDTO);
+                replyTopicResolver.resolve("refill-account-by-account-id-response"), null, accountDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -262,30 +361,39 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "update-account-by-account-id", groupId = "account-component",
-            containerFactory = "updateKafkaListenerFactory")
+            containerFactory = "updateKafkaListenerFactory",
+            concurrency = "${kafka.listener.update-account-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void updateAccountById(UpdateRequestDTO updateRequestDTO, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: update-account-by-account-id with correlation id: {} ", correlationId);
 
         LOGGER.info(ACCOUNT_SEARCHING_LOG, updateRequestDTO.accountId());
-        AccountDTO responseAccountDTO = accountRepository.findById(updateRequestDTO.accountId())
-                .map(accountEntity -> {
-                    accountEntity.setAccountName(updateRequestDTO.accountDTO().getAccountName());
-                    accountEntity.setStatus(updateRequestDTO.accountDTO().getStatus());
-                    accountEntity.setAccountType(updateRequestDTO.accountDTO().getAccountType());
-                    accountEntity.setCurrency(updateRequestDTO.accountDTO().getCurrency());
-                    accountRepository.save(accountEntity);
-                    LOGGER.debug("Account updated successfully: {}", accountEntity);
-                    return convertAccountModelToDTO(accountEntity);
-                })
-                .orElseThrow(() -> {
-                    LOGGER.error(ACCOUNT_NOT_FOUND_LOG, updateRequestDTO.accountId());
-                    return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "Account with such ID: " + updateRequestDTO.accountId() + " was not found correlationId:" + correlationId);
-                });
+        AccountDTO responseAccountDTO = optimisticRetry.execute("update-account-by-account-id", () ->
+                accountRepository.findById(updateRequestDTO.accountId())
+                        .map(accountEntity -> {
+                            accountEntity.setAccountName(updateRequestDTO.accountDTO().getAccountName());
+                            accountEntity.setStatus(updateRequestDTO.accountDTO().getStatus());
+                            accountEntity.setAccountType(updateRequestDTO.accountDTO().getAccountType());
+                            accountEntity.setCurrency(updateRequestDTO.accountDTO().getCurrency());
+                            Account updatedAccount;
+                            try {
+                                updatedAccount = accountRepository.saveAndFlush(accountEntity);
+                            } catch (DataIntegrityViolationException exception) {
+                                LOGGER.error("Account with such name already exists: {}", accountEntity.getAccountName());
+                                throw new CustomKafkaException(HttpStatus.BAD_REQUEST, "Account with such name: " +
+                                        accountEntity.getAccountName() + " already exists");
+                            }
+                            LOGGER.debug("Account updated successfully: {}", updatedAccount);
+                            return convertAccountModelToDTO(updatedAccount);
+                        })
+                        .orElseThrow(() -> {
+                            LOGGER.error(ACCOUNT_NOT_FOUND_LOG, updateRequestDTO.accountId());
+                            return new CustomKafkaException(HttpStatus.NOT_FOUND,
+                                    "Account with such ID: " + updateRequestDTO.accountId() + " was not found");
+                        }));
 
         LOGGER.info("Trying to create topic: update-account-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, AccountDTO> responseTopic = new ProducerRecord<>(
-                "update-account-by-account-id-response", null, responseAccountDTO);
+                replyTopicResolver.resolve("update-account-by-account-id-response"), null, responseAccountDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -293,29 +401,31 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "update-account-status-by-account-id", groupId = "account-component",
-            containerFactory = "mapObjectToObjectKafkaListenerFactory")
+            containerFactory = "mapObjectToObjectKafkaListenerFactory",
+            concurrency = "${kafka.listener.update-account-status-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void updateAccountStatusById(Map<String, String> accountIdToStatusMap, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: update-account-status-by-account-id with correlation id: {} ", correlationId);
         String accountId = accountIdToStatusMap.keySet().iterator().next().replaceAll("\"", "");
         String accountStatus = accountIdToStatusMap.get(accountId);
 
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
-        AccountDTO accountDTO = accountRepository.findById(UUID.fromString(accountId))
-                .map(accountEntity -> {
-                    accountEntity.setStatus(accountStatus);
-                    accountRepository.save(accountEntity);
-                    LOGGER.debug("Account Status updated successfully: {}", accountEntity);
-                    return convertAccountModelToDTO(accountEntity);
-                })
-                .orElseThrow(() -> {
-                    LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountId);
-                    return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "Account with such ID: " + accountId + " was not found correlationId:" + correlationId);
-                });
+        AccountDTO accountDTO = optimisticRetry.execute("update-account-status-by-account-id", () ->
+                accountRepository.findById(UUID.fromString(accountId))
+                        .map(accountEntity -> {
+                            accountEntity.setStatus(accountStatus);
+                            Account updatedAccount = accountRepository.save(accountEntity);
+                            LOGGER.debug("Account Status updated successfully: {}", updatedAccount);
+                            return convertAccountModelToDTO(updatedAccount);
+                        })
+                        .orElseThrow(() -> {
+                            LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountId);
+                            return new CustomKafkaException(HttpStatus.NOT_FOUND,
+                                    "Account with such ID: " + accountId + " was not found");
+                        }));
 
         LOGGER.info("Trying to create topic: update-account-status-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, AccountDTO> responseTopic = new ProducerRecord<>(
-                "get-account-by-account-name-response", null, accountDTO);
+                replyTopicResolver.resolve("get-account-by-account-name-response"), null, accountDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -323,29 +433,26 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "update-account-status-by-account-id", groupId = "account-component",
-            containerFactory = "mapObjectToObjectKafkaListenerFactory")
+            containerFactory = "mapObjectToObjectKafkaListenerFactory",
+            concurrency = "${kafka.listener.update-account-status-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void updateAccountBalanceById(Map<String, BigDecimal> accountIdToNewBalanceMap, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: update-account-status-by-account-id with correlation id: {} ", correlationId);
         String accountId = accountIdToNewBalanceMap.keySet().iterator().next().replaceAll("\"", "");
         BigDecimal newBalance = accountIdToNewBalanceMap.get(accountId);
 
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
-        AccountDTO accountDTO = accountRepository.findById(UUID.fromString(accountId))
+        flushIfHot(UUID.fromString(accountId));
+        AccountDTO accountDTO = accountRepository.setBalanceById(UUID.fromString(accountId), newBalance)
                 .map(accountEntity -> {
-                    accountEntity.setBalance(newBalance);
-                    accountRepository.save(accountEntity);
                     LOGGER.debug("Account Balance updated successfully: {}", accountEntity);
                     return convertAccountModelToDTO(accountEntity);
                 })
-                .orElseThrow(() -> {
-                    LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountId);
-                    return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "Account with such ID: " + accountId + " was not found correlationId:" + correlationId);
-                });
+                .orElseThrow(() -> rejectedBalanceUpdate(accountRepository.existsById(UUID.fromString(accountId)),
+                        "ID", accountId));
 
         LOGGER.info("Trying to create topic: update-account-status-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, AccountDTO> responseTopic = new ProducerRecord<>(
-                "update-account-status-by-account-id-response", null, accountDTO);
+                replyTopicResolver.resolve("update-account-status-by-account-id-response"), null, accountDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -353,29 +460,26 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "update-account-balance-by-account-id", groupId = "account-component",
-            containerFactory = "mapObjectToObjectKafkaListenerFactory")
+            containerFactory = "mapObjectToObjectKafkaListenerFactory",
+            concurrency = "${kafka.listener.update-account-balance-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void updateAccountBalanceByAccountName(Map<String, BigDecimal> accountNameToNewBalanceMap, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: update-account-balance-by-account-id with correlation id: {} ", correlationId);
         String accountName = accountNameToNewBalanceMap.keySet().iterator().next().replaceAll("\"", "");
         BigDecimal newBalance = accountNameToNewBalanceMap.get(accountName);
 
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountName);
-        AccountDTO accountDTO = accountRepository.findByAccountName(accountName)
+        hotAccountLedger.flush();
+        AccountDTO accountDTO = accountRepository.setBalanceByAccountName(accountName, newBalance)
                 .map(accountEntity -> {
-                    accountEntity.setBalance(newBalance);
-                    accountRepository.save(accountEntity);
                     LOGGER.info("Account balance with name: {}, updated successfully: {}", accountName, accountEntity);
                     return convertAccountModelToDTO(accountEntity);
                 })
-                .orElseThrow(() -> {
-                    LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountName);
-                    return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "Account with such Name: " + accountName + " was not found correlationId:" + correlationId);
-                });
+                .orElseThrow(() -> rejectedBalanceUpdate(accountRepository.existsByAccountName(accountName),
+                        "Name", accountName));
 
         LOGGER.info("Trying to create topic: update-account-balance-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, AccountDTO> responseTopic = new ProducerRecord<>(
-                "update-account-balance-by-account-id-response", null, accountDTO);
+                replyTopicResolver.resolve("update-account-balance-by-account-id-response"), null, accountDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -383,11 +487,12 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "delete-account-by-account-id", groupId = "account-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.delete-account-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void deleteAccountByAccountId(UUID accountId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: delete-account-by-account-id with correlation id: {} ", correlationId);
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
-        accountRepository.findById(accountId)
+        optimisticRetry.execute("delete-account-by-account-id", () -> accountRepository.findById(accountId)
                 .map(accountEntity -> {
                     accountEntity.setStatus("PRE-REMOVED");
                     LOGGER.debug("Account Status was changed to - PRE-REMOVED: {}", accountEntity);
@@ -396,16 +501,16 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
                 .orElseThrow(() -> {
                     LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountId);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "Account with such ID: " + accountId + " was not found correlationId:" + correlationId);
-                });
+                            "Account with such ID: " + accountId + " was not found");
+                }));
         LOGGER.info("Account was found, Trying to find All Account Cards with Account ID: {}", accountId);
 
-        cardComponentClient.deleteAllAccountCardsByAccountId(accountId);
+        cardComponentClient.deactivateAllCardsByAccountIds(Set.of(accountId));
         LOGGER.debug("All found account Cards Status was changed to - DEACTIVATED");
 
         LOGGER.info("Trying to create topic: delete-account-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, String> responseTopic = new ProducerRecord<>(
-                "delete-account-by-account-id-response", null, "Account deleted successfully");
+                replyTopicResolver.resolve("delete-account-by-account-id-response"), null, "Account deleted successfully");
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseMessageKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -413,29 +518,31 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "delete-account-by-account-name", groupId = "account-component",
-            containerFactory = "stringKafkaListenerFactory")
+            containerFactory = "stringKafkaListenerFactory",
+            concurrency = "${kafka.listener.delete-account-by-account-name.concurrency:${kafka.listener.concurrency:1}}")
     public void deleteAccountByAccountName(String accountName, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: delete-account-by-account-name with correlation id: {} ", correlationId);
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountName);
-        Account account = accountRepository.findByAccountName(accountName)
-                .map(accountEntity -> {
-                    accountEntity.setStatus("PRE-REMOVED");
-                    LOGGER.debug("Account Status was changed to - PRE-REMOVED: {}", accountEntity);
-                    return accountRepository.save(accountEntity);
-                })
-                .orElseThrow(() -> {
-                    LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountName);
-                    return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "Account with such Account Name: " + accountName + " was not found correlationId:" + correlationId);
-                });
+        Account account = optimisticRetry.execute("delete-account-by-account-name", () ->
+                accountRepository.findByAccountName(accountName)
+                        .map(accountEntity -> {
+                            accountEntity.setStatus("PRE-REMOVED");
+                            LOGGER.debug("Account Status was changed to - PRE-REMOVED: {}", accountEntity);
+                            return accountRepository.save(accountEntity);
+                        })
+                        .orElseThrow(() -> {
+                            LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountName);
+                            return new CustomKafkaException(HttpStatus.NOT_FOUND,
+                                    "Account with such Account Name: " + accountName + " was not found");
+                        }));
 
         LOGGER.info("Account was found, Trying to find All Account Cards with Account Name: {}", accountName);
-        cardComponentClient.deleteAllAccountCardsByAccountId(account.getId());
+        cardComponentClient.deactivateAllCardsByAccountIds(Set.of(account.getId()));
         LOGGER.debug("All found account Cards Status was changed to - DEACTIVATED");
 
         LOGGER.info("Trying to create topic: delete-account-by-account-name-response with correlation id: {} ", correlationId);
         ProducerRecord<String, String> responseTopic = new ProducerRecord<>(
-                "delete-account-by-account-name-response", null, "Account deleted successfully");
+                replyTopicResolver.resolve("delete-account-by-account-name-response"), null, "Account deleted successfully");
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseMessageKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -443,49 +550,85 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
 
     @Override
     @KafkaListener(topics = "delete-all-accounts-by-user-id", groupId = "account-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.delete-all-accounts-by-user-id.concurrency:${kafka.listener.concurrency:1}}")
     public void deleteAllUserAccountsByUserId(UUID userId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: delete-all-accounts-by-user-id with correlation id: {} ", correlationId);
 
         String userName = getUserNameByUserId(userId, correlationId);
 
-        LOGGER.info("User was found successfully: {}, \nTrying to find All User Accounts", userName);
-        accountRepository.findByAccountHolderFullName(userName)
-                .forEach(accountEntity -> {
-                    accountEntity.setStatus("PRE-REMOVED");
-                    LOGGER.debug("Account was found and status it was changed to - PRE-REMOVED: {}", accountEntity);
-                    LOGGER.info("Trying to find All Account Cards with Account ID: {}", accountEntity.getId());
-                    cardComponentClient.deleteAllAccountCardsByAccountId(accountEntity.getId());
-                    LOGGER.debug("All found account Cards Status was changed to - DEACTIVATED");
-                    accountRepository.save(accountEntity);
-                });
+        LOGGER.info("User was found successfully: {}, \nTrying to mark All User Accounts as PRE-REMOVED", userName);
+        Set<UUID> removedAccountIds = Set.copyOf(accountRepository.markPreRemovedByAccountHolderFullName(userName));
+        LOGGER.debug("{} User Accounts Status was changed to - PRE-REMOVED", removedAccountIds.size());
+
+        if (!removedAccountIds.isEmpty()) {
+            LOGGER.info("Trying to deactivate All Cards of {} User Accounts", removedAccountIds.size());
+            int deactivatedCards = cardComponentClient.deactivateAllCardsByAccountIds(removedAccountIds);
+            LOGGER.debug("{} account Cards Status was changed to - DEACTIVATED", deactivatedCards);
+        }
 
         LOGGER.info("Trying to create topic: delete-all-accounts-by-user-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, String> responseTopic = new ProducerRecord<>(
-                "delete-all-accounts-by-user-id-response", null, "Accounts deleted successfully");
+                replyTopicResolver.resolve("delete-all-accounts-by-user-id-response"), null, "Accounts deleted successfully");
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseMessageKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
+    @Override
+    @KafkaListener(topics = FundsTransfer.TRANSFER_TOPIC, groupId = "account-component",
+            containerFactory = "fundsTransferBatchKafkaListenerFactory",
+            concurrency = "${kafka.listener.funds-transfers.concurrency:${kafka.listener.concurrency:1}}")
+    public void applyFundsTransfers(List<ConsumerRecord<String, FundsTransfer>> records) {
+        LOGGER.info("Got batch of {} funds transfers from kafka topic: transfer-funds", records.size());
+        List<FundsTransfer> transfers = records.stream()
+                .filter(KafkaAccountServiceImpl::isWellFormedTransfer)
+                .map(ConsumerRecord::value)
+                .toList();
+        boolean debitsHotAccount = transfers.stream()
+                .anyMatch(transfer -> hotAccountLedger.isHot(transfer.fromAccountId()));
+        if (debitsHotAccount) {
+            hotAccountLedger.flush();
+        }
+        fundsTransferApplier.apply(transfers);
+        LOGGER.info("Applied batch of {} funds transfers", transfers.size());
+    }
+
     private void validateUserExistenceByUserFullName(String fullName, String correlationId) {
         LOGGER.info(USER_SEARCHING_LOG, fullName);
-        usersComponentClient.findByFullName(fullName)
+        usersNearCache.findByFullName(fullName)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, fullName);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "User with such Full name: " + fullName + " was not found correlationId:" + correlationId);
+                            "User with such Full name: " + fullName + " was not found");
                 });
         LOGGER.debug("User existence by Full name: {} check successfully", fullName);
     }
 
+    private void flushIfHot(UUID accountId) {
+        if (hotAccountLedger.isHot(accountId)) {
+            hotAccountLedger.flush();
+        }
+    }
+
+    private CustomKafkaException rejectedBalanceUpdate(boolean accountExists, String lookupField, Object lookupValue) {
+        if (!accountExists) {
+            LOGGER.error(ACCOUNT_NOT_FOUND_LOG, lookupValue);
+            return new CustomKafkaException(HttpStatus.NOT_FOUND,
+                    "Account with such " + lookupField + ": " + lookupValue + " was not found");
+        }
+        LOGGER.error("Balance update rejected, Account balance can not become negative: {}", lookupValue);
+        return new CustomKafkaException(HttpStatus.UNPROCESSABLE_ENTITY,
+                "Balance of Account with such " + lookupField + ": " + lookupValue + " can not become negative");
+    }
+
     private String getUserNameByUserId(UUID userId, String correlationId) {
         LOGGER.info(USER_SEARCHING_LOG, userId);
-        return usersComponentClient.findFullNameById(userId)
+        return usersNearCache.findFullNameById(userId)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, userId);
                     return new CustomKafkaException(HttpStatus.BAD_REQUEST,
-                            "User with such ID: " + userId + " was not found correlationId:" + correlationId);
+                            "User with such ID: " + userId + " was not found");
                 });
     }
 
@@ -493,16 +636,13 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountName);
         return accountRepository.findByAccountName(accountName)
                 .map(accountEntity -> {
-                    AccountDTO accountDTO = convertAccountModelToDTO(accountEntity);
                     LOGGER.debug("Account was found: {}", accountEntity);
-                    LOGGER.debug("Trying to find it Cards by ID: {}", accountEntity.getId());
-                    accountDTO.setCards(cardComponentClient.findAllCardsByAccountId(accountEntity.getId()));
-                    return accountDTO;
+                    return attachCards(List.of(convertAccountModelToDTO(accountEntity))).get(0);
                 })
                 .orElseThrow(() -> {
                     LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountName);
                     return new CustomKafkaException(HttpStatus.BAD_REQUEST,
-                            "Account with such name: " + accountName + " was not found correlationId:" + correlationId);
+                            "Account with such name: " + accountName + " was not found");
                 });
     }
 
@@ -510,29 +650,38 @@ public class KafkaAccountServiceImpl implements KafkaAccountService {
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
         return accountRepository.findById(accountId)
                 .map(accountEntity -> {
-                    AccountDTO accountDTO = convertAccountModelToDTO(accountEntity);
                     LOGGER.debug("Account was found: {}", accountEntity);
-                    LOGGER.debug("Trying to find it Cards by ID: {}", accountEntity.getId());
-                    accountDTO.setCards(cardComponentClient.findAllCardsByAccountId(accountEntity.getId()));
-                    return accountDTO;
+                    return attachCards(List.of(convertAccountModelToDTO(accountEntity))).get(0);
                 })
                 .orElseThrow(() -> {
                     LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountId);
                     return new CustomKafkaException(HttpStatus.BAD_REQUEST,
-                            "Account with such ID: " + accountId + " was not found correlationId:" + correlationId);
+                            "Account with such ID: " + accountId + " was not found");
                 });
     }
 
     private List<AccountDTO> getAllUserAccountsWithCardsByFullName(String fullName) {
-        return accountRepository.findByAccountHolderFullName(fullName)
+        return attachCards(accountRepository.findByAccountHolderFullName(fullName)
                 .stream()
-                .map(accountEntity -> {
-                    AccountDTO accountDTO = convertAccountModelToDTO(accountEntity);
-                    LOGGER.debug("Account was found: {}", accountEntity);
-                    LOGGER.debug("Trying to find it Cards by ID: {}", accountEntity.getId());
-                    accountDTO.setCards(cardComponentClient.findAllCardsByAccountId(accountEntity.getId()));
-                    return accountDTO;
-                })
-                .toList();
+                .map(this::convertAccountModelToDTO)
+                .toList());
+    }
+
+    private static boolean isWellFormedTransfer(ConsumerRecord<String, FundsTransfer> record) {
+        FundsTransfer transfer = record.value();
+        boolean wellFormed = transfer != null && transfer.paymentId() != null && transfer.fromAccountId() != null
+                && transfer.toAccountId() != null && !transfer.fromAccountId().equals(transfer.toAccountId())
+                && transfer.amount() != null && transfer.amount().signum() > 0;
+        if (!wellFormed) {
+            LOGGER.error("Skipping malformed funds transfer at offset: {} of topic: {}: {}",
+                    record.offset(), record.topic(), transfer);
+        }
+        return wellFormed;
+    }
+
+    private static String extractCorrelationId(ConsumerRecord<?, ?> record) {
+        return Optional.ofNullable(record.headers().lastHeader(KafkaHeaders.CORRELATION_ID))
+                .map(header -> new String(header.value(), StandardCharsets.UTF_8))
+                .orElse(null);
     }
-}
\ No newline at end of file
+}
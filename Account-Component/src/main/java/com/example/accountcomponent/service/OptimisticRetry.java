@@ -0,0 +1,51 @@
+package com.example.accountcomponent.service;
+
+import com.example.accountcomponent.exception.CustomKafkaException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+@Component
+public class OptimisticRetry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(OptimisticRetry.class);
+
+    private final int maxAttempts;
+    private final Counter conflicts;
+    private final Counter exhausted;
+
+    public OptimisticRetry(MeterRegistry meterRegistry,
+                           @Value("${account.optimistic-retry.max-attempts:3}") int maxAttempts) {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.conflicts = Counter.builder("account.optimistic-retry.conflicts")
+                .description("Account writes that lost an optimistic version check")
+                .register(meterRegistry);
+        this.exhausted = Counter.builder("account.optimistic-retry.exhausted")
+                .description("Account writes rejected after all optimistic retries")
+                .register(meterRegistry);
+    }
+
+    public <T> T execute(String operation, Supplier<T> readModifyWrite) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return readModifyWrite.get();
+            } catch (OptimisticLockingFailureException ex) {
+                conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    LOGGER.error("Giving up {} after {} concurrent modification conflicts", operation, attempt);
+                    throw new CustomKafkaException(HttpStatus.CONFLICT,
+                            "Account was modified concurrently, please try again");
+                }
+                LOGGER.warn("Concurrent modification during {}, retrying attempt {} of {}",
+                        operation, attempt + 1, maxAttempts);
+            }
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.example.accountcomponent.service;
 import com.example.accountcomponent.dto.AccountDTO;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -18,6 +19,8 @@ public interface RestAccountService {
 
     BigDecimal getBalanceByAccountId(UUID accountId);
 
+    BigDecimal getBalanceByAccountIdAsOf(UUID accountId, LocalDateTime asOf);
+
     List<AccountDTO> getAllAccountsWithStatusByUserId(UUID userId, String accountStatus);
 
     boolean existsById(UUID accountId);
@@ -1,22 +1,28 @@
 package com.example.accountcomponent.service;
 
 import com.example.accountcomponent.dto.AccountDTO;
+import com.example.accountcomponent.dto.CardDTO;
 import com.example.accountcomponent.exception.CustomKafkaException;
 import com.example.accountcomponent.feign.CardComponentClient;
-import com.example.accountcomponent.feign.UsersComponentClient;
 import com.example.accountcomponent.model.Account;
+import com.example.accountcomponent.repository.AccountEntryRepository;
 import com.example.accountcomponent.repository.AccountRepository;
-import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class RestAccountServiceImpl implements RestAccountService {
@@ -29,15 +35,24 @@ public class RestAccountServiceImpl implements RestAccountService {
     private static final String ACCOUNTS_FOUND_LOG = "Accounts was found and received to the Controller: {}";
 
     private final AccountRepository accountRepository;
+    private final AccountEntryRepository accountEntryRepository;
     private final CardComponentClient cardComponentClient;
-    private final UsersComponentClient usersComponentClient;
+    private final CardProjection cardProjection;
+    private final HotAccountLedger hotAccountLedger;
+    private final UsersNearCache usersNearCache;
 
     public RestAccountServiceImpl(AccountRepository accountRepository,
+                                  AccountEntryRepository accountEntryRepository,
                                   @Qualifier("Card-Components") CardComponentClient cardComponentClient,
-                                  @Qualifier("Users-Components") UsersComponentClient usersComponentClient) {
+                                  CardProjection cardProjection,
+                                  HotAccountLedger hotAccountLedger,
+                                  UsersNearCache usersNearCache) {
         this.accountRepository = accountRepository;
+        this.accountEntryRepository = accountEntryRepository;
         this.cardComponentClient = cardComponentClient;
-        this.usersComponentClient = usersComponentClient;
+        this.cardProjection = cardProjection;
+        this.hotAccountLedger = hotAccountLedger;
+        this.usersNearCache = usersNearCache;
     }
 
     private AccountDTO convertAccountModelToDTO(Account account) {
@@ -47,23 +62,35 @@ public class RestAccountServiceImpl implements RestAccountService {
         accountDTO.setAccountHolderFullName(account.getAccountHolderFullName());
         accountDTO.setAccountType(account.getAccountType());
         accountDTO.setCreatedDate(account.getCreatedDate());
-        accountDTO.setBalance(account.getBalance());
+        accountDTO.setBalance(hotAccountLedger.effectiveBalance(account.getId(), account.getBalance()));
         accountDTO.setCurrency(account.getCurrency());
         accountDTO.setStatus(account.getStatus());
         return accountDTO;
     }
 
+    private List<AccountDTO> attachCards(List<AccountDTO> accountDTOS) {
+        if (accountDTOS.isEmpty()) {
+            return accountDTOS;
+        }
+        Set<UUID> accountIds = accountDTOS.stream()
+                .map(AccountDTO::getId)
+                .collect(Collectors.toSet());
+        LOGGER.debug("Trying to find Cards of {} Accounts with one request", accountIds.size());
+        Map<UUID, List<CardDTO>> cardsByAccountId = cardProjection.findCardsByAccountIds(accountIds)
+                .orElseGet(() -> cardComponentClient.findAllCardsByAccountIds(accountIds));
+        accountDTOS.forEach(accountDTO ->
+                accountDTO.setCards(cardsByAccountId.getOrDefault(accountDTO.getId(), Collections.emptyList())));
+        return accountDTOS;
+    }
+
     @Override
     @Transactional
     public AccountDTO getAccountByAccountName(String accountName) {
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountName);
         return accountRepository.findByAccountName(accountName)
                 .map(accountEntity -> {
-                    AccountDTO accountDTO = convertAccountModelToDTO(accountEntity);
                     LOGGER.debug("Account was found: {}", accountEntity);
-                    LOGGER.debug("Trying to find it Cards by ID: {}", accountEntity.getId());
-                    accountDTO.setCards(cardComponentClient.findAllCardsByAccountId(accountEntity.getId()));
-                    return accountDTO;
+                    return attachCards(List.of(convertAccountModelToDTO(accountEntity))).get(0);
                 })
                 .orElseThrow(() -> {
                     LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountName);
@@ -78,11 +105,8 @@ public class RestAccountServiceImpl implements RestAccountService {
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
         return accountRepository.findById(accountId)
                 .map(accountEntity -> {
-                    AccountDTO accountDTO = convertAccountModelToDTO(accountEntity);
                     LOGGER.debug("Account was found: {}", accountEntity);
-                    LOGGER.debug("Trying to find it Cards by ID: {}", accountEntity.getId());
-                    accountDTO.setCards(cardComponentClient.findAllCardsByAccountId(accountEntity.getId()));
-                    return accountDTO;
+                    return attachCards(List.of(convertAccountModelToDTO(accountEntity))).get(0);
                 })
                 .orElseThrow(() -> {
                     LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountId);
@@ -92,7 +116,7 @@ public class RestAccountServiceImpl implements RestAccountService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<AccountDTO> getAllUserAccountsByUserId(UUID userId) {
         String userName = getUserNameByUserId(userId);
         LOGGER.info(USER_FOUND_LOG, userName);
@@ -106,10 +130,10 @@ public class RestAccountServiceImpl implements RestAccountService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
     public List<AccountDTO> getAllAccountsByHolderFullName(String accountHolderFullName) {
         LOGGER.info(USER_SEARCHING_LOG, accountHolderFullName);
-        usersComponentClient.findByFullName(accountHolderFullName)
+        usersNearCache.findByFullName(accountHolderFullName)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, accountHolderFullName);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
@@ -129,6 +153,7 @@ public class RestAccountServiceImpl implements RestAccountService {
     public BigDecimal getBalanceByAccountId(UUID accountId) {
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
         return accountRepository.findAccountBalanceById(accountId)
+                .map(flushedBalance -> hotAccountLedger.effectiveBalance(accountId, flushedBalance))
                 .map(balance -> {
                     LOGGER.debug("Account was found and it balance: {} received to the Controller", balance);
                     return balance;
@@ -141,7 +166,21 @@ public class RestAccountServiceImpl implements RestAccountService {
     }
 
     @Override
-    @Transactional
+    @Transactional(readOnly = true)
+    public BigDecimal getBalanceByAccountIdAsOf(UUID accountId, LocalDateTime asOf) {
+        LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
+        if (!accountRepository.existsById(accountId)) {
+            LOGGER.error(ACCOUNT_NOT_FOUND_LOG, accountId);
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND,
+                    "Account with such ID: " + accountId + " was not found: ");
+        }
+        BigDecimal balance = accountEntryRepository.findBalanceAsOf(accountId, asOf);
+        LOGGER.debug("Account balance as of: {} is: {}", asOf, balance);
+        return balance;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<AccountDTO> getAllAccountsWithStatusByUserId(UUID userId, String accountStatus) {
         String userName = getUserNameByUserId(userId);
         LOGGER.info(USER_FOUND_LOG, userName);
@@ -164,7 +203,7 @@ public class RestAccountServiceImpl implements RestAccountService {
 
     private String getUserNameByUserId(UUID userId) {
         LOGGER.info(USER_SEARCHING_LOG, userId);
-        return usersComponentClient.findFullNameById(userId)
+        return usersNearCache.findFullNameById(userId)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, userId);
                     return new ResponseStatusException(HttpStatus.NOT_FOUND,
@@ -0,0 +1,61 @@
+CREATE TABLE account
+(
+    id                       uuid PRIMARY KEY,
+    account_name             varchar(255),
+    account_holder_full_name varchar(255),
+    balance                  numeric(38, 2),
+    account_type             varchar(255),
+    created_date             timestamp(6),
+    status                   varchar(255),
+    currency                 varchar(255),
+    version                  bigint NOT NULL DEFAULT 0,
+    CONSTRAINT uk_account_account_name UNIQUE (account_name)
+);
+
+CREATE INDEX idx_account_holder_full_name ON account (account_holder_full_name);
+
+CREATE TABLE account_entries
+(
+    id           bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id   uuid           NOT NULL,
+    amount       numeric(38, 2) NOT NULL,
+    entry_type   varchar(255)   NOT NULL,
+    created_date timestamp(6)   NOT NULL
+);
+
+CREATE INDEX idx_account_entries_account_id ON account_entries (account_id, id);
+
+CREATE SEQUENCE account_balance_snapshot_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE account_balance_snapshot
+(
+    id              bigint PRIMARY KEY,
+    account_id      uuid           NOT NULL,
+    balance         numeric(38, 2) NOT NULL,
+    last_entry_id   bigint         NOT NULL,
+    last_entry_date timestamp(6),
+    created_date    timestamp(6)
+);
+
+CREATE INDEX idx_account_balance_snapshot_account_id ON account_balance_snapshot (account_id, last_entry_id);
+
+CREATE TABLE account_delta_journal
+(
+    sequence     bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id   uuid           NOT NULL,
+    amount       numeric(38, 2) NOT NULL,
+    instance_id  varchar(255)   NOT NULL,
+    created_date timestamp(6)
+);
+
+CREATE INDEX idx_account_delta_journal_instance ON account_delta_journal (instance_id);
+
+CREATE TABLE processed_funds_movement
+(
+    id             varchar(255) PRIMARY KEY,
+    payment_id     uuid,
+    account_id     uuid,
+    delta          numeric(38, 2),
+    status         varchar(255),
+    processed_date timestamp(6)
+);
@@ -0,0 +1,7 @@
+CREATE TABLE account_journal_owner
+(
+    instance_id  varchar(255) PRIMARY KEY,
+    heartbeat_at timestamp(6) with time zone NOT NULL
+);
+
+CREATE INDEX idx_account_journal_owner_heartbeat ON account_journal_owner (heartbeat_at);
@@ -0,0 +1,9 @@
+CREATE TABLE account_delta_dead_letter
+(
+    sequence         bigint PRIMARY KEY,
+    account_id       uuid                        NOT NULL,
+    amount           numeric(38, 2)              NOT NULL,
+    instance_id      varchar(255)                NOT NULL,
+    created_date     timestamp(6),
+    dead_lettered_at timestamp(6) with time zone NOT NULL
+);
@@ -0,0 +1,156 @@
+package com.example.accountcomponent.repository;
+
+import com.example.accountcomponent.model.Account;
+import com.example.accountcomponent.model.AccountEntry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("stress")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AccountBalanceConcurrencyTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccountBalanceConcurrencyTest.class);
+    private static final int THREADS = 16;
+    private static final int REFILLS_PER_THREAD = 250;
+    private static final BigDecimal AMOUNT = new BigDecimal("1.00");
+    private static final BigDecimal EXPECTED_BALANCE = AMOUNT.multiply(BigDecimal.valueOf((long) THREADS * REFILLS_PER_THREAD));
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private AccountEntryRepository accountEntryRepository;
+
+    @Test
+    void atomicRefillsLoseNoUpdates() throws Exception {
+        UUID accountId = createAccount(BigDecimal.ZERO);
+
+        long elapsedNanos = runConcurrently(() -> accountRepository.addToBalanceById(accountId, AMOUNT,
+                AccountEntry.REFILL).orElseThrow());
+
+        assertThat(accountRepository.findAccountBalanceById(accountId))
+                .hasValueSatisfying(balance -> assertThat(balance).isEqualByComparingTo(EXPECTED_BALANCE));
+        assertThat(accountRepository.findById(accountId).orElseThrow().getVersion())
+                .isEqualTo((long) THREADS * REFILLS_PER_THREAD);
+        assertThat(accountEntryRepository.findBalanceAsOf(accountId, LocalDateTime.now()))
+                .isEqualByComparingTo(EXPECTED_BALANCE);
+        report("atomic UPDATE ... RETURNING", elapsedNanos, 0);
+    }
+
+    @Test
+    void versionedReadModifyWriteDetectsEveryConflict() throws Exception {
+        UUID accountId = createAccount(BigDecimal.ZERO);
+        AtomicInteger conflicts = new AtomicInteger();
+
+        long elapsedNanos = runConcurrently(() -> {
+            while (true) {
+                try {
+                    Account account = accountRepository.findById(accountId).orElseThrow();
+                    account.setBalance(account.getBalance().add(AMOUNT));
+                    return accountRepository.save(account);
+                } catch (OptimisticLockingFailureException ex) {
+                    conflicts.incrementAndGet();
+                }
+            }
+        });
+
+        assertThat(accountRepository.findAccountBalanceById(accountId))
+                .hasValueSatisfying(balance -> assertThat(balance).isEqualByComparingTo(EXPECTED_BALANCE));
+        report("@Version read-modify-write with retry", elapsedNanos, conflicts.get());
+    }
+
+    @Test
+    void balanceNeverGoesNegative() throws Exception {
+        UUID accountId = createAccount(new BigDecimal("100.00"));
+        AtomicInteger rejected = new AtomicInteger();
+
+        runConcurrently(() -> accountRepository.addToBalanceById(accountId, AMOUNT.negate(), AccountEntry.REFILL)
+                .orElseGet(() -> {
+                    rejected.incrementAndGet();
+                    return null;
+                }));
+
+        assertThat(accountRepository.findAccountBalanceById(accountId))
+                .hasValueSatisfying(balance -> assertThat(balance).isEqualByComparingTo(BigDecimal.ZERO));
+        assertThat(rejected.get()).isEqualTo(THREADS * REFILLS_PER_THREAD - 100);
+        assertThat(accountRepository.setBalanceById(accountId, new BigDecimal("-1.00"))).isEmpty();
+    }
+
+    private UUID createAccount(BigDecimal balance) {
+        Account account = new Account();
+        account.setAccountName("stress-" + UUID.randomUUID());
+        account.setAccountHolderFullName("Stress Test");
+        account.setBalance(balance);
+        account.setAccountType("DEBIT");
+        account.setCreatedDate(LocalDateTime.now());
+        account.setStatus("ACTIVE");
+        account.setCurrency("USD");
+        return accountRepository.save(account).getId();
+    }
+
+    private long runConcurrently(Callable<?> operation) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int thread = 0; thread < THREADS; thread++) {
+                workers.add(executorService.submit(() -> {
+                    startSignal.await();
+                    for (int refill = 0; refill < REFILLS_PER_THREAD; refill++) {
+                        operation.call();
+                    }
+                    return null;
+                }));
+            }
+            long startedAt = System.nanoTime();
+            startSignal.countDown();
+            for (Future<?> worker : workers) {
+                worker.get(2, TimeUnit.MINUTES);
+            }
+            return System.nanoTime() - startedAt;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static void report(String strategy, long elapsedNanos, int conflicts) {
+        int operations = THREADS * REFILLS_PER_THREAD;
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        LOGGER.info("{}: {} refills from {} threads in {} ms, {} ops/s, {} version conflicts retried",
+                strategy, operations, THREADS, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                Math.round(operations / seconds), conflicts);
+    }
+}
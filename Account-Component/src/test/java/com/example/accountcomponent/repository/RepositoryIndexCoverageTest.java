@@ -0,0 +1,118 @@
+package com.example.accountcomponent.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {"spring.cloud.config.enabled=false", "spring.jpa.hibernate.ddl-auto=validate"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RepositoryIndexCoverageTest {
+    private static final IndexedQuery ACCOUNT_BY_ID = on("account", "account_pkey", "id");
+    private static final IndexedQuery ACCOUNT_BY_NAME = on("account", "uk_account_account_name", "account_name");
+    private static final IndexedQuery ACCOUNT_BY_HOLDER = on("account", "idx_account_holder_full_name",
+            "account_holder_full_name");
+    private static final IndexedQuery ENTRIES_BY_ACCOUNT = on("account_entries", "idx_account_entries_account_id",
+            "account_id", "id");
+    private static final IndexedQuery SNAPSHOTS_BY_ACCOUNT = on("account_balance_snapshot",
+            "idx_account_balance_snapshot_account_id", "account_id", "last_entry_id");
+    private static final IndexedQuery JOURNAL_BY_INSTANCE = on("account_delta_journal",
+            "idx_account_delta_journal_instance", "instance_id");
+    private static final IndexedQuery JOURNAL_OWNER_BY_ID = on("account_journal_owner", "account_journal_owner_pkey",
+            "instance_id");
+    private static final IndexedQuery JOURNAL_OWNER_BY_HEARTBEAT = on("account_journal_owner",
+            "idx_account_journal_owner_heartbeat", "heartbeat_at");
+    private static final IndexedQuery MOVEMENT_BY_ID = on("processed_funds_movement", "processed_funds_movement_pkey",
+            "id");
+
+    private static final Map<String, List<IndexedQuery>> INDEXED_QUERIES = Map.ofEntries(
+            Map.entry("AccountRepository.findByAccountName", List.of(ACCOUNT_BY_NAME)),
+            Map.entry("AccountRepository.findByAccountHolderFullName", List.of(ACCOUNT_BY_HOLDER)),
+            Map.entry("AccountRepository.findAccountBalanceById", List.of(ACCOUNT_BY_ID)),
+            Map.entry("AccountRepository.existsById", List.of(ACCOUNT_BY_ID)),
+            Map.entry("AccountRepository.insertIfNameAbsent", List.of(ACCOUNT_BY_NAME)),
+            Map.entry("AccountRepository.addToBalanceById", List.of(ACCOUNT_BY_ID)),
+            Map.entry("AccountRepository.setBalanceById", List.of(ACCOUNT_BY_ID)),
+            Map.entry("AccountRepository.setBalanceByAccountName", List.of(ACCOUNT_BY_NAME)),
+            Map.entry("AccountRepository.existsByAccountName", List.of(ACCOUNT_BY_NAME)),
+            Map.entry("AccountRepository.markPreRemovedByAccountHolderFullName", List.of(ACCOUNT_BY_HOLDER)),
+            Map.entry("AccountEntryRepository.findBalanceAsOf", List.of(SNAPSHOTS_BY_ACCOUNT, ENTRIES_BY_ACCOUNT)),
+            Map.entry("AccountBalanceSnapshotRepository.findEntryTailsAfter",
+                    List.of(ACCOUNT_BY_ID, SNAPSHOTS_BY_ACCOUNT, ENTRIES_BY_ACCOUNT)),
+            Map.entry("AccountDeltaJournalRepository.drainByInstanceId", List.of(JOURNAL_BY_INSTANCE)),
+            Map.entry("AccountDeltaJournalRepository.drainOrphaned", List.of(JOURNAL_OWNER_BY_ID)),
+            Map.entry("AccountDeltaJournalRepository.deadLetter", List.of()),
+            Map.entry("AccountDeltaJournalRepository.registerOwner", List.of(JOURNAL_OWNER_BY_ID)),
+            Map.entry("AccountDeltaJournalRepository.renewOwnerLease", List.of(JOURNAL_OWNER_BY_ID)),
+            Map.entry("AccountDeltaJournalRepository.releaseOwner", List.of(JOURNAL_OWNER_BY_ID)),
+            Map.entry("AccountDeltaJournalRepository.expireOwners", List.of(JOURNAL_OWNER_BY_HEARTBEAT)),
+            Map.entry("ProcessedFundsMovementRepository.claim", List.of(MOVEMENT_BY_ID)),
+            Map.entry("ProcessedFundsMovementRepository.markRejected", List.of(MOVEMENT_BY_ID)));
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyRepositoryQueryIsMappedToAnIndex() {
+        List<String> unmappedQueries = Stream.of(AccountRepository.class, AccountEntryRepository.class,
+                        AccountBalanceSnapshotRepository.class, AccountDeltaJournalRepository.class,
+                        ProcessedFundsMovementRepository.class)
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isSynthetic())
+                        .map(method -> repository.getSimpleName() + "." + method.getName()))
+                .filter(query -> !INDEXED_QUERIES.containsKey(query))
+                .toList();
+
+        assertThat(unmappedQueries).as("Repository queries without an index mapping").isEmpty();
+    }
+
+    @Test
+    void everyMappedIndexLeadsWithTheQueriedColumns() {
+        INDEXED_QUERIES.forEach((query, indexedQueries) -> indexedQueries.forEach(indexedQuery ->
+                assertThat(indexColumns(indexedQuery))
+                        .as("%s should be served by index %s", query, indexedQuery.index())
+                        .startsWith(indexedQuery.leadingColumns().toArray(String[]::new))));
+    }
+
+    private List<String> indexColumns(IndexedQuery indexedQuery) {
+        return jdbcTemplate.queryForList("SELECT pg_get_indexdef(i.indexrelid, column_number, true) " +
+                        "FROM pg_index i JOIN pg_class index_class ON index_class.oid = i.indexrelid " +
+                        "CROSS JOIN generate_series(1, i.indnatts) AS column_number " +
+                        "WHERE i.indrelid = CAST(? AS regclass) AND index_class.relname = ? " +
+                        "ORDER BY column_number", String.class, indexedQuery.table(), indexedQuery.index())
+                .stream()
+                .map(RepositoryIndexCoverageTest::normalize)
+                .toList();
+    }
+
+    private static IndexedQuery on(String table, String index, String... leadingColumns) {
+        return new IndexedQuery(table, index, Arrays.stream(leadingColumns)
+                .map(RepositoryIndexCoverageTest::normalize)
+                .toList());
+    }
+
+    private static String normalize(String indexColumn) {
+        return indexColumn.replace("::text", "").replaceAll("[()\\s]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedQuery(String table, String index, List<String> leadingColumns) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.accountcomponent.repository;
+
+import com.example.kafkaschema.id.TimeOrderedUuid;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Tag("stress")
+@Testcontainers(disabledWithoutDocker = true)
+@JdbcTest(properties = "spring.cloud.config.enabled=false")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class UuidPrimaryKeyInsertBenchmarkTest {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UuidPrimaryKeyInsertBenchmarkTest.class);
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 50;
+    private static final String RANDOM_TABLE = "benchmark_random_uuid_payment";
+    private static final String TIME_ORDERED_TABLE = "benchmark_time_ordered_uuid_payment";
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createTables() {
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pgstattuple");
+        for (String table : List.of(RANDOM_TABLE, TIME_ORDERED_TABLE)) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS " + table);
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, amount numeric(38, 2), " +
+                    "from_account_id uuid, to_account_id uuid, created_date timestamp(6))");
+        }
+    }
+
+    @Test
+    void timeOrderedKeysFillIndexPagesDenserThanRandomKeys() {
+        long randomNanos = insertRows(RANDOM_TABLE, UUID::randomUUID);
+        long timeOrderedNanos = insertRows(TIME_ORDERED_TABLE, TimeOrderedUuid::next);
+
+        Map<String, Object> randomIndex = indexStats(RANDOM_TABLE);
+        Map<String, Object> timeOrderedIndex = indexStats(TIME_ORDERED_TABLE);
+        report("random UUIDv4", randomNanos, randomIndex);
+        report("time-ordered UUIDv7", timeOrderedNanos, timeOrderedIndex);
+
+        assertThat(((Number) timeOrderedIndex.get("leaf_pages")).longValue())
+                .isLessThan(((Number) randomIndex.get("leaf_pages")).longValue());
+        assertThat(((Number) timeOrderedIndex.get("avg_leaf_density")).doubleValue())
+                .isGreaterThan(((Number) randomIndex.get("avg_leaf_density")).doubleValue());
+    }
+
+    @Test
+    void timeOrderedKeysAreUniqueAndIncreasing() {
+        UUID previous = TimeOrderedUuid.next();
+        for (int generated = 0; generated < ROWS; generated++) {
+            UUID next = TimeOrderedUuid.next();
+            assertThat(next.version()).isEqualTo(7);
+            assertThat(next.variant()).isEqualTo(2);
+            assertThat(next).isGreaterThan(previous);
+            previous = next;
+        }
+    }
+
+    private long insertRows(String table, Supplier<UUID> idGenerator) {
+        String sql = "INSERT INTO " + table + " (id, amount, from_account_id, to_account_id, created_date) " +
+                "VALUES (?, ?, ?, ?, ?)";
+        UUID fromAccountId = UUID.randomUUID();
+        UUID toAccountId = UUID.randomUUID();
+        long startedAt = System.nanoTime();
+        for (int inserted = 0; inserted < ROWS; inserted += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+            for (int row = 0; row < BATCH_SIZE; row++) {
+                batch.add(new Object[]{idGenerator.get(), BigDecimal.TEN, fromAccountId, toAccountId,
+                        Timestamp.valueOf(LocalDateTime.now())});
+            }
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        return System.nanoTime() - startedAt;
+    }
+
+    private Map<String, Object> indexStats(String table) {
+        return jdbcTemplate.queryForMap("SELECT leaf_pages, avg_leaf_density, leaf_fragmentation, " +
+                "pg_relation_size(?::regclass) AS index_bytes FROM pgstatindex(?)", table + "_pkey", table + "_pkey");
+    }
+
+    private static void report(String strategy, long elapsedNanos, Map<String, Object> indexStats) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        LOGGER.info("{}: {} rows in batches of {} in {} ms, {} rows/s, primary key index: {} leaf pages, " +
+                        "{}% leaf density, {}% leaf fragmentation, {} bytes",
+                strategy, ROWS, BATCH_SIZE, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), Math.round(ROWS / seconds),
+                indexStats.get("leaf_pages"), indexStats.get("avg_leaf_density"),
+                indexStats.get("leaf_fragmentation"), indexStats.get("index_bytes"));
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.apigatewaycomponent.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+public class GatewayInstance {
+    public static final String ACCOUNT_EVENTS_GROUP_SUFFIX = "-account-events";
+    private static final Logger LOGGER = LoggerFactory.getLogger(GatewayInstance.class);
+    private static final String REPLY_TOPIC_INFIX = "-replies-";
+
+    private final String instanceId;
+    private final String replyTopicPrefix;
+    private final String replyTopic;
+
+    public GatewayInstance(@Value("${spring.application.name}") String applicationName,
+                           @Value("${gateway.kafka.instance-id:}") String configuredInstanceId) {
+        String candidate = configuredInstanceId.isBlank() ? UUID.randomUUID().toString() : configuredInstanceId;
+        this.instanceId = toTopicName(candidate);
+        this.replyTopicPrefix = toTopicName(applicationName) + REPLY_TOPIC_INFIX;
+        this.replyTopic = replyTopicPrefix + instanceId;
+        LOGGER.info("Gateway instance: {} receives replies on topic: {}", instanceId, replyTopic);
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public String getReplyTopicPrefix() {
+        return replyTopicPrefix;
+    }
+
+    public String getReplyTopic() {
+        return replyTopic;
+    }
+
+    public String getGroupId() {
+        return replyTopic;
+    }
+
+    public String getAccountEventsGroupId() {
+        return replyTopic + ACCOUNT_EVENTS_GROUP_SUFFIX;
+    }
+
+    private static String toTopicName(String value) {
+        return value.replaceAll("[^a-zA-Z0-9._-]", "-");
+    }
+}
@@ -1,6 +1,10 @@
 package com.example.apigatewaycomponent.config;
 
 import com.example.apigatewaycomponent.dto.*;
+import com.example.apigatewaycomponent.exception.GatewayReplyErrorHandler;
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import com.example.kafkaschema.serde.WireDeserializer;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,6 +12,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
@@ -19,21 +24,40 @@ import java.util.Map;
 @Configuration
 @EnableKafka
 public class KafkaConsumerConfig {
-    @Value("${spring.application.name}")
-    private String uniqueGatewayComponentGroupId;
     @Value("${spring.kafka.bootstrap-servers}")
     private String kafkaBootstrapServers;
+    @Value("${gateway.kafka.reply-routing.enabled:true}")
+    private boolean replyRoutingEnabled;
+    @Value("${gateway.cache.enabled:false}")
+    private boolean responseCacheEnabled;
+
+    private final GatewayInstance gatewayInstance;
 
     private static final String DEFAULT_ARRAYLIST_CLASS = "java.util.ArrayList";
+    private static final String REPLY_TYPE_MAPPINGS =
+            "com.example.accountcomponent.dto.AccountDTO:com.example.apigatewaycomponent.dto.AccountDTO," +
+                    "com.example.cardcomponent.dto.CardDTO:com.example.apigatewaycomponent.dto.CardDTO," +
+                    "com.example.paymentcomponent.dto.PaymentDTO:com.example.apigatewaycomponent.dto.PaymentDTO," +
+                    "com.example.userscomponent.dto.UsersDTO:com.example.apigatewaycomponent.dto.UsersDTO," +
+                    "com.example.securitycomponent.dto.AuthResponseDTO:com.example.apigatewaycomponent.dto.AuthResponseDTO," +
+                    "com.example.securitycomponent.dto.ErrorDTO:com.example.apigatewaycomponent.dto.ErrorDTO," +
+                    "com.example.userscomponent.dto.ErrorDTO:com.example.apigatewaycomponent.dto.ErrorDTO," +
+                    "com.example.accountcomponent.dto.ErrorDTO:com.example.apigatewaycomponent.dto.ErrorDTO," +
+                    "com.example.cardcomponent.dto.ErrorDTO:com.example.apigatewaycomponent.dto.ErrorDTO," +
+                    "com.example.paymentcomponent.dto.ErrorDTO:com.example.apigatewaycomponent.dto.ErrorDTO";
+
+    public KafkaConsumerConfig(GatewayInstance gatewayInstance) {
+        this.gatewayInstance = gatewayInstance;
+    }
 
     @Bean
     public ConsumerFactory<String, ErrorDTO> errorDTOConsumerFactory() {
         return new DefaultKafkaConsumerFactory<>(Map.of(
                 ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
-                ConsumerConfig.GROUP_ID_CONFIG, uniqueGatewayComponentGroupId,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.apigatewaycomponent.dto.ErrorDTO",
                 JsonDeserializer.TRUSTED_PACKAGES, "*",
                 JsonDeserializer.TYPE_MAPPINGS,
@@ -50,6 +74,7 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, ErrorDTO> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(errorDTOConsumerFactory());
+        factory.setAutoStartup(!replyRoutingEnabled);
         return factory;
     }
 
@@ -57,10 +82,10 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, UsersDTO> usersDTOConsumerFactory() {
         return new DefaultKafkaConsumerFactory<>(Map.of(
                 ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
-                ConsumerConfig.GROUP_ID_CONFIG, uniqueGatewayComponentGroupId,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.apigatewaycomponent.dto.UsersDTO",
                 JsonDeserializer.TRUSTED_PACKAGES, "*",
                 JsonDeserializer.TYPE_MAPPINGS,
@@ -73,6 +98,7 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, UsersDTO> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(usersDTOConsumerFactory());
+        factory.setAutoStartup(!replyRoutingEnabled);
         return factory;
     }
 
@@ -80,10 +106,10 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, AccountDTO> accountDTOConsumerFactory() {
         return new DefaultKafkaConsumerFactory<>(Map.of(
                 ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
-                ConsumerConfig.GROUP_ID_CONFIG, uniqueGatewayComponentGroupId,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.apigatewaycomponent.dto.AccountDTO",
                 JsonDeserializer.TRUSTED_PACKAGES, "*",
                 JsonDeserializer.TYPE_MAPPINGS,
@@ -96,6 +122,7 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, AccountDTO> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(accountDTOConsumerFactory());
+        factory.setAutoStartup(!replyRoutingEnabled);
         return factory;
     }
 
@@ -103,10 +130,10 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, List<AccountDTO>> listAccountDTOKafkaContainerFactory() {
         return new DefaultKafkaConsumerFactory<>(Map.of(
                 ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
-                ConsumerConfig.GROUP_ID_CONFIG, uniqueGatewayComponentGroupId,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, DEFAULT_ARRAYLIST_CLASS,
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -117,6 +144,7 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, List<AccountDTO>> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(listAccountDTOKafkaContainerFactory());
+        factory.setAutoStartup(!replyRoutingEnabled);
         return factory;
     }
 
@@ -124,10 +152,10 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, CardDTO> cardDTOConsumerFactory() {
         return new DefaultKafkaConsumerFactory<>(Map.of(
                 ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
-                ConsumerConfig.GROUP_ID_CONFIG, uniqueGatewayComponentGroupId,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.apigatewaycomponent.dto.CardDTO",
                 JsonDeserializer.TRUSTED_PACKAGES, "*",
                 JsonDeserializer.TYPE_MAPPINGS,
@@ -140,6 +168,7 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, CardDTO> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(cardDTOConsumerFactory());
+        factory.setAutoStartup(!replyRoutingEnabled);
         return factory;
     }
 
@@ -147,10 +176,10 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, List<CardDTO>> listCardDTOKafkaContainerFactory() {
         return new DefaultKafkaConsumerFactory<>(Map.of(
                 ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
-                ConsumerConfig.GROUP_ID_CONFIG, uniqueGatewayComponentGroupId,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, DEFAULT_ARRAYLIST_CLASS,
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -161,6 +190,7 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, List<CardDTO>> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(listCardDTOKafkaContainerFactory());
+        factory.setAutoStartup(!replyRoutingEnabled);
         return factory;
     }
 
@@ -168,10 +198,10 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, PaymentDTO> paymentDTOConsumerFactory() {
         return new DefaultKafkaConsumerFactory<>(Map.of(
                 ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
-                ConsumerConfig.GROUP_ID_CONFIG, uniqueGatewayComponentGroupId,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.apigatewaycomponent.dto.PaymentDTO",
                 JsonDeserializer.TRUSTED_PACKAGES, "*",
                 JsonDeserializer.TYPE_MAPPINGS,
@@ -184,6 +214,7 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, PaymentDTO> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(paymentDTOConsumerFactory());
+        factory.setAutoStartup(!replyRoutingEnabled);
         return factory;
     }
 
@@ -191,10 +222,10 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, List<PaymentDTO>> listPaymentDTOKafkaContainerFactory() {
         return new DefaultKafkaConsumerFactory<>(Map.of(
                 ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
-                ConsumerConfig.GROUP_ID_CONFIG, uniqueGatewayComponentGroupId,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, DEFAULT_ARRAYLIST_CLASS,
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -205,6 +236,7 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, List<PaymentDTO>> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(listPaymentDTOKafkaContainerFactory());
+        factory.setAutoStartup(!replyRoutingEnabled);
         return factory;
     }
 
@@ -212,10 +244,10 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, AuthResponseDTO> securityDTOConsumerFactory() {
         return new DefaultKafkaConsumerFactory<>(Map.of(
                 ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
-                ConsumerConfig.GROUP_ID_CONFIG, uniqueGatewayComponentGroupId,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.apigatewaycomponent.dto.AuthResponseDTO",
                 JsonDeserializer.TRUSTED_PACKAGES, "*",
                 JsonDeserializer.TYPE_MAPPINGS,
@@ -228,6 +260,7 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, AuthResponseDTO> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(securityDTOConsumerFactory());
+        factory.setAutoStartup(!replyRoutingEnabled);
         return factory;
     }
 
@@ -235,9 +268,9 @@ public class KafkaConsumerConfig {
     public ConsumerFactory<String, String> stringConsumerFactory() {
         return new DefaultKafkaConsumerFactory<>(Map.of(
                 ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
-                ConsumerConfig.GROUP_ID_CONFIG, uniqueGatewayComponentGroupId,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
-                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class.getName()
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, WireDeserializer.class.getName()
         ));
     }
 
@@ -246,6 +279,63 @@ public class KafkaConsumerConfig {
         ConcurrentKafkaListenerContainerFactory<String, String> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(stringConsumerFactory());
+        factory.setAutoStartup(!replyRoutingEnabled);
+        return factory;
+    }
+
+    @Bean
+    public NewTopic gatewayReplyTopic() {
+        return TopicBuilder.name(gatewayInstance.getReplyTopic())
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
+    @Bean
+    public ConsumerFactory<String, Object> replyConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getGroupId(),
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, "java.lang.Object",
+                JsonDeserializer.TRUSTED_PACKAGES, "*",
+                JsonDeserializer.TYPE_MAPPINGS, REPLY_TYPE_MAPPINGS
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, Object> replyKafkaListenerFactory(
+            GatewayReplyErrorHandler gatewayReplyErrorHandler) {
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(replyConsumerFactory());
+        factory.setCommonErrorHandler(gatewayReplyErrorHandler);
+        factory.setAutoStartup(replyRoutingEnabled);
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, EntityChangeEvent> accountEventConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, gatewayInstance.getAccountEventsGroupId(),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, EntityChangeEvent.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example.kafkaschema.schema"
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, EntityChangeEvent> accountEventKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, EntityChangeEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(accountEventConsumerFactory());
+        factory.setAutoStartup(responseCacheEnabled);
         return factory;
     }
-}
\ No newline at end of file
+}
@@ -6,15 +6,16 @@ import com.example.apigatewaycomponent.dto.AuthRequestDTO;
 import com.example.apigatewaycomponent.dto.PaymentDTO;
 import com.example.apigatewaycomponent.dto.AccountRefillRequestDTO;
 import com.example.apigatewaycomponent.dto.UsersDTO;
+import com.example.kafkaschema.serde.WireFormat;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -25,82 +26,118 @@ import java.util.UUID;
 public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String kafkaBootstrapServers;
+    @Value("${gateway.kafka.reply-routing.enabled:true}")
+    private boolean replyRoutingEnabled;
+
+    private final Environment environment;
+    private final GatewayInstance gatewayInstance;
+
+    public KafkaProducerConfig(Environment environment, GatewayInstance gatewayInstance) {
+        this.environment = environment;
+        this.gatewayInstance = gatewayInstance;
+    }
 
     @Bean
     public KafkaTemplate<String, UsersDTO> usersDTOKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, Map<UUID, UsersDTO>> mapUUIDToUsersDTOKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, PaymentDTO> paymentDTOKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, AuthRequestDTO> authRequestDTOKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, UUID> uuidKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, String> stringKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, Map<UUID, AccountDTO>> mapUUIDToAccountDTOKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, Map<UUID, String>> mapUUIDToStringKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, Map<UUID, BigDecimal>> mapUUIDToBigDecimalKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, Map<String, BigDecimal>> mapStringToBigDecimalKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, Map<String, String>> mapStringToStringKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, List<Object>> listObjectKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, AccountRefillRequestDTO> accountRefillKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, AccountUpdateRequestDTO> accountUpdateKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(requestProducerFactory());
+    }
+
+    @Bean
+    public ProducerFactory<String, Object> requestProducerFactory() {
+        return buildProducerFactory("request");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> KafkaTemplate<String, T> buildKafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        KafkaTemplate<String, T> kafkaTemplate =
+                new KafkaTemplate<>((ProducerFactory<String, T>) (ProducerFactory<String, ?>) producerFactory);
+        if (replyRoutingEnabled) {
+            kafkaTemplate.setProducerInterceptor(new ReplyTopicProducerInterceptor<>(gatewayInstance.getReplyTopic()));
+        }
+        return kafkaTemplate;
     }
 
-    private <T> ProducerFactory<String, T> buildProducerFactory() {
+    private ProducerFactory<String, Object> buildProducerFactory(String topicClass) {
         return new DefaultKafkaProducerFactory<>(Map.of(
                 ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
                 ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
-                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
+                WireFormat.serializerFor(environment.getProperty(WireFormat.PROPERTY, WireFormat.JSON)),
+                ProducerConfig.LINGER_MS_CONFIG, producerProperty(topicClass, "linger-ms", "5"),
+                ProducerConfig.BATCH_SIZE_CONFIG, producerProperty(topicClass, "batch-size", "32768"),
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, producerProperty(topicClass, "compression-type", "lz4"),
+                ProducerConfig.ACKS_CONFIG, producerProperty(topicClass, "acks", "all"),
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, producerProperty(topicClass, "enable-idempotence", "true")
         ));
     }
+
+    private String producerProperty(String topicClass, String name, String defaultValue) {
+        return environment.getProperty("kafka.producer." + topicClass + "." + name,
+                environment.getProperty("kafka.producer." + name, defaultValue));
+    }
 }
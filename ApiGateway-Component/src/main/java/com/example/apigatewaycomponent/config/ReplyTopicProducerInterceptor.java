@@ -0,0 +1,37 @@
+package com.example.apigatewaycomponent.config;
+
+import org.apache.kafka.clients.producer.ProducerInterceptor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+public class ReplyTopicProducerInterceptor<V> implements ProducerInterceptor<String, V> {
+    private final byte[] replyTopic;
+
+    public ReplyTopicProducerInterceptor(String replyTopic) {
+        this.replyTopic = replyTopic.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public ProducerRecord<String, V> onSend(ProducerRecord<String, V> producerRecord) {
+        if (producerRecord.headers().lastHeader(KafkaHeaders.REPLY_TOPIC) == null) {
+            producerRecord.headers().add(KafkaHeaders.REPLY_TOPIC, replyTopic);
+        }
+        return producerRecord;
+    }
+
+    @Override
+    public void onAcknowledgement(RecordMetadata metadata, Exception exception) {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.apigatewaycomponent.config;
+
+import com.example.apigatewaycomponent.service.AdaptiveTimeoutRegistry;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "routetimeouts")
+public class RouteTimeoutsEndpoint {
+    private final AdaptiveTimeoutRegistry adaptiveTimeoutRegistry;
+
+    public RouteTimeoutsEndpoint(AdaptiveTimeoutRegistry adaptiveTimeoutRegistry) {
+        this.adaptiveTimeoutRegistry = adaptiveTimeoutRegistry;
+    }
+
+    @ReadOperation
+    public Map<String, AdaptiveTimeoutRegistry.RouteTimeout> routeTimeouts() {
+        return adaptiveTimeoutRegistry.snapshot();
+    }
+}
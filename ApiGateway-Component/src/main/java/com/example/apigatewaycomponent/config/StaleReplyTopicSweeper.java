@@ -0,0 +1,81 @@
+package com.example.apigatewaycomponent.config;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Component
+public class StaleReplyTopicSweeper {
+    private static final Logger LOGGER = LoggerFactory.getLogger(StaleReplyTopicSweeper.class);
+    private static final long ADMIN_TIMEOUT_SECONDS = 30;
+
+    private final KafkaAdmin kafkaAdmin;
+    private final GatewayInstance gatewayInstance;
+    private final boolean replyRoutingEnabled;
+
+    public StaleReplyTopicSweeper(KafkaAdmin kafkaAdmin, GatewayInstance gatewayInstance,
+                                  @Value("${gateway.kafka.reply-routing.enabled:true}") boolean replyRoutingEnabled) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.gatewayInstance = gatewayInstance;
+        this.replyRoutingEnabled = replyRoutingEnabled;
+    }
+
+    @Scheduled(initialDelayString = "${gateway.kafka.reply-topic-sweep.initial-delay-ms:60000}",
+            fixedDelayString = "${gateway.kafka.reply-topic-sweep.interval-ms:3600000}")
+    public void sweep() {
+        if (!replyRoutingEnabled) {
+            return;
+        }
+        try (Admin admin = Admin.create(kafkaAdmin.getConfigurationProperties())) {
+            List<String> siblingTopics = admin.listTopics().names().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .stream()
+                    .filter(topic -> topic.startsWith(gatewayInstance.getReplyTopicPrefix()))
+                    .filter(topic -> !topic.equals(gatewayInstance.getReplyTopic()))
+                    .toList();
+            if (siblingTopics.isEmpty()) {
+                return;
+            }
+            Map<String, ConsumerGroupDescription> groups = admin.describeConsumerGroups(siblingTopics).all()
+                    .get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            List<String> staleTopics = siblingTopics.stream()
+                    .filter(topic -> groups.containsKey(topic)
+                            && groups.get(topic).state() == ConsumerGroupState.EMPTY)
+                    .toList();
+            if (staleTopics.isEmpty()) {
+                return;
+            }
+            Set<String> staleGroups = staleTopics.stream()
+                    .flatMap(topic -> Stream.of(topic, topic + GatewayInstance.ACCOUNT_EVENTS_GROUP_SUFFIX))
+                    .collect(Collectors.toSet());
+            List<String> existingStaleGroups = admin.listConsumerGroups().all()
+                    .get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .stream()
+                    .map(ConsumerGroupListing::groupId)
+                    .filter(staleGroups::contains)
+                    .toList();
+            admin.deleteTopics(staleTopics).all().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            admin.deleteConsumerGroups(existingStaleGroups).all().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            LOGGER.info("Deleted reply topics and groups of stopped gateway instances: {}", staleTopics);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException exception) {
+            LOGGER.warn("Stale reply topic sweep failed, retrying on the next run: {}", exception.getMessage());
+        }
+    }
+}
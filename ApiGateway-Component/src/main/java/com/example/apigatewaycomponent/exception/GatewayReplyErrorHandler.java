@@ -0,0 +1,39 @@
+package com.example.apigatewaycomponent.exception;
+
+import com.example.apigatewaycomponent.dto.ErrorDTO;
+import com.example.apigatewaycomponent.service.CorrelationRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.listener.CommonErrorHandler;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class GatewayReplyErrorHandler implements CommonErrorHandler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GatewayReplyErrorHandler.class);
+    private final CorrelationRegistry correlationRegistry;
+
+    public GatewayReplyErrorHandler(CorrelationRegistry correlationRegistry) {
+        this.correlationRegistry = correlationRegistry;
+    }
+
+    @Override
+    public boolean handleOne(@NonNull Exception thrownException, @NonNull ConsumerRecord<?, ?> rec,
+                             @NonNull Consumer<?, ?> consumer, @NonNull MessageListenerContainer container) {
+        LOGGER.error("Failed to process reply from topic: {} at offset: {}", rec.topic(), rec.offset(), thrownException);
+        Header correlationHeader = rec.headers().lastHeader(KafkaHeaders.CORRELATION_ID);
+        if (correlationHeader != null) {
+            correlationRegistry.completeExceptionally(new String(correlationHeader.value(), StandardCharsets.UTF_8),
+                    new ErrorDTO("Downstream service sent an unreadable reply", HttpStatus.BAD_GATEWAY.value()));
+        }
+        return true;
+    }
+}
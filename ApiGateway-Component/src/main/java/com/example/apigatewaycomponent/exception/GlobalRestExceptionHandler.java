@@ -29,6 +29,8 @@ public class GlobalRestExceptionHandler {
                 request.getRequestURI()
         );
 
-        return ResponseEntity.status(exception.getStatusCode()).body(errorResponse);
+        return ResponseEntity.status(exception.getStatusCode())
+                .headers(exception.getHeaders())
+                .body(errorResponse);
     }
 }
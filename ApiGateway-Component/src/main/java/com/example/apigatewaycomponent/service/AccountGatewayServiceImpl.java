@@ -7,14 +7,12 @@ import com.example.apigatewaycomponent.dto.AccountUpdateRequestDTO;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
@@ -23,17 +21,12 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 @Service
 public class AccountGatewayServiceImpl implements AccountGatewayService {
     private static final Logger LOGGER = LoggerFactory.getLogger(AccountGatewayServiceImpl.class);
-    private static final String CREATED_EXCEPTED_FUTURE_LOG = "Creating expected future result with correlation id: {}";
     private static final String ALLOCATED_TOPIC_LOG = "Topic was created and allocated in kafka broker successfully: {}";
-    private static final String REMOVED_EXPECTED_FUTURE_LOG = "Future expectation with correlation id: {} was removed from expectations";
     private static final String COMPLETED_EXPECTED_FUTURE_LOG = "Completing expected future response with: {}";
-    private static final long REQUEST_TIMEOUT = 5;
     private final KafkaTemplate<String, UUID> uuidKafkaTemplate;
     private final KafkaTemplate<String, String> stringKafkaTemplate;
     private final KafkaTemplate<String, AccountRefillRequestDTO> accountRefillKafkaTemplate;
@@ -42,8 +35,8 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     private final KafkaTemplate<String, Map<UUID, String>> mapUUIDToStringKafkaTemplate;
     private final KafkaTemplate<String, Map<UUID, BigDecimal>> mapUUIDToBigDecimalKafkaTemplate;
     private final KafkaTemplate<String, Map<String, BigDecimal>> mapStringToBigDecimalKafkaTemplate;
-    private final Map<String, CompletableFuture<ResponseEntity<Object>>> responseFutures = new ConcurrentHashMap<>();
-    private final Map<String, CompletableFuture<ResponseEntity<List<AccountDTO>>>> responseListFutures = new ConcurrentHashMap<>();
+    private final CorrelationRegistry correlationRegistry;
+    private final GatewayResponseCache responseCache;
 
     public AccountGatewayServiceImpl(KafkaTemplate<String, UUID> uuidKafkaTemplate,
                                      KafkaTemplate<String, String> stringKafkaTemplate,
@@ -52,7 +45,9 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
                                      KafkaTemplate<String, Map<UUID, AccountDTO>> mapUUIDToDTOKafkaTemplate,
                                      KafkaTemplate<String, Map<UUID, String>> mapUUIDToStringKafkaTemplate,
                                      KafkaTemplate<String, Map<UUID, BigDecimal>> mapUUIDToBigDecimalKafkaTemplate,
-                                     KafkaTemplate<String, Map<String, BigDecimal>> mapStringToBigDecimalKafkaTemplate) {
+                                     KafkaTemplate<String, Map<String, BigDecimal>> mapStringToBigDecimalKafkaTemplate,
+                                     CorrelationRegistry correlationRegistry,
+                                     GatewayResponseCache responseCache) {
         this.stringKafkaTemplate = stringKafkaTemplate;
         this.uuidKafkaTemplate = uuidKafkaTemplate;
         this.accountRefillKafkaTemplate = accountRefillKafkaTemplate;
@@ -61,6 +56,8 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
         this.mapUUIDToStringKafkaTemplate = mapUUIDToStringKafkaTemplate;
         this.mapUUIDToBigDecimalKafkaTemplate = mapUUIDToBigDecimalKafkaTemplate;
         this.mapStringToBigDecimalKafkaTemplate = mapStringToBigDecimalKafkaTemplate;
+        this.correlationRegistry = correlationRegistry;
+        this.responseCache = responseCache;
     }
 
     @Override
@@ -69,27 +66,22 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleAccountErrors(ErrorDTO accountErrorDTO,
                                     @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.error("Received error topic with correlation id: {} ", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureErrorResponse = responseFutures.get(correlationId);
-        LOGGER.info("Complete CompletableFuture exceptionally with message: {} ", accountErrorDTO);
-        futureErrorResponse.completeExceptionally(new ResponseStatusException(HttpStatus.valueOf(
-                accountErrorDTO.status()), accountErrorDTO.message()));
+        correlationRegistry.completeExceptionally(correlationId, accountErrorDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> createAccount(UUID userId, AccountDTO accountDTO) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: create-account-by-user-id with correlation id: {} ", correlationId);
         Map<UUID, AccountDTO> createAccountRequestMap = Map.of(userId, accountDTO);
-        ProducerRecord<String, Map<UUID, AccountDTO>> topic = new ProducerRecord<>("create-account-by-user-id",
+        ProducerRecord<String, Map<UUID, AccountDTO>> topic = new ProducerRecord<>("create-account-by-user-id", userId.toString(),
                 createAccountRequestMap);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        mapUUIDToDTOKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(mapUUIDToDTOKafkaTemplate, topic, correlationId), userId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -98,24 +90,20 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleAccountCreationResponse(AccountDTO accountDTO,
                                               @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: create-card-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
+        correlationRegistry.complete(correlationId, accountDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> getAccountByAccountName(String accountName) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-account-by-account-name with correlation id: {} ", correlationId);
-        ProducerRecord<String, String> topic = new ProducerRecord<>("get-account-by-account-name", accountName);
+        ProducerRecord<String, String> topic = new ProducerRecord<>("get-account-by-account-name", accountName, accountName);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        stringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(stringKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -124,24 +112,20 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleGetAccountByNameResponse(AccountDTO accountDTO,
                                                @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-account-by-account-name with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
+        correlationRegistry.complete(correlationId, accountDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> getAccountById(UUID accountId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-account-by-account-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-account-by-account-id", accountId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-account-by-account-id", accountId.toString(), accountId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(uuidKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -150,24 +134,20 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleGetAccountByIdResponse(AccountDTO accountDTO,
                                              @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-account-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
+        correlationRegistry.complete(correlationId, accountDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<List<Object>>> getAllUserAccountsByUserId(UUID userId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<List<AccountDTO>>> futureResponse = new CompletableFuture<>();
-        responseListFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-all-accounts-by-user-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-all-accounts-by-user-id", userId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-all-accounts-by-user-id", userId.toString(), userId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(uuidKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponsesOrTimeout(futureResponse, correlationId);
+        return awaitResponses(futureResponse);
     }
 
     @Override
@@ -176,25 +156,21 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleGetAllAccountsByIdResponse(List<AccountDTO> accountDTOS,
                                                  @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-all-accounts-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<List<AccountDTO>>> futureResponse = responseListFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTOS);
-        futureResponse.complete(ResponseEntity.ok(accountDTOS));
+        correlationRegistry.complete(correlationId, accountDTOS);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<List<Object>>> getAllAccountsByHolderFullName(String accountHolderFullName) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<List<AccountDTO>>> futureResponse = new CompletableFuture<>();
-        responseListFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-all-accounts-by-holder-full-name with correlation id: {} ", correlationId);
         ProducerRecord<String, String> topic = new ProducerRecord<>(
-                "get-all-accounts-by-holder-full-name", accountHolderFullName);
+                "get-all-accounts-by-holder-full-name", accountHolderFullName, accountHolderFullName);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        stringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(stringKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponsesOrTimeout(futureResponse, correlationId);
+        return awaitResponses(futureResponse);
     }
 
     @Override
@@ -203,24 +179,20 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleGetAllAccountsByHolderFullNameResponse(List<AccountDTO> accountDTOS,
                                                              @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-all-accounts-by-holder-full-name with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<List<AccountDTO>>> futureResponse = responseListFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTOS);
-        futureResponse.complete(ResponseEntity.ok(accountDTOS));
+        correlationRegistry.complete(correlationId, accountDTOS);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> getBalanceByAccountId(UUID accountId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-balance-by-account-id with correlation id: {}", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-balance-by-account-id", accountId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-balance-by-account-id", accountId.toString(), accountId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(uuidKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -229,25 +201,22 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleGetAccountBalanceByIdResponse(BigDecimal balance,
                                                     @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-balance-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, balance);
-        futureResponse.complete(ResponseEntity.ok(balance));
+        correlationRegistry.complete(correlationId, balance);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<List<Object>>> getAllAccountsByStatus(UUID userId, String accountStatus) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<List<AccountDTO>>> futureResponse = new CompletableFuture<>();
-        responseListFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-all-accounts-by-holder-full-name with correlation id: {}", correlationId);
         Map<UUID, String> accountRequestMap = Map.of(userId, accountStatus);
-        ProducerRecord<String, Map<UUID, String>> topic = new ProducerRecord<>("get-all-accounts-by-status", accountRequestMap);
+        ProducerRecord<String, Map<UUID, String>> topic = new ProducerRecord<>(
+                "get-all-accounts-by-status", userId.toString(), accountRequestMap);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        mapUUIDToStringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(mapUUIDToStringKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponsesOrTimeout(futureResponse, correlationId);
+        return awaitResponses(futureResponse);
     }
 
     @Override
@@ -256,25 +225,22 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleGetAllAccountsByStatusResponse(List<AccountDTO> accountDTOS,
                                                      @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-all-accounts-by-status with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<List<AccountDTO>>> futureResponse = responseListFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTOS);
-        futureResponse.complete(ResponseEntity.ok(accountDTOS));
+        correlationRegistry.complete(correlationId, accountDTOS);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> refillAccount(AccountRefillRequestDTO accountRefillRequestDTO) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: refill-account-by-account-id with correlation id: {} ", correlationId);
         ProducerRecord<String, AccountRefillRequestDTO> topic = new ProducerRecord<>(
-                "refill-account-by-account-id", accountRefillRequestDTO);
+                "refill-account-by-account-id", Objects.toString(accountRefillRequestDTO.accountId(), null), accountRefillRequestDTO);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        accountRefillKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(accountRefillKafkaTemplate, topic, correlationId));
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -283,25 +249,22 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleRefillAccountByIdResponse(AccountDTO accountDTO,
                                                 @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: refill-account-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
+        correlationRegistry.complete(correlationId, accountDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> updateAccountById(AccountUpdateRequestDTO accountUpdateRequestDTO) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: update-account-by-account-id with correlation id: {} ", correlationId);
         ProducerRecord<String, AccountUpdateRequestDTO> topic = new ProducerRecord<>(
-                "update-account-by-account-id", accountUpdateRequestDTO);
+                "update-account-by-account-id", Objects.toString(accountUpdateRequestDTO.accountId(), null), accountUpdateRequestDTO);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        accountUpdateKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(accountUpdateKafkaTemplate, topic, correlationId));
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -310,26 +273,24 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleUpdateAccountByIdResponse(AccountDTO accountDTO,
                                                 @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: update-account-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
+        correlationRegistry.complete(correlationId, accountDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> updateAccountStatusById(UUID accountId, String status) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: update-account-status-by-account-id with correlation id: {} ", correlationId);
         Map<UUID, String> createAccountRequestMap = Map.of(accountId, status);
-        ProducerRecord<String, Map<UUID, String>> topic = new ProducerRecord<>("update-account-status-by-account-id",
+        ProducerRecord<String, Map<UUID, String>> topic = new ProducerRecord<>(
+                "update-account-status-by-account-id", accountId.toString(),
                 createAccountRequestMap);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        mapUUIDToStringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(mapUUIDToStringKafkaTemplate, topic, correlationId), accountId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -338,26 +299,24 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleUpdateAccountStatusByIdResponse(AccountDTO accountDTO,
                                                       @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: update-account-status-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
+        correlationRegistry.complete(correlationId, accountDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> updateAccountBalanceById(UUID accountId, BigDecimal newBalance) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: update-account-balance-by-account-id with correlation id: {} ", correlationId);
         Map<UUID, BigDecimal> createAccountRequestMap = Map.of(accountId, newBalance);
-        ProducerRecord<String, Map<UUID, BigDecimal>> topic = new ProducerRecord<>("update-account-balance-by-account-id",
+        ProducerRecord<String, Map<UUID, BigDecimal>> topic = new ProducerRecord<>(
+                "update-account-balance-by-account-id", accountId.toString(),
                 createAccountRequestMap);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        mapUUIDToBigDecimalKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(mapUUIDToBigDecimalKafkaTemplate, topic, correlationId), accountId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -366,27 +325,25 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleUpdateAccountBalanceByIdResponse(AccountDTO accountDTO,
                                                        @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: update-account-balance-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
+        correlationRegistry.complete(correlationId, accountDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> updateAccountBalanceByAccountName(String accountName,
                                                                                        BigDecimal newBalance) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: update-account-balance-by-account-name with correlation id: {} ", correlationId);
         Map<String, BigDecimal> createAccountRequestMap = Map.of(accountName, newBalance);
-        ProducerRecord<String, Map<String, BigDecimal>> topic = new ProducerRecord<>("update-account-balance-by-account-name",
+        ProducerRecord<String, Map<String, BigDecimal>> topic = new ProducerRecord<>(
+                "update-account-balance-by-account-name", accountName,
                 createAccountRequestMap);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        mapStringToBigDecimalKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(mapStringToBigDecimalKafkaTemplate, topic, correlationId), accountName);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -395,24 +352,21 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleUpdateAccountBalanceByNameResponse(AccountDTO accountDTO,
                                                          @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: update-account-balance-by-account-name with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
+        correlationRegistry.complete(correlationId, accountDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> deleteAccountByAccountId(UUID accountId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: delete-account-by-account-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-account-by-account-id", accountId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-account-by-account-id", accountId.toString(), accountId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(uuidKafkaTemplate, topic, correlationId), accountId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -421,24 +375,21 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleDeleteAccountByIdResponse(AccountDTO accountDTO,
                                                 @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: delete-account-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
+        correlationRegistry.complete(correlationId, accountDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> deleteAccountByAccountName(String accountName) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: delete-account-by-account-name with correlation id: {}", correlationId);
-        ProducerRecord<String, String> topic = new ProducerRecord<>("delete-account-by-account-name", accountName);
+        ProducerRecord<String, String> topic = new ProducerRecord<>("delete-account-by-account-name", accountName, accountName);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        stringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(stringKafkaTemplate, topic, correlationId), accountName);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -448,24 +399,21 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
                                                   @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: delete-account-by-account-name with correlation id: {} " +
                 "was received successfully", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
+        correlationRegistry.complete(correlationId, accountDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> deleteAllAccountsByUserId(UUID userId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: delete-account-by-user-id with correlation id: {}", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-all-accounts-by-user-id", userId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-all-accounts-by-user-id", userId.toString(), userId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.clearOnSuccess(
+                correlationRegistry.sendAndReceive(uuidKafkaTemplate, topic, correlationId));
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -474,45 +422,22 @@ public class AccountGatewayServiceImpl implements AccountGatewayService {
     public void handleDeleteAllAccountByUserIdResponse(AccountDTO accountDTO,
                                                        @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: delete-all-accounts-by-user-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, accountDTO);
-        futureResponse.complete(ResponseEntity.ok(accountDTO));
-    }
-
-    private CompletableFuture<ResponseEntity<List<Object>>> awaitResponsesOrTimeout(
-            CompletableFuture<ResponseEntity<List<AccountDTO>>> futureResponse, String correlationId) {
-        return futureResponse.completeOnTimeout(null, REQUEST_TIMEOUT, TimeUnit.SECONDS)
-                .whenComplete((response, throwable) -> {
-                    LOGGER.debug(REMOVED_EXPECTED_FUTURE_LOG, correlationId);
-                    responseFutures.remove(correlationId);
-                })
-                .thenApply(response -> {
-                    if (response != null && futureResponse.isDone()) {
-                        LOGGER.info("Request successfully collapsed and received to the Controller");
-                        return ResponseEntity.ok(new ArrayList<>(Objects.requireNonNull(response.getBody())));
-                    } else {
-                        throw new ResponseStatusException(HttpStatus.REQUEST_TIMEOUT,
-                                "Request timed out, service unreachable, please try again later");
-                    }
-                });
-    }
-
-    private CompletableFuture<ResponseEntity<Object>> awaitResponseOrTimeout(
-            CompletableFuture<ResponseEntity<Object>> futureResponse, String correlationId) {
-        return futureResponse.completeOnTimeout(null, REQUEST_TIMEOUT, TimeUnit.SECONDS)
-                .whenComplete((response, throwable) -> {
-                    LOGGER.debug(REMOVED_EXPECTED_FUTURE_LOG, correlationId);
-                    responseFutures.remove(correlationId);
-                })
-                .thenApply(response -> {
-                    if (response != null && futureResponse.isDone()) {
-                        LOGGER.info("Request successfully collapsed and received to the Controller");
-                        return ResponseEntity.ok(response.getBody());
-                    } else {
-                        throw new ResponseStatusException(HttpStatus.REQUEST_TIMEOUT,
-                                "Request timed out, service unreachable, please try again later");
-                    }
-                });
+        correlationRegistry.complete(correlationId, accountDTO);
+    }
+
+    private static CompletableFuture<ResponseEntity<List<Object>>> awaitResponses(CompletableFuture<Object> futureResponse) {
+        return futureResponse.thenApply(response -> {
+            LOGGER.info("Request successfully collapsed and received to the Controller");
+            return ResponseEntity.ok(new ArrayList<Object>((List<?>) Objects.requireNonNull(response)));
+        });
+    }
+
+    private static CompletableFuture<ResponseEntity<Object>> awaitResponse(CompletableFuture<Object> futureResponse) {
+        return futureResponse.thenApply(response -> {
+            LOGGER.info("Request successfully collapsed and received to the Controller");
+            return ResponseEntity.ok(response);
+        });
     }
 
     private static String getCorrelationId() {
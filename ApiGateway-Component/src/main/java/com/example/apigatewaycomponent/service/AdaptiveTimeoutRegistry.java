@@ -0,0 +1,114 @@
+package com.example.apigatewaycomponent.service;
+
+import com.example.apigatewaycomponent.utils.LatencyHistogram;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class AdaptiveTimeoutRegistry {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdaptiveTimeoutRegistry.class);
+
+    private final Map<String, RouteLatency> routes = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long defaultTimeoutMillis;
+    private final double percentile;
+    private final double multiplier;
+    private final long floorMillis;
+    private final long ceilingMillis;
+    private final long minSamples;
+    private final long windowMillis;
+
+    public AdaptiveTimeoutRegistry(MeterRegistry meterRegistry,
+                                   @Value("${gateway.kafka.request-timeout-ms:5000}") long defaultTimeoutMillis,
+                                   @Value("${gateway.timeout.percentile:99}") double percentile,
+                                   @Value("${gateway.timeout.multiplier:1.5}") double multiplier,
+                                   @Value("${gateway.timeout.floor-ms:250}") long floorMillis,
+                                   @Value("${gateway.timeout.ceiling-ms:15000}") long ceilingMillis,
+                                   @Value("${gateway.timeout.min-samples:50}") long minSamples,
+                                   @Value("${gateway.timeout.window-ms:60000}") long windowMillis) {
+        this.meterRegistry = meterRegistry;
+        this.defaultTimeoutMillis = defaultTimeoutMillis;
+        this.percentile = percentile;
+        this.multiplier = multiplier;
+        this.floorMillis = floorMillis;
+        this.ceilingMillis = ceilingMillis;
+        this.minSamples = minSamples;
+        this.windowMillis = windowMillis;
+    }
+
+    public long timeoutFor(String route) {
+        return routes.computeIfAbsent(route, this::createRoute).timeoutMillis;
+    }
+
+    public void record(String route, long latencyMillis) {
+        routes.computeIfAbsent(route, this::createRoute).current.record(latencyMillis);
+    }
+
+    @Scheduled(fixedDelayString = "${gateway.timeout.refresh-ms:1000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        routes.forEach((route, routeLatency) -> {
+            if (now - routeLatency.windowStart >= windowMillis) {
+                routeLatency.previous = routeLatency.current;
+                routeLatency.current = new LatencyHistogram();
+                routeLatency.windowStart = now;
+            }
+            LatencyHistogram observed = routeLatency.current.merge(routeLatency.previous);
+            long timeoutMillis = observed.getTotalCount() < minSamples
+                    ? clamp(defaultTimeoutMillis)
+                    : clamp((long) Math.ceil(observed.valueAtPercentile(percentile) * multiplier));
+            if (timeoutMillis != routeLatency.timeoutMillis) {
+                LOGGER.debug("Timeout for route: {} changed from {} ms to {} ms",
+                        route, routeLatency.timeoutMillis, timeoutMillis);
+                routeLatency.timeoutMillis = timeoutMillis;
+            }
+        });
+    }
+
+    public Map<String, RouteTimeout> snapshot() {
+        Map<String, RouteTimeout> snapshot = new TreeMap<>();
+        routes.forEach((route, routeLatency) -> {
+            LatencyHistogram observed = routeLatency.current.merge(routeLatency.previous);
+            snapshot.put(route, new RouteTimeout(routeLatency.timeoutMillis, observed.getTotalCount(),
+                    observed.valueAtPercentile(50), observed.valueAtPercentile(90),
+                    observed.valueAtPercentile(99), observed.valueAtPercentile(99.9)));
+        });
+        return snapshot;
+    }
+
+    private RouteLatency createRoute(String route) {
+        RouteLatency routeLatency = new RouteLatency(clamp(defaultTimeoutMillis));
+        Gauge.builder("gateway.route.timeout", routeLatency, latency -> latency.timeoutMillis)
+                .tag("route", route)
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        return routeLatency;
+    }
+
+    private long clamp(long timeoutMillis) {
+        return Math.max(floorMillis, Math.min(ceilingMillis, timeoutMillis));
+    }
+
+    public record RouteTimeout(long timeoutMs, long samples, long p50Ms, long p90Ms, long p99Ms, long p999Ms) {
+    }
+
+    private static final class RouteLatency {
+        private volatile LatencyHistogram current = new LatencyHistogram();
+        private volatile LatencyHistogram previous = new LatencyHistogram();
+        private volatile long windowStart = System.currentTimeMillis();
+        private volatile long timeoutMillis;
+
+        private RouteLatency(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.apigatewaycomponent.service;
+
+import com.example.apigatewaycomponent.exception.ServiceOverloadedException;
+import com.example.apigatewaycomponent.utils.AimdLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Service
+public class AdmissionController {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdmissionController.class);
+    private static final Permit UNLIMITED_PERMIT = throwable -> {
+    };
+
+    private final Map<DownstreamService, AimdLimiter> limiters = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdMillis;
+    private final double readShare;
+    private final double listShare;
+    private final long retryAfterSeconds;
+
+    public AdmissionController(MeterRegistry meterRegistry,
+                               @Value("${gateway.admission.enabled:true}") boolean enabled,
+                               @Value("${gateway.admission.initial-limit:50}") int initialLimit,
+                               @Value("${gateway.admission.min-limit:5}") int minLimit,
+                               @Value("${gateway.admission.max-limit:500}") int maxLimit,
+                               @Value("${gateway.admission.backoff-ratio:0.9}") double backoffRatio,
+                               @Value("${gateway.admission.latency-threshold-ms:1000}") long latencyThresholdMillis,
+                               @Value("${gateway.admission.read-share:0.9}") double readShare,
+                               @Value("${gateway.admission.list-share:0.7}") double listShare,
+                               @Value("${gateway.admission.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdMillis = latencyThresholdMillis;
+        this.readShare = readShare;
+        this.listShare = listShare;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public Permit acquire(String topic) {
+        if (!enabled) {
+            return UNLIMITED_PERMIT;
+        }
+        DownstreamService service = DownstreamService.of(topic);
+        AimdLimiter limiter = limiters.computeIfAbsent(service, this::createLimiter);
+        RequestPriority priority = RequestPriority.of(topic);
+        if (!limiter.tryAcquire(limitShare(priority))) {
+            Counter.builder("gateway.admission.rejected")
+                    .tag("service", service.tagValue())
+                    .tag("priority", priority.name().toLowerCase())
+                    .register(meterRegistry)
+                    .increment();
+            LOGGER.warn("Rejecting {} request to topic: {}, {} service in-flight limit: {} reached",
+                    priority, topic, service.tagValue(), limiter.getLimit());
+            throw new ServiceOverloadedException("Service is overloaded, please try again later", retryAfterSeconds);
+        }
+        long startTime = System.nanoTime();
+        return throwable -> limiter.release(System.nanoTime() - startTime, isDropped(throwable));
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    private AimdLimiter createLimiter(DownstreamService service) {
+        AimdLimiter limiter = new AimdLimiter(initialLimit, minLimit, maxLimit, backoffRatio,
+                TimeUnit.MILLISECONDS.toNanos(latencyThresholdMillis));
+        Gauge.builder("gateway.admission.limit", limiter, AimdLimiter::getLimit)
+                .tag("service", service.tagValue())
+                .register(meterRegistry);
+        Gauge.builder("gateway.admission.in-flight", limiter, AimdLimiter::getInFlight)
+                .tag("service", service.tagValue())
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    private double limitShare(RequestPriority priority) {
+        return switch (priority) {
+            case WRITE -> 1.0;
+            case READ -> readShare;
+            case LIST -> listShare;
+        };
+    }
+
+    private static boolean isDropped(Throwable throwable) {
+        return throwable instanceof ResponseStatusException exception
+                && (exception.getStatusCode() == HttpStatus.REQUEST_TIMEOUT
+                || exception.getStatusCode() == HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @FunctionalInterface
+    public interface Permit {
+        void release(Throwable throwable);
+    }
+
+    enum DownstreamService {
+        SECURITY, PAYMENT, CARD, ACCOUNT, USERS, OTHER;
+
+        static DownstreamService of(String topic) {
+            if (topic.startsWith("user-authentication")) {
+                return SECURITY;
+            }
+            if (topic.contains("payment")) {
+                return PAYMENT;
+            }
+            if (topic.contains("card")) {
+                return CARD;
+            }
+            if (topic.contains("account")) {
+                return ACCOUNT;
+            }
+            return topic.contains("user") ? USERS : OTHER;
+        }
+
+        String tagValue() {
+            return name().toLowerCase();
+        }
+    }
+
+    enum RequestPriority {
+        WRITE, READ, LIST;
+
+        static RequestPriority of(String topic) {
+            if (topic.startsWith("get-all-")) {
+                return LIST;
+            }
+            return topic.startsWith("get-") ? READ : WRITE;
+        }
+    }
+}
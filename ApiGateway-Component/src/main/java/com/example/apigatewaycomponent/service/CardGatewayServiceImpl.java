@@ -5,14 +5,12 @@ import com.example.apigatewaycomponent.dto.ErrorDTO;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,30 +18,29 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 @Service
 public class CardGatewayServiceImpl implements CardGatewayService {
     private static final Logger LOGGER = LoggerFactory.getLogger(CardGatewayServiceImpl.class);
-    private static final String CREATED_EXCEPTED_FUTURE_LOG = "Creating expected future result with correlation id: {}";
     private static final String ALLOCATED_TOPIC_LOG = "Topic was created and allocated in kafka broker successfully: {}";
-    private static final String REMOVED_EXPECTED_FUTURE_LOG = "Future expectation with correlation id: {} was removed from expectations";
     private static final String COMPLETED_EXPECTED_FUTURE_LOG = "Completing expected future response with: {}";
-    private static final long REQUEST_TIMEOUT = 5;
     private final KafkaTemplate<String, UUID> uuidKafkaTemplate;
     private final KafkaTemplate<String, String> stringKafkaTemplate;
     private final KafkaTemplate<String, Map<UUID, String>> mapUUIDToStringKafkaTemplate;
     private final KafkaTemplate<String, Map<String, String>> mapStringToStringKafkaTemplate;
+    private final CorrelationRegistry correlationRegistry;
+    private final GatewayResponseCache responseCache;
 
-    private final Map<String, CompletableFuture<ResponseEntity<Object>>> responseFutures = new ConcurrentHashMap<>();
-    private final Map<String, CompletableFuture<ResponseEntity<List<CardDTO>>>> responseListFutures = new ConcurrentHashMap<>();
 
-    public CardGatewayServiceImpl(KafkaTemplate<String, UUID> uuidKafkaTemplate, KafkaTemplate<String, String> stringKafkaTemplate, KafkaTemplate<String, Map<UUID, String>> mapUUIDToStringKafkaTemplate, KafkaTemplate<String, Map<String, String>> mapStringToStringKafkaTemplate) {
+    public CardGatewayServiceImpl(KafkaTemplate<String, UUID> uuidKafkaTemplate, KafkaTemplate<String, String> stringKafkaTemplate, KafkaTemplate<String, Map<UUID, String>> mapUUIDToStringKafkaTemplate, KafkaTemplate<String, Map<String, String>> mapStringToStringKafkaTemplate,
+                                  CorrelationRegistry correlationRegistry,
+                                  GatewayResponseCache responseCache) {
         this.uuidKafkaTemplate = uuidKafkaTemplate;
         this.stringKafkaTemplate = stringKafkaTemplate;
         this.mapUUIDToStringKafkaTemplate = mapUUIDToStringKafkaTemplate;
         this.mapStringToStringKafkaTemplate = mapStringToStringKafkaTemplate;
+        this.correlationRegistry = correlationRegistry;
+        this.responseCache = responseCache;
     }
 
 
@@ -52,25 +49,20 @@ public class CardGatewayServiceImpl implements CardGatewayService {
             containerFactory = "errorDTOKafkaListenerFactory")
     public void handleCardErrors(ErrorDTO cardErrorDTO, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.error("Received error topic with correlation id: {} ", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureErrorResponse = responseFutures.get(correlationId);
-        LOGGER.info("Complete CompletableFuture exceptionally with message: {} ", cardErrorDTO);
-        futureErrorResponse.completeExceptionally(new ResponseStatusException(HttpStatus.valueOf(
-                cardErrorDTO.status()), cardErrorDTO.message()));
+        correlationRegistry.completeExceptionally(correlationId, cardErrorDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> createCard(UUID accountId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: create-card-by-account-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("create-card-by-account-id", accountId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("create-card-by-account-id", accountId.toString(), accountId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(uuidKafkaTemplate, topic, correlationId), accountId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -79,24 +71,20 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleCardCreationResponse(CardDTO cardDTO,
                                            @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: create-card-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTO);
-        futureResponse.complete(ResponseEntity.ok(cardDTO));
+        correlationRegistry.complete(correlationId, cardDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> getCardById(UUID cardId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-card-by-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-card-by-id", cardId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-card-by-id", cardId.toString(), cardId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(uuidKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -105,24 +93,20 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleGetCardByIdResponse(CardDTO cardDTO,
                                           @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-card-by-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTO);
-        futureResponse.complete(ResponseEntity.ok(cardDTO));
+        correlationRegistry.complete(correlationId, cardDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> getCardByCardNumber(String cardNumber) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-card-by-card-number with correlation id: {} ", correlationId);
-        ProducerRecord<String, String> topic = new ProducerRecord<>("get-card-by-card-number", cardNumber);
+        ProducerRecord<String, String> topic = new ProducerRecord<>("get-card-by-card-number", cardNumber, cardNumber);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        stringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(stringKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -131,25 +115,21 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleGetCardByNumberResponse(CardDTO cardDTO,
                                               @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-card-by-card-number with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTO);
-        futureResponse.complete(ResponseEntity.ok(cardDTO));
+        correlationRegistry.complete(correlationId, cardDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<List<Object>>> getCardsByCardHolderFullName(String cardHolderFullName) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = new CompletableFuture<>();
-        responseListFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-all-cards-by-holder-name with correlation id: {} ", correlationId);
         ProducerRecord<String, String> topic = new ProducerRecord<>(
-                "get-all-cards-by-holder-name", cardHolderFullName);
+                "get-all-cards-by-holder-name", cardHolderFullName, cardHolderFullName);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        stringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(stringKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponsesOrTimeout(futureResponse, correlationId);
+        return awaitResponses(futureResponse);
     }
 
     @Override
@@ -158,24 +138,20 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleGetAllCardByHolderFullNameResponse(List<CardDTO> cardDTOS,
                                                          @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-all-cards-by-holder-name with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = responseListFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTOS);
-        futureResponse.complete(ResponseEntity.ok(cardDTOS));
+        correlationRegistry.complete(correlationId, cardDTOS);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<List<Object>>> getAllAccountCardsByAccountId(UUID accountId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = new CompletableFuture<>();
-        responseListFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-all-cards-by-account-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-all-cards-by-account-id", accountId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-all-cards-by-account-id", accountId.toString(), accountId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(uuidKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponsesOrTimeout(futureResponse, correlationId);
+        return awaitResponses(futureResponse);
     }
 
     @Override
@@ -184,24 +160,20 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleGetAllCardByAccountIdResponse(List<CardDTO> cardDTOS,
                                                     @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-all-cards-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = responseListFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTOS);
-        futureResponse.complete(ResponseEntity.ok(cardDTOS));
+        correlationRegistry.complete(correlationId, cardDTOS);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<List<Object>>> getAllUserCardsByCardHolderId(UUID holderId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = new CompletableFuture<>();
-        responseListFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-all-cards-by-holder-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-all-cards-by-holder-id", holderId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-all-cards-by-holder-id", holderId.toString(), holderId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(uuidKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponsesOrTimeout(futureResponse, correlationId);
+        return awaitResponses(futureResponse);
     }
 
     @Override
@@ -210,26 +182,22 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleGetAllCardByHolderIdResponse(List<CardDTO> cardDTOS,
                                                    @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-all-cards-by-holder-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = responseListFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTOS);
-        futureResponse.complete(ResponseEntity.ok(cardDTOS));
+        correlationRegistry.complete(correlationId, cardDTOS);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<List<Object>>> getAllUserCardsByStatus(UUID holderId, String status) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = new CompletableFuture<>();
-        responseListFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-all-user-cards-by-status with correlation id: {} ", correlationId);
         Map<UUID, String> getCardsRequestMap = Map.of(holderId, status);
-        ProducerRecord<String, Map<UUID, String>> topic = new ProducerRecord<>("get-all-user-cards-by-status",
+        ProducerRecord<String, Map<UUID, String>> topic = new ProducerRecord<>("get-all-user-cards-by-status", holderId.toString(),
                 getCardsRequestMap);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        mapUUIDToStringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(mapUUIDToStringKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponsesOrTimeout(futureResponse, correlationId);
+        return awaitResponses(futureResponse);
     }
 
     @Override
@@ -238,24 +206,20 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleGetAllCardByStatusNameResponse(List<CardDTO> cardDTOS,
                                                      @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: update-card-status-by-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = responseListFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTOS);
-        futureResponse.complete(ResponseEntity.ok(cardDTOS));
+        correlationRegistry.complete(correlationId, cardDTOS);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<List<Object>>> getAllExpiredCards(UUID holderId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = new CompletableFuture<>();
-        responseListFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-all-expired-cards-by-holder-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-all-expired-cards-by-holder-id", holderId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-all-expired-cards-by-holder-id", holderId.toString(), holderId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(uuidKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponsesOrTimeout(futureResponse, correlationId);
+        return awaitResponses(futureResponse);
     }
 
     @Override
@@ -264,24 +228,20 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleGetAllExpiredCardsResponse(List<CardDTO> cardDTOS,
                                                  @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-all-expired-cards-by-holder-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = responseListFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTOS);
-        futureResponse.complete(ResponseEntity.ok(cardDTOS));
+        correlationRegistry.complete(correlationId, cardDTOS);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<List<Object>>> getAllActiveCards(UUID holderId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = new CompletableFuture<>();
-        responseListFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-all-active-cards-by-holder-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-all-active-cards-by-holder-id", holderId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-all-active-cards-by-holder-id", holderId.toString(), holderId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(uuidKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponsesOrTimeout(futureResponse, correlationId);
+        return awaitResponses(futureResponse);
     }
 
     @Override
@@ -290,26 +250,23 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleGetAllActiveCardsResponse(List<CardDTO> cardDTOS,
                                                 @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-all-active-cards-by-holder-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse = responseListFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTOS);
-        futureResponse.complete(ResponseEntity.ok(cardDTOS));
+        correlationRegistry.complete(correlationId, cardDTOS);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> updateCardStatusById(UUID cardId, String status) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: update-card-status-by-id with correlation id: {} ", correlationId);
         Map<UUID, String> updateCardRequestMap = Map.of(cardId, status);
-        ProducerRecord<String, Map<UUID, String>> topic = new ProducerRecord<>("update-card-status-by-id",
+        ProducerRecord<String, Map<UUID, String>> topic = new ProducerRecord<>("update-card-status-by-id", cardId.toString(),
                 updateCardRequestMap);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        mapUUIDToStringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(mapUUIDToStringKafkaTemplate, topic, correlationId), cardId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -318,26 +275,23 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleUpdateCardStatusByIdResponse(CardDTO cardDTO,
                                                    @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: update-card-status-by-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTO);
-        futureResponse.complete(ResponseEntity.ok(cardDTO));
+        correlationRegistry.complete(correlationId, cardDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> updateCardStatusByCardNumber(String cardNumber, String status) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: update-card-status-by-card-number with correlation id: {} ", correlationId);
         Map<String, String> updateCardRequestMap = Map.of(cardNumber, status);
-        ProducerRecord<String, Map<String, String>> topic = new ProducerRecord<>("update-card-status-by-card-number",
+        ProducerRecord<String, Map<String, String>> topic = new ProducerRecord<>("update-card-status-by-card-number", cardNumber,
                 updateCardRequestMap);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        mapStringToStringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(mapStringToStringKafkaTemplate, topic, correlationId), cardNumber);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -346,24 +300,21 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleUpdateCardStatusByNumberResponse(CardDTO cardDTO,
                                                        @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: update-card-status-by-card-number with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, cardDTO);
-        futureResponse.complete(ResponseEntity.ok(cardDTO));
+        correlationRegistry.complete(correlationId, cardDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> deleteCardById(UUID cardId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: delete-card-by-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-card-by-id", cardId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-card-by-id", cardId.toString(), cardId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(uuidKafkaTemplate, topic, correlationId), cardId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -372,24 +323,21 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleDeleteCardByCardIdResponse(CardDTO cardDTO,
                                                  @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: delete-card-by-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> responseMessage = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, responseMessage);
-        responseMessage.complete(ResponseEntity.ok(cardDTO));
+        correlationRegistry.complete(correlationId, cardDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> deleteAllAccountCardsByAccountId(UUID accountId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: delete-card-by-account-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-card-by-account-id", accountId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-card-by-account-id", accountId.toString(), accountId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(uuidKafkaTemplate, topic, correlationId), accountId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -398,24 +346,22 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleDeleteCardByAccountIdResponse(CardDTO cardDTO,
                                                     @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: delete-card-by-account-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> responseMessage = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, responseMessage);
-        responseMessage.complete(ResponseEntity.ok(cardDTO));
+        correlationRegistry.complete(correlationId, cardDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> deleteAllUsersCardsByCardHolderUUID(UUID cardHolderUUID) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: delete-card-by-holder-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-card-by-holder-id", cardHolderUUID);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>(
+                "delete-card-by-holder-id", cardHolderUUID.toString(), cardHolderUUID);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(uuidKafkaTemplate, topic, correlationId), cardHolderUUID);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -424,45 +370,22 @@ public class CardGatewayServiceImpl implements CardGatewayService {
     public void handleDeleteAllCardsByHolderIdResponse(CardDTO cardDTO,
                                                        @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: delete-card-by-holder-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> responseMessage = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, responseMessage);
-        responseMessage.complete(ResponseEntity.ok(cardDTO));
-    }
-
-    private CompletableFuture<ResponseEntity<List<Object>>> awaitResponsesOrTimeout(
-            CompletableFuture<ResponseEntity<List<CardDTO>>> futureResponse, String correlationId) {
-        return futureResponse.completeOnTimeout(null, REQUEST_TIMEOUT, TimeUnit.SECONDS)
-                .whenComplete((response, throwable) -> {
-                    LOGGER.debug(REMOVED_EXPECTED_FUTURE_LOG, correlationId);
-                    responseFutures.remove(correlationId);
-                })
-                .thenApply(response -> {
-                    if (response != null && futureResponse.isDone()) {
-                        LOGGER.info("Request successfully collapsed and received to the Controller");
-                        return ResponseEntity.ok(new ArrayList<>(Objects.requireNonNull(response.getBody())));
-                    } else {
-                        throw new ResponseStatusException(HttpStatus.REQUEST_TIMEOUT,
-                                "Request timed out, service unreachable, please try again later");
-                    }
-                });
-    }
-
-    private CompletableFuture<ResponseEntity<Object>> awaitResponseOrTimeout(
-            CompletableFuture<ResponseEntity<Object>> futureResponse, String correlationId) {
-        return futureResponse.completeOnTimeout(null, REQUEST_TIMEOUT, TimeUnit.SECONDS)
-                .whenComplete((response, throwable) -> {
-                    LOGGER.debug(REMOVED_EXPECTED_FUTURE_LOG, correlationId);
-                    responseFutures.remove(correlationId);
-                })
-                .thenApply(response -> {
-                    if (response != null && futureResponse.isDone()) {
-                        LOGGER.info("Request successfully collapsed and received to the Controller");
-                        return ResponseEntity.ok(response.getBody());
-                    } else {
-                        throw new ResponseStatusException(HttpStatus.REQUEST_TIMEOUT,
-                                "Request timed out, service unreachable, please try again later");
-                    }
-                });
+        correlationRegistry.complete(correlationId, cardDTO);
+    }
+
+    private static CompletableFuture<ResponseEntity<List<Object>>> awaitResponses(CompletableFuture<Object> futureResponse) {
+        return futureResponse.thenApply(response -> {
+            LOGGER.info("Request successfully collapsed and received to the Controller");
+            return ResponseEntity.ok(new ArrayList<Object>((List<?>) Objects.requireNonNull(response)));
+        });
+    }
+
+    private static CompletableFuture<ResponseEntity<Object>> awaitResponse(CompletableFuture<Object> futureResponse) {
+        return futureResponse.thenApply(response -> {
+            LOGGER.info("Request successfully collapsed and received to the Controller");
+            return ResponseEntity.ok(response);
+        });
     }
 
     private static String getCorrelationId() {
@@ -0,0 +1,216 @@
+package com.example.apigatewaycomponent.service;
+
+import com.example.apigatewaycomponent.dto.ErrorDTO;
+import com.example.apigatewaycomponent.exception.ServiceOverloadedException;
+import com.example.apigatewaycomponent.utils.HashedTimingWheel;
+import com.example.kafkaschema.routing.ReadYourWritesContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class CorrelationRegistry {
+    public static final String DEADLINE_HEADER = "x-request-deadline";
+    private static final Logger LOGGER = LoggerFactory.getLogger(CorrelationRegistry.class);
+    private static final String REGISTERED_FUTURE_LOG = "Creating expected future result with correlation id: {}";
+    private static final String REMOVED_EXPECTED_FUTURE_LOG = "Future expectation with correlation id: {} was removed from expectations";
+
+    private final Map<String, CompletableFuture<Object>> pendingResponses = new ConcurrentHashMap<>();
+    private final Map<String, Boolean> expiredCorrelationIds;
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final HashedTimingWheel timingWheel;
+    private final AdmissionController admissionController;
+    private final AdaptiveTimeoutRegistry adaptiveTimeoutRegistry;
+    private final int maxPendingRequests;
+
+    private final Counter expiredCounter;
+    private final Counter rejectedCounter;
+    private final Counter sendFailureCounter;
+    private final Counter lateReplyCounter;
+    private final Counter orphanedReplyCounter;
+
+    public CorrelationRegistry(MeterRegistry meterRegistry, AdmissionController admissionController,
+                               AdaptiveTimeoutRegistry adaptiveTimeoutRegistry,
+                               @Value("${gateway.kafka.correlation.max-pending:10000}") int maxPendingRequests,
+                               @Value("${gateway.kafka.correlation.tick-ms:100}") long tickMillis,
+                               @Value("${gateway.kafka.correlation.wheel-size:512}") int wheelSize) {
+        this.admissionController = admissionController;
+        this.maxPendingRequests = maxPendingRequests;
+        this.adaptiveTimeoutRegistry = adaptiveTimeoutRegistry;
+        this.timingWheel = new HashedTimingWheel("correlation-timeouts", tickMillis, TimeUnit.MILLISECONDS, wheelSize);
+        this.expiredCorrelationIds = Collections.synchronizedMap(new LinkedHashMap<String, Boolean>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > maxPendingRequests;
+            }
+        });
+
+        Gauge.builder("gateway.correlation.pending", pendingCount, AtomicInteger::get)
+                .description("Requests waiting for a Kafka reply")
+                .register(meterRegistry);
+        this.expiredCounter = Counter.builder("gateway.correlation.expired").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("gateway.correlation.rejected").register(meterRegistry);
+        this.sendFailureCounter = Counter.builder("gateway.correlation.send.failures").register(meterRegistry);
+        this.lateReplyCounter = Counter.builder("gateway.correlation.replies.late").register(meterRegistry);
+        this.orphanedReplyCounter = Counter.builder("gateway.correlation.replies.orphaned").register(meterRegistry);
+    }
+
+    public <V> CompletableFuture<Object> sendAndReceive(KafkaTemplate<String, V> kafkaTemplate,
+                                                        ProducerRecord<String, V> producerRecord,
+                                                        String correlationId) {
+        String route = producerRecord.topic();
+        AdmissionController.Permit permit = admissionController.acquire(route);
+        long timeoutMillis = adaptiveTimeoutRegistry.timeoutFor(route);
+        CompletableFuture<Object> futureResponse;
+        try {
+            futureResponse = register(correlationId, timeoutMillis);
+        } catch (RuntimeException exception) {
+            permit.release(exception);
+            throw exception;
+        }
+        long startTime = System.nanoTime();
+        futureResponse.whenComplete((response, throwable) -> {
+            permit.release(throwable);
+            recordLatency(route, startTime, timeoutMillis, throwable);
+        });
+        producerRecord.headers().remove(KafkaHeaders.CORRELATION_ID);
+        producerRecord.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes(StandardCharsets.UTF_8));
+        producerRecord.headers().add(DEADLINE_HEADER, String.valueOf(System.currentTimeMillis() + timeoutMillis)
+                .getBytes(StandardCharsets.UTF_8));
+        String sessionId = currentSessionId();
+        if (sessionId != null) {
+            producerRecord.headers().remove(ReadYourWritesContext.SESSION_HEADER);
+            producerRecord.headers().add(ReadYourWritesContext.SESSION_HEADER, sessionId.getBytes(StandardCharsets.UTF_8));
+        }
+        try {
+            kafkaTemplate.send(producerRecord).whenComplete((sendResult, throwable) -> {
+                if (throwable != null) {
+                    failOnSend(correlationId, futureResponse, throwable);
+                }
+            });
+        } catch (RuntimeException exception) {
+            failOnSend(correlationId, futureResponse, exception);
+        }
+        return futureResponse;
+    }
+
+    public boolean complete(String correlationId, Object payload) {
+        CompletableFuture<Object> futureResponse = pendingResponses.get(correlationId);
+        if (futureResponse != null && futureResponse.complete(payload)) {
+            return true;
+        }
+        reportUnexpectedReply(correlationId);
+        return false;
+    }
+
+    public boolean completeExceptionally(String correlationId, ErrorDTO errorDTO) {
+        CompletableFuture<Object> futureResponse = pendingResponses.get(correlationId);
+        if (futureResponse != null && futureResponse.completeExceptionally(
+                new ResponseStatusException(HttpStatusCode.valueOf(errorDTO.status()), errorDTO.message()))) {
+            LOGGER.info("Complete CompletableFuture exceptionally with message: {} ", errorDTO);
+            return true;
+        }
+        reportUnexpectedReply(correlationId);
+        return false;
+    }
+
+    public int size() {
+        return pendingCount.get();
+    }
+
+    private CompletableFuture<Object> register(String correlationId, long timeoutMillis) {
+        if (pendingCount.incrementAndGet() > maxPendingRequests) {
+            pendingCount.decrementAndGet();
+            rejectedCounter.increment();
+            LOGGER.warn("Pending request limit: {} reached, rejecting correlation id: {}", maxPendingRequests, correlationId);
+            throw new ServiceOverloadedException("Too many pending requests, please try again later",
+                    admissionController.getRetryAfterSeconds());
+        }
+        LOGGER.debug(REGISTERED_FUTURE_LOG, correlationId);
+        CompletableFuture<Object> futureResponse = new CompletableFuture<>();
+        pendingResponses.put(correlationId, futureResponse);
+        HashedTimingWheel.Timeout timeout = timingWheel.schedule(
+                () -> expire(correlationId, futureResponse, timeoutMillis), timeoutMillis, TimeUnit.MILLISECONDS);
+        futureResponse.whenComplete((response, throwable) -> {
+            timeout.cancel();
+            pendingResponses.remove(correlationId, futureResponse);
+            pendingCount.decrementAndGet();
+            LOGGER.debug(REMOVED_EXPECTED_FUTURE_LOG, correlationId);
+        });
+        return futureResponse;
+    }
+
+    private void expire(String correlationId, CompletableFuture<Object> futureResponse, long timeoutMillis) {
+        if (futureResponse.completeExceptionally(new ResponseStatusException(HttpStatus.REQUEST_TIMEOUT,
+                "Request timed out, service unreachable, please try again later"))) {
+            expiredCounter.increment();
+            expiredCorrelationIds.put(correlationId, Boolean.TRUE);
+            LOGGER.warn("Request with correlation id: {} expired after {} ms", correlationId, timeoutMillis);
+        }
+    }
+
+    private static String currentSessionId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+
+    private void recordLatency(String route, long startTime, long timeoutMillis, Throwable throwable) {
+        HttpStatusCode status = throwable instanceof ResponseStatusException exception ? exception.getStatusCode() : null;
+        if (status == HttpStatus.SERVICE_UNAVAILABLE) {
+            return;
+        }
+        adaptiveTimeoutRegistry.record(route, status == HttpStatus.REQUEST_TIMEOUT
+                ? timeoutMillis
+                : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    }
+
+    private void failOnSend(String correlationId, CompletableFuture<Object> futureResponse, Throwable throwable) {
+        if (futureResponse.completeExceptionally(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                "Request could not be delivered, please try again later"))) {
+            sendFailureCounter.increment();
+            LOGGER.error("Failed to send request with correlation id: {}", correlationId, throwable);
+        }
+    }
+
+    private void reportUnexpectedReply(String correlationId) {
+        if (expiredCorrelationIds.remove(correlationId) != null) {
+            lateReplyCounter.increment();
+            LOGGER.warn("Late reply received for expired correlation id: {}", correlationId);
+        } else {
+            orphanedReplyCounter.increment();
+            LOGGER.warn("Orphaned reply received for unknown correlation id: {}", correlationId);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timingWheel.close();
+    }
+}
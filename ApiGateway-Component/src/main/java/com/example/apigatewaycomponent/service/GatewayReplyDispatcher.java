@@ -0,0 +1,40 @@
+package com.example.apigatewaycomponent.service;
+
+import com.example.apigatewaycomponent.dto.ErrorDTO;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+
+@Service
+public class GatewayReplyDispatcher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GatewayReplyDispatcher.class);
+    private final CorrelationRegistry correlationRegistry;
+
+    public GatewayReplyDispatcher(CorrelationRegistry correlationRegistry) {
+        this.correlationRegistry = correlationRegistry;
+    }
+
+    @KafkaListener(topics = "#{@gatewayInstance.replyTopic}",
+            containerFactory = "replyKafkaListenerFactory")
+    public void handleReply(ConsumerRecord<String, Object> reply) {
+        Header correlationHeader = reply.headers().lastHeader(KafkaHeaders.CORRELATION_ID);
+        if (correlationHeader == null) {
+            LOGGER.warn("Reply without correlation id was skipped on topic: {}", reply.topic());
+            return;
+        }
+        String correlationId = new String(correlationHeader.value(), StandardCharsets.UTF_8);
+        LOGGER.info("Response from topic: {} with correlation id: {}", reply.topic(), correlationId);
+
+        if (reply.value() instanceof ErrorDTO errorDTO) {
+            correlationRegistry.completeExceptionally(correlationId, errorDTO);
+        } else {
+            correlationRegistry.complete(correlationId, reply.value());
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.apigatewaycomponent.service;
+
+import com.example.apigatewaycomponent.dto.AccountDTO;
+import com.example.apigatewaycomponent.dto.CardDTO;
+import com.example.apigatewaycomponent.dto.PaymentDTO;
+import com.example.apigatewaycomponent.dto.UsersDTO;
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class GatewayResponseCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger(GatewayResponseCache.class);
+    private static final String ACCOUNT_EVENTS_TOPIC = "account-events";
+
+    private final RequestCoalescer requestCoalescer;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Map<CacheKey, CacheEntry> entries;
+    private final Map<Object, Set<CacheKey>> keysByTag = new HashMap<>();
+    private long generation;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public GatewayResponseCache(RequestCoalescer requestCoalescer, MeterRegistry meterRegistry,
+                                @Value("${gateway.cache.enabled:false}") boolean enabled,
+                                @Value("${gateway.cache.max-entries:10000}") int maxEntries,
+                                @Value("${gateway.cache.ttl-ms:5000}") long ttlMillis) {
+        this.requestCoalescer = requestCoalescer;
+        this.enabled = enabled;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<CacheKey, CacheEntry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CacheEntry> eldest) {
+                if (size() > maxEntries) {
+                    untag(eldest.getKey(), eldest.getValue());
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        Gauge.builder("gateway.cache.size", this, GatewayResponseCache::size).register(meterRegistry);
+        this.hitCounter = Counter.builder("gateway.cache.hits").register(meterRegistry);
+        this.missCounter = Counter.builder("gateway.cache.misses").register(meterRegistry);
+        this.invalidationCounter = Counter.builder("gateway.cache.invalidations").register(meterRegistry);
+    }
+
+    public <V> CompletableFuture<Object> sendAndReceive(KafkaTemplate<String, V> kafkaTemplate,
+                                                        ProducerRecord<String, V> producerRecord,
+                                                        String correlationId) {
+        if (!enabled) {
+            return requestCoalescer.sendAndReceive(kafkaTemplate, producerRecord, correlationId);
+        }
+        CacheKey cacheKey = new CacheKey(producerRecord.topic(), producerRecord.value());
+        long loadGeneration;
+        synchronized (this) {
+            CacheEntry cacheEntry = entries.get(cacheKey);
+            if (cacheEntry != null && cacheEntry.expiresAt() > System.currentTimeMillis()) {
+                hitCounter.increment();
+                LOGGER.debug("Serving route: {} from gateway cache", cacheKey.route());
+                return CompletableFuture.completedFuture(cacheEntry.response());
+            }
+            loadGeneration = generation;
+        }
+        missCounter.increment();
+        return requestCoalescer.sendAndReceive(kafkaTemplate, producerRecord, correlationId)
+                .thenApply(response -> {
+                    put(cacheKey, response, loadGeneration);
+                    return response;
+                });
+    }
+
+    public CompletableFuture<Object> evictOnSuccess(CompletableFuture<Object> futureResponse, Object... entityKeys) {
+        if (!enabled) {
+            return futureResponse;
+        }
+        return futureResponse.thenApply(response -> {
+            Set<Object> tags = new HashSet<>();
+            for (Object entityKey : entityKeys) {
+                collectTags(entityKey, tags);
+            }
+            collectTags(response, tags);
+            evict(tags);
+            return response;
+        });
+    }
+
+    public CompletableFuture<Object> clearOnSuccess(CompletableFuture<Object> futureResponse) {
+        if (!enabled) {
+            return futureResponse;
+        }
+        return futureResponse.thenApply(response -> {
+            clear();
+            return response;
+        });
+    }
+
+    @KafkaListener(topics = ACCOUNT_EVENTS_TOPIC, containerFactory = "accountEventKafkaListenerFactory")
+    public void onAccountEvent(EntityChangeEvent accountEvent) {
+        LOGGER.debug("Got {} event for Account with ID: {}, evicting cached responses", accountEvent.change(),
+                accountEvent.id());
+        evict(Set.of(accountEvent.id()));
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void put(CacheKey cacheKey, Object response, long loadGeneration) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        Set<Object> tags = new HashSet<>();
+        collectTags(cacheKey.argument(), tags);
+        collectTags(response, tags);
+        CacheEntry previous = entries.put(cacheKey, new CacheEntry(response, tags, System.currentTimeMillis() + ttlMillis));
+        if (previous != null) {
+            untag(cacheKey, previous);
+        }
+        tags.forEach(tag -> keysByTag.computeIfAbsent(tag, key -> new HashSet<>()).add(cacheKey));
+    }
+
+    private synchronized void evict(Set<Object> tags) {
+        generation++;
+        for (Object tag : tags) {
+            Set<CacheKey> cacheKeys = keysByTag.remove(tag);
+            if (cacheKeys == null) {
+                continue;
+            }
+            for (CacheKey cacheKey : cacheKeys) {
+                CacheEntry cacheEntry = entries.remove(cacheKey);
+                if (cacheEntry != null) {
+                    untag(cacheKey, cacheEntry);
+                    invalidationCounter.increment();
+                }
+            }
+        }
+    }
+
+    private synchronized void clear() {
+        generation++;
+        invalidationCounter.increment(entries.size());
+        entries.clear();
+        keysByTag.clear();
+    }
+
+    private void untag(CacheKey cacheKey, CacheEntry cacheEntry) {
+        for (Object tag : cacheEntry.tags()) {
+            Set<CacheKey> cacheKeys = keysByTag.get(tag);
+            if (cacheKeys != null && cacheKeys.remove(cacheKey) && cacheKeys.isEmpty()) {
+                keysByTag.remove(tag);
+            }
+        }
+    }
+
+    private static void collectTags(Object value, Set<Object> tags) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Collection<?> collection) {
+            collection.forEach(element -> collectTags(element, tags));
+        } else if (value instanceof Map<?, ?> map) {
+            map.keySet().forEach(key -> collectTags(key, tags));
+        } else if (value instanceof AccountDTO accountDTO) {
+            addTags(tags, accountDTO.getId(), accountDTO.getAccountName(), accountDTO.getAccountHolderFullName());
+            collectTags(accountDTO.getCards(), tags);
+        } else if (value instanceof CardDTO cardDTO) {
+            addTags(tags, cardDTO.getId(), cardDTO.getAccountId(), cardDTO.getCardHolderId(), cardDTO.getCardNumber());
+        } else if (value instanceof UsersDTO usersDTO) {
+            addTags(tags, usersDTO.getId(), usersDTO.getEmail(), usersDTO.getFullName(), usersDTO.getPhoneNumber());
+        } else if (value instanceof PaymentDTO paymentDTO) {
+            addTags(tags, paymentDTO.getFromAccount(), paymentDTO.getToAccount());
+        } else if (value instanceof UUID || value instanceof String) {
+            tags.add(value);
+        }
+    }
+
+    private static void addTags(Set<Object> tags, Object... values) {
+        for (Object value : values) {
+            if (value != null) {
+                tags.add(value);
+            }
+        }
+    }
+
+    private record CacheKey(String route, Object argument) {
+    }
+
+    private record CacheEntry(Object response, Set<Object> tags, long expiresAt) {
+    }
+}
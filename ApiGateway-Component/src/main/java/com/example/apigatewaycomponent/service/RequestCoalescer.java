@@ -0,0 +1,89 @@
+package com.example.apigatewaycomponent.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+@Service
+public class RequestCoalescer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    private final Map<InFlightKey, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
+    private final CorrelationRegistry correlationRegistry;
+    private final boolean enabled;
+    private final LongAdder leaderCount = new LongAdder();
+    private final LongAdder followerCount = new LongAdder();
+
+    public RequestCoalescer(CorrelationRegistry correlationRegistry, MeterRegistry meterRegistry,
+                            @Value("${gateway.coalescing.enabled:true}") boolean enabled) {
+        this.correlationRegistry = correlationRegistry;
+        this.enabled = enabled;
+
+        FunctionCounter.builder("gateway.coalescing.leaders", leaderCount, LongAdder::sum)
+                .description("Reads sent downstream on behalf of all identical in-flight reads")
+                .register(meterRegistry);
+        FunctionCounter.builder("gateway.coalescing.followers", followerCount, LongAdder::sum)
+                .description("Reads served by an identical in-flight read")
+                .register(meterRegistry);
+        Gauge.builder("gateway.coalescing.ratio", this, RequestCoalescer::coalescingRatio)
+                .description("Share of reads that did not reach Kafka")
+                .register(meterRegistry);
+        Gauge.builder("gateway.coalescing.in-flight", inFlightRequests, Map::size).register(meterRegistry);
+    }
+
+    public <V> CompletableFuture<Object> sendAndReceive(KafkaTemplate<String, V> kafkaTemplate,
+                                                        ProducerRecord<String, V> producerRecord,
+                                                        String correlationId) {
+        if (!enabled) {
+            return correlationRegistry.sendAndReceive(kafkaTemplate, producerRecord, correlationId);
+        }
+        InFlightKey inFlightKey = new InFlightKey(producerRecord.topic(), producerRecord.value());
+        CompletableFuture<Object> sharedResponse = new CompletableFuture<>();
+        CompletableFuture<Object> inFlightResponse = inFlightRequests.putIfAbsent(inFlightKey, sharedResponse);
+        if (inFlightResponse != null) {
+            followerCount.increment();
+            LOGGER.debug("Coalescing request with correlation id: {} onto in-flight topic: {}",
+                    correlationId, inFlightKey.topic());
+            return inFlightResponse.thenApply(Function.identity());
+        }
+
+        leaderCount.increment();
+        try {
+            correlationRegistry.sendAndReceive(kafkaTemplate, producerRecord, correlationId)
+                    .whenComplete((response, throwable) -> {
+                        inFlightRequests.remove(inFlightKey, sharedResponse);
+                        if (throwable != null) {
+                            sharedResponse.completeExceptionally(throwable);
+                        } else {
+                            sharedResponse.complete(response);
+                        }
+                    });
+        } catch (RuntimeException exception) {
+            inFlightRequests.remove(inFlightKey, sharedResponse);
+            sharedResponse.completeExceptionally(exception);
+            throw exception;
+        }
+        return sharedResponse.thenApply(Function.identity());
+    }
+
+    private double coalescingRatio() {
+        long leaders = leaderCount.sum();
+        long followers = followerCount.sum();
+        return leaders + followers == 0 ? 0 : (double) followers / (leaders + followers);
+    }
+
+    private record InFlightKey(String topic, Object payload) {
+    }
+}
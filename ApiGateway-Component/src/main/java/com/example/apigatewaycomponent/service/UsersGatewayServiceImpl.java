@@ -5,7 +5,6 @@ import com.example.apigatewaycomponent.dto.UsersDTO;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -13,37 +12,35 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.server.ResponseStatusException;
 
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 @Service
 public class UsersGatewayServiceImpl implements UsersGatewayService {
     private static final Logger LOGGER = LoggerFactory.getLogger(UsersGatewayServiceImpl.class);
-    private static final String CREATED_EXCEPTED_FUTURE_LOG = "Creating expected future result with correlation id: {}";
     private static final String ALLOCATED_TOPIC_LOG = "Topic was created and allocated in kafka broker successfully: {}";
-    private static final String REMOVED_EXPECTED_FUTURE_LOG = "Future expectation with correlation id: {} was removed from expectations";
     private static final String COMPLETED_EXPECTED_FUTURE_LOG = "Completing expected future response with: {}";
-    private static final long REQUEST_TIMEOUT = 5;
     private final KafkaTemplate<String, UsersDTO> usersDTOKafkaTemplate;
     private final KafkaTemplate<String, String> stringKafkaTemplate;
     private final KafkaTemplate<String, UUID> uuidKafkaTemplate;
     private final KafkaTemplate<String, Map<UUID, UsersDTO>> mapUUIDToDTOKafkaTemplate;
     private final KafkaTemplate<String, Map<UUID, String>> mapUUIDToStringKafkaTemplate;
-    private final Map<String, CompletableFuture<ResponseEntity<Object>>> responseFutures = new ConcurrentHashMap<>();
+    private final CorrelationRegistry correlationRegistry;
+    private final GatewayResponseCache responseCache;
 
     public UsersGatewayServiceImpl(KafkaTemplate<String, UsersDTO> usersDTOKafkaTemplate, KafkaTemplate<String,
             String> stringKafkaTemplate, KafkaTemplate<String, UUID> uuidKafkaTemplate, KafkaTemplate<String,
             Map<UUID, UsersDTO>> mapUUIDToDTOKafkaTemplate, KafkaTemplate<String,
-            Map<UUID, String>> mapUUIDToStringKafkaTemplate) {
+            Map<UUID, String>> mapUUIDToStringKafkaTemplate, CorrelationRegistry correlationRegistry,
+            GatewayResponseCache responseCache) {
         this.usersDTOKafkaTemplate = usersDTOKafkaTemplate;
         this.stringKafkaTemplate = stringKafkaTemplate;
         this.uuidKafkaTemplate = uuidKafkaTemplate;
         this.mapUUIDToDTOKafkaTemplate = mapUUIDToDTOKafkaTemplate;
         this.mapUUIDToStringKafkaTemplate = mapUUIDToStringKafkaTemplate;
+        this.correlationRegistry = correlationRegistry;
+        this.responseCache = responseCache;
     }
 
     @Override
@@ -52,25 +49,21 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleUsersErrors(ErrorDTO usersErrorDTO,
                                   @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.error("Received error topic: users-error with correlation id: {} ", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureErrorResponse = responseFutures.get(correlationId);
-        LOGGER.info("Complete CompletableFuture exceptionally with message: {} ", usersErrorDTO);
-        futureErrorResponse.completeExceptionally(new ResponseStatusException(HttpStatus.valueOf(
-                usersErrorDTO.status()), usersErrorDTO.message()));
+        correlationRegistry.completeExceptionally(correlationId, usersErrorDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> createUser(@RequestBody UsersDTO usersDTO) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: create-user with correlation id: {} ", correlationId);
-        ProducerRecord<String, UsersDTO> topic = new ProducerRecord<>("create-user", usersDTO);
+        ProducerRecord<String, UsersDTO> topic = new ProducerRecord<>(
+                "create-user", Objects.toString(usersDTO.getId(), null), usersDTO);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        usersDTOKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(usersDTOKafkaTemplate, topic, correlationId));
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -79,24 +72,20 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleUserCreationResponse(UsersDTO usersDTO,
                                            @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: create-user with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, usersDTO);
-        futureResponse.complete(ResponseEntity.ok(usersDTO));
+        correlationRegistry.complete(correlationId, usersDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> getUserById(UUID userId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-user-by-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-user-by-id", userId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("get-user-by-id", userId.toString(), userId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(uuidKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -105,24 +94,20 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleGetUserByIdResponse(UsersDTO usersDTO,
                                           @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-user-by-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, usersDTO);
-        futureResponse.complete(ResponseEntity.ok(usersDTO));
+        correlationRegistry.complete(correlationId, usersDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> getUserByEmail(String userEmail) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-user-by-email with correlation id: {} ", correlationId);
-        ProducerRecord<String, String> topic = new ProducerRecord<>("get-user-by-email", userEmail);
+        ProducerRecord<String, String> topic = new ProducerRecord<>("get-user-by-email", userEmail, userEmail);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        stringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(stringKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -131,24 +116,20 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleGetUserByEmailResponse(UsersDTO usersDTO,
                                              @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-user-by-email with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, usersDTO);
-        futureResponse.complete(ResponseEntity.ok(usersDTO));
+        correlationRegistry.complete(correlationId, usersDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> getUserByFullName(String userFullName) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-user-by-full-name with correlation id: {} ", correlationId);
-        ProducerRecord<String, String> topic = new ProducerRecord<>("get-user-by-full-name", userFullName);
+        ProducerRecord<String, String> topic = new ProducerRecord<>("get-user-by-full-name", userFullName, userFullName);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        stringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(stringKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -157,24 +138,20 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleGetUserByFullNameResponse(UsersDTO usersDTO,
                                                 @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-user-by-full-name with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, usersDTO);
-        futureResponse.complete(ResponseEntity.ok(usersDTO));
+        correlationRegistry.complete(correlationId, usersDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> getUserByPhoneNumber(String userPhoneNumber) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: get-user-by-phone-number with correlation id: {} ", correlationId);
-        ProducerRecord<String, String> topic = new ProducerRecord<>("get-user-by-phone-number", userPhoneNumber);
+        ProducerRecord<String, String> topic = new ProducerRecord<>("get-user-by-phone-number", userPhoneNumber, userPhoneNumber);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        stringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.sendAndReceive(stringKafkaTemplate, topic, correlationId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -183,25 +160,23 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleGetUserByPhoneNumberResponse(UsersDTO usersDTO,
                                                    @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: get-user-by-phone-number with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, usersDTO);
-        futureResponse.complete(ResponseEntity.ok(usersDTO));
+        correlationRegistry.complete(correlationId, usersDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> updateUser(UUID userId, UsersDTO usersDTO) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: update-user-by-id with correlation id: {} ", correlationId);
         Map<UUID, UsersDTO> updateRequestMap = Map.of(userId, usersDTO);
-        ProducerRecord<String, Map<UUID, UsersDTO>> topic = new ProducerRecord<>("update-user-by-id", updateRequestMap);
+        ProducerRecord<String, Map<UUID, UsersDTO>> topic = new ProducerRecord<>(
+                "update-user-by-id", userId.toString(), updateRequestMap);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        mapUUIDToDTOKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(mapUUIDToDTOKafkaTemplate, topic, correlationId), userId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -210,26 +185,23 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleUpdateUserByIdResponse(UsersDTO usersDTO,
                                              @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: update-user-by-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, usersDTO);
-        futureResponse.complete(ResponseEntity.ok(usersDTO));
+        correlationRegistry.complete(correlationId, usersDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> updatePasswordById(UUID userId, String newPassword) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: update-user-password-by-id with correlation id: {} ", correlationId);
         Map<UUID, String> updateUserPasswordRequestMap = Map.of(userId, newPassword);
         ProducerRecord<String, Map<UUID, String>> topic = new ProducerRecord<>(
-                "update-user-password-by-id", updateUserPasswordRequestMap);
+                "update-user-password-by-id", userId.toString(), updateUserPasswordRequestMap);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        mapUUIDToStringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.evictOnSuccess(
+                correlationRegistry.sendAndReceive(mapUUIDToStringKafkaTemplate, topic, correlationId), userId);
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -238,24 +210,21 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleUpdateUserPasswordByIdResponse(UsersDTO usersDTO,
                                                      @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: update-user-password-by-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, usersDTO);
-        futureResponse.complete(ResponseEntity.ok(usersDTO));
+        correlationRegistry.complete(correlationId, usersDTO);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> deleteUserById(UUID userId) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: delete-user-by-id with correlation id: {} ", correlationId);
-        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-user-by-id", userId);
+        ProducerRecord<String, UUID> topic = new ProducerRecord<>("delete-user-by-id", userId.toString(), userId);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        uuidKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.clearOnSuccess(
+                correlationRegistry.sendAndReceive(uuidKafkaTemplate, topic, correlationId));
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -264,25 +233,22 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleDeleteUserByIdResponse(String responseMessage,
                                              @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: delete-user-by-id with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, responseMessage);
-        futureResponse.complete(ResponseEntity.ok(responseMessage));
+        correlationRegistry.complete(correlationId, responseMessage);
     }
 
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> deleteUserByEmail(String userEmail) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: delete-user-by-email with correlation id: {} ", correlationId);
-        ProducerRecord<String, String> topic = new ProducerRecord<>("delete-user-by-email", userEmail);
+        ProducerRecord<String, String> topic = new ProducerRecord<>("delete-user-by-email", userEmail, userEmail);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        stringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.clearOnSuccess(
+                correlationRegistry.sendAndReceive(stringKafkaTemplate, topic, correlationId));
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -291,24 +257,21 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleDeleteUserByEmailResponse(String responseMessage,
                                                 @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: delete-user-by-email with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, responseMessage);
-        futureResponse.complete(ResponseEntity.ok(responseMessage));
+        correlationRegistry.complete(correlationId, responseMessage);
     }
 
     @Override
     public CompletableFuture<ResponseEntity<Object>> deleteUserByFullName(String userFullName) {
         String correlationId = getCorrelationId();
-        LOGGER.debug(CREATED_EXCEPTED_FUTURE_LOG, correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = new CompletableFuture<>();
-        responseFutures.put(correlationId, futureResponse);
 
         LOGGER.info("Trying to create topic: delete-user-by-full-name with correlation id: {} ", correlationId);
-        ProducerRecord<String, String> topic = new ProducerRecord<>("delete-user-by-full-name", userFullName);
+        ProducerRecord<String, String> topic = new ProducerRecord<>("delete-user-by-full-name", userFullName, userFullName);
         topic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        stringKafkaTemplate.send(topic);
+        CompletableFuture<Object> futureResponse = responseCache.clearOnSuccess(
+                correlationRegistry.sendAndReceive(stringKafkaTemplate, topic, correlationId));
         LOGGER.info(ALLOCATED_TOPIC_LOG, topic.value());
-        return awaitResponseOrTimeout(futureResponse, correlationId);
+        return awaitResponse(futureResponse);
     }
 
     @Override
@@ -317,27 +280,15 @@ public class UsersGatewayServiceImpl implements UsersGatewayService {
     public void handleDeleteUserByFullNameResponse(String responseMessage,
                                                    @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Response from topic: delete-user-by-full-name with correlation id: {}", correlationId);
-        CompletableFuture<ResponseEntity<Object>> futureResponse = responseFutures.get(correlationId);
         LOGGER.info(COMPLETED_EXPECTED_FUTURE_LOG, responseMessage);
-        futureResponse.complete(ResponseEntity.ok(responseMessage));
+        correlationRegistry.complete(correlationId, responseMessage);
     }
 
-    private CompletableFuture<ResponseEntity<Object>> awaitResponseOrTimeout(
-            CompletableFuture<ResponseEntity<Object>> futureResponse, String correlationId) {
-        return futureResponse.completeOnTimeout(null, REQUEST_TIMEOUT, TimeUnit.SECONDS)
-                .whenComplete((response, throwable) -> {
-                    LOGGER.debug(REMOVED_EXPECTED_FUTURE_LOG, correlationId);
-                    responseFutures.remove(correlationId);
-                })
-                .thenApply(response -> {
-                    if (response != null && futureResponse.isDone()) {
-                        LOGGER.info("Request successfully collapsed and received to the Controller");
-                        return ResponseEntity.ok(response.getBody());
-                    } else {
-                        throw new ResponseStatusException(HttpStatus.REQUEST_TIMEOUT,
-                                "Request timed out, service unreachable, please try again later");
-                    }
-                });
+    private static CompletableFuture<ResponseEntity<Object>> awaitResponse(CompletableFuture<Object> futureResponse) {
+        return futureResponse.thenApply(response -> {
+            LOGGER.info("Request successfully collapsed and received to the Controller");
+            return ResponseEntity.ok(response);
+        });
     }
 
     private static String getCorrelationId() {
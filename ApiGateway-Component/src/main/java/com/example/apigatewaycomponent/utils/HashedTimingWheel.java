@@ -0,0 +1,131 @@
+package com.example.apigatewaycomponent.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HashedTimingWheel implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HashedTimingWheel.class);
+
+    private final long tickNanos;
+    private final int mask;
+    private final long startTime;
+    private final List<ArrayDeque<Timeout>> buckets;
+    private final Queue<Timeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService worker;
+    private long tick;
+
+    public HashedTimingWheel(String threadName, long tickDuration, TimeUnit unit, int wheelSize) {
+        if (tickDuration <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("Tick duration and wheel size must be positive");
+        }
+        int normalizedWheelSize = 1;
+        while (normalizedWheelSize < wheelSize) {
+            normalizedWheelSize <<= 1;
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.mask = normalizedWheelSize - 1;
+        this.buckets = new ArrayList<>(normalizedWheelSize);
+        for (int i = 0; i < normalizedWheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.startTime = System.nanoTime();
+        worker.scheduleAtFixedRate(this::advance, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        Timeout timeout = new Timeout(task, System.nanoTime() + unit.toNanos(delay));
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private void advance() {
+        transferPendingTimeouts();
+        Iterator<Timeout> bucket = buckets.get((int) (tick & mask)).iterator();
+        while (bucket.hasNext()) {
+            Timeout timeout = bucket.next();
+            if (timeout.isCancelled()) {
+                bucket.remove();
+            } else if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            } else {
+                bucket.remove();
+                timeout.expire();
+            }
+        }
+        tick++;
+    }
+
+    private void transferPendingTimeouts() {
+        Timeout timeout;
+        while ((timeout = pendingTimeouts.poll()) != null) {
+            if (timeout.isCancelled()) {
+                continue;
+            }
+            long deadlineTick = Math.max((timeout.deadline - startTime + tickNanos - 1) / tickNanos - 1, tick);
+            timeout.remainingRounds = (deadlineTick - tick) / buckets.size();
+            buckets.get((int) (deadlineTick & mask)).add(timeout);
+        }
+    }
+
+    @Override
+    public void close() {
+        worker.shutdownNow();
+    }
+
+    public static final class Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private final long deadline;
+        private volatile Runnable task;
+        private long remainingRounds;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        public boolean cancel() {
+            if (state.compareAndSet(INIT, CANCELLED)) {
+                task = null;
+                return true;
+            }
+            return false;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private void expire() {
+            Runnable expiredTask = task;
+            if (!state.compareAndSet(INIT, EXPIRED) || expiredTask == null) {
+                return;
+            }
+            task = null;
+            try {
+                expiredTask.run();
+            } catch (RuntimeException exception) {
+                LOGGER.error("Timeout task failed", exception);
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.apigatewaycomponent;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@EnabledIfEnvironmentVariable(named = "KAFKA_BENCHMARK_BOOTSTRAP_SERVERS", matches = ".+")
+class ProducerPoolBenchmarkTests {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProducerPoolBenchmarkTests.class);
+    private static final String BENCHMARK_TOPIC = "producer-pool-benchmark";
+    private static final int TEMPLATE_COUNT = 14;
+    private static final int RECORD_COUNT = 200_000;
+
+    private final String bootstrapServers = System.getenv("KAFKA_BENCHMARK_BOOTSTRAP_SERVERS");
+
+    @Test
+    void compareProducerPerTemplateWithSharedProducer() throws Exception {
+        BenchmarkResult producerPerTemplate = runBenchmark(false);
+        BenchmarkResult sharedProducer = runBenchmark(true);
+        report("producer per template", producerPerTemplate);
+        report("shared tuned producer", sharedProducer);
+
+        assertThat(producerPerTemplate.completedSends()).isEqualTo(RECORD_COUNT);
+        assertThat(sharedProducer.completedSends()).isEqualTo(RECORD_COUNT);
+    }
+
+    private BenchmarkResult runBenchmark(boolean shared) throws Exception {
+        long heapBefore = usedHeap();
+        List<DefaultKafkaProducerFactory<String, Object>> producerFactories = new ArrayList<>();
+        List<KafkaTemplate<String, Object>> kafkaTemplates = new ArrayList<>();
+        for (int i = 0; i < TEMPLATE_COUNT; i++) {
+            if (i == 0 || !shared) {
+                producerFactories.add(new DefaultKafkaProducerFactory<>(producerConfig(shared)));
+            }
+            kafkaTemplates.add(new KafkaTemplate<>(producerFactories.get(producerFactories.size() - 1)));
+        }
+        kafkaTemplates.forEach(kafkaTemplate -> kafkaTemplate.send(BENCHMARK_TOPIC, "warm-up").join());
+
+        long start = System.nanoTime();
+        List<CompletableFuture<?>> sends = new ArrayList<>(RECORD_COUNT);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            sends.add(kafkaTemplates.get(i % TEMPLATE_COUNT).send(BENCHMARK_TOPIC, UUID.randomUUID().toString()));
+        }
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).get();
+        long elapsedNanos = System.nanoTime() - start;
+        long heapWithProducers = usedHeap() - heapBefore;
+        long completedSends = sends.stream()
+                .filter(send -> send.isDone() && !send.isCompletedExceptionally())
+                .count();
+
+        producerFactories.forEach(DefaultKafkaProducerFactory::destroy);
+        return new BenchmarkResult(RECORD_COUNT * 1_000_000_000L / elapsedNanos, heapWithProducers / (1024 * 1024),
+                completedSends);
+    }
+
+    private Map<String, Object> producerConfig(boolean tuned) {
+        if (!tuned) {
+            return Map.of(
+                    ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                    ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                    ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class
+            );
+        }
+        return Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers,
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class,
+                ProducerConfig.LINGER_MS_CONFIG, "5",
+                ProducerConfig.BATCH_SIZE_CONFIG, "32768",
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4",
+                ProducerConfig.ACKS_CONFIG, "all",
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, "true"
+        );
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static void report(String scenario, BenchmarkResult result) {
+        LOGGER.info("{}: {} records/sec, {} MB heap, {} of {} sends completed", scenario,
+                result.recordsPerSecond(), result.heapMegabytes(), result.completedSends(), RECORD_COUNT);
+    }
+
+    private record BenchmarkResult(long recordsPerSecond, long heapMegabytes, long completedSends) {
+    }
+}
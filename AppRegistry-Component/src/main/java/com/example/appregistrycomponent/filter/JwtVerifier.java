@@ -1,41 +1,85 @@
 package com.example.appregistrycomponent.filter;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.Locator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.InsufficientAuthenticationException;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.stereotype.Component;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtVerifier {
     private static final Logger LOGGER = LoggerFactory.getLogger(JwtVerifier.class);
 
     private final JwksProvider jwksProvider;
+    private final JwtParser jwtParser;
+    private final Map<ByteBuffer, VerifiedToken> verifiedTokens;
+    private final long maxCacheTtlMillis;
+    private final Timer cacheHitTimer;
+    private final Timer cacheMissTimer;
 
-    public JwtVerifier(JwksProvider jwksProvider) {
+    public JwtVerifier(JwksProvider jwksProvider, MeterRegistry meterRegistry,
+                       @Value("${jwt.verification-cache.max-entries:10000}") int maxCacheEntries,
+                       @Value("${jwt.verification-cache.max-ttl-ms:300000}") long maxCacheTtlMillis) {
         this.jwksProvider = jwksProvider;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(keyLocator())
+                .build();
+        this.maxCacheTtlMillis = maxCacheTtlMillis;
+        this.verifiedTokens = new LinkedHashMap<ByteBuffer, VerifiedToken>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, VerifiedToken> eldest) {
+                return size() > maxCacheEntries;
+            }
+        };
+
+        this.cacheHitTimer = Timer.builder("jwt.verification").tag("cache", "hit").register(meterRegistry);
+        this.cacheMissTimer = Timer.builder("jwt.verification").tag("cache", "miss").register(meterRegistry);
+        Gauge.builder("jwt.verification.cache.size", this, JwtVerifier::cacheSize).register(meterRegistry);
     }
 
     public String verify(String jwt) throws AuthenticationException {
-        Claims claims = parseClaims(jwt);
-        ensureNotExpired(claims);
+        long startTime = System.nanoTime();
+        ByteBuffer tokenDigest = digest(jwt);
+        VerifiedToken verifiedToken = getVerifiedToken(tokenDigest);
+        if (verifiedToken != null) {
+            cacheHitTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            return verifiedToken.subject();
+        }
+
+        Jws<Claims> jws = parseClaims(jwt);
+        Claims claims = jws.getPayload();
+        Date expiration = claims.getExpiration();
+        ensureNotExpired(claims.getSubject(), expiration);
+        cacheVerifiedToken(tokenDigest, jws.getHeader().getKeyId(), claims.getSubject(), expiration);
+        cacheMissTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
         return claims.getSubject();
     }
 
-    private Claims parseClaims(String jwt) throws InsufficientAuthenticationException {
+    private Jws<Claims> parseClaims(String jwt) throws InsufficientAuthenticationException {
         try {
-            return Jwts.parser()
-                    .keyLocator(keyLocator())
-                    .build()
-                    .parseSignedClaims(jwt)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(jwt);
         } catch (Exception exception) {
             LOGGER.warn(exception.getMessage());
             throw new InsufficientAuthenticationException(
@@ -54,11 +98,53 @@ public class JwtVerifier {
         };
     }
 
-    private void ensureNotExpired(Claims claims) {
-        Date expiration = claims.getExpiration();
+    private void ensureNotExpired(String subject, Date expiration) {
         if (expiration != null && expiration.before(new Date())) {
-            LOGGER.debug("JWT token for subject was expired: {}", claims.getSubject());
+            LOGGER.debug("JWT token for subject was expired: {}", subject);
             throw new InsufficientAuthenticationException("JWT token is expired, refresh it");
         }
     }
-}
\ No newline at end of file
+
+    private synchronized VerifiedToken getVerifiedToken(ByteBuffer tokenDigest) {
+        VerifiedToken verifiedToken = verifiedTokens.get(tokenDigest);
+        if (verifiedToken == null) {
+            return null;
+        }
+        Optional<PublicKey> currentKey = jwksProvider.getKeyByKid(verifiedToken.kid());
+        if (System.currentTimeMillis() >= verifiedToken.cachedUntil()
+                || currentKey.isEmpty() || !currentKey.get().equals(verifiedToken.key())) {
+            verifiedTokens.remove(tokenDigest);
+            return null;
+        }
+        return verifiedToken;
+    }
+
+    private void cacheVerifiedToken(ByteBuffer tokenDigest, String kid, String subject, Date expiration) {
+        Optional<PublicKey> key = jwksProvider.getKeyByKid(kid);
+        if (key.isEmpty()) {
+            return;
+        }
+        long cachedUntil = System.currentTimeMillis() + maxCacheTtlMillis;
+        if (expiration != null) {
+            cachedUntil = Math.min(cachedUntil, expiration.getTime());
+        }
+        synchronized (this) {
+            verifiedTokens.put(tokenDigest, new VerifiedToken(subject, kid, key.get(), cachedUntil));
+        }
+    }
+
+    private synchronized int cacheSize() {
+        return verifiedTokens.size();
+    }
+
+    private static ByteBuffer digest(String jwt) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(jwt.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available", exception);
+        }
+    }
+
+    private record VerifiedToken(String subject, String kid, PublicKey key, long cachedUntil) {
+    }
+}
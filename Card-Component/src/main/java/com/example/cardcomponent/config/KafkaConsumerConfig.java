@@ -1,6 +1,9 @@
 package com.example.cardcomponent.config;
 
 import com.example.cardcomponent.exception.GlobalKafkaExceptionHandler;
+import com.example.kafkaschema.group.InstanceConsumerGroups;
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import com.example.kafkaschema.serde.WireDeserializer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -10,6 +13,8 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.CompositeRecordInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
@@ -25,10 +30,22 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String kafkaBootstrapServers;
 
+    @Value("${kafka.batch.max-records:100}")
+    private int batchMaxRecords;
+
     private final GlobalKafkaExceptionHandler globalKafkaExceptionHandler;
+    private final ReplyTopicResolver replyTopicResolver;
+    private final RequestDeadlineContext requestDeadlineContext;
+    private final InstanceConsumerGroups instanceConsumerGroups;
 
-    public KafkaConsumerConfig(GlobalKafkaExceptionHandler globalKafkaExceptionHandler) {
+    public KafkaConsumerConfig(GlobalKafkaExceptionHandler globalKafkaExceptionHandler,
+                               ReplyTopicResolver replyTopicResolver,
+                               RequestDeadlineContext requestDeadlineContext,
+                               InstanceConsumerGroups instanceConsumerGroups) {
         this.globalKafkaExceptionHandler = globalKafkaExceptionHandler;
+        this.replyTopicResolver = replyTopicResolver;
+        this.requestDeadlineContext = requestDeadlineContext;
+        this.instanceConsumerGroups = instanceConsumerGroups;
     }
 
     @Bean
@@ -38,7 +55,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueCardComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
     }
@@ -49,6 +66,31 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(uuidConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, UUID> uuidBatchConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, uniqueCardComponentGroupId,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxRecords,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "*"
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UUID> uuidBatchKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, UUID> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(uuidBatchConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setBatchInterceptor(requestDeadlineContext.batchInterceptor());
         return factory;
     }
 
@@ -59,7 +101,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueCardComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
     }
@@ -70,6 +112,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(stringConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -80,7 +123,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueCardComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.HashMap",
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -92,6 +135,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(mapUUIDToStringConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -102,7 +146,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueCardComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.HashMap",
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -114,6 +158,34 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(mapStringToStringConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, EntityChangeEvent> userEventConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, instanceConsumerGroups.groupId("user-events"),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, EntityChangeEvent.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example.kafkaschema.schema"
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, EntityChangeEvent> userEventKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, EntityChangeEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(userEventConsumerFactory());
         return factory;
     }
+
+    private <K, V> RecordInterceptor<K, V> requestRecordInterceptor() {
+        return new CompositeRecordInterceptor<>(requestDeadlineContext.recordInterceptor(),
+                replyTopicResolver.recordInterceptor());
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.cardcomponent.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.List;
+
+@Configuration
+public class KafkaTopicConfig {
+    public static final String CARD_EVENTS_TOPIC = "card-events";
+
+    private static final List<String> REQUEST_TOPICS = List.of(
+            "create-card-by-account-id",
+            "get-card-by-id",
+            "get-card-by-card-number",
+            "get-all-cards-by-holder-name",
+            "get-all-cards-by-account-id",
+            "get-all-cards-by-holder-id",
+            "update-card-status-by-id",
+            "get-all-expired-cards-by-holder-id",
+            "get-all-active-cards-by-holder-id",
+            "update-card-status-by-card-number",
+            "delete-card-by-id",
+            "delete-card-by-account-id",
+            "delete-card-by-holder-id"
+    );
+
+    @Value("${kafka.topics.partitions:1}")
+    private int requestTopicPartitions;
+
+    @Value("${kafka.topics.replicas:1}")
+    private int requestTopicReplicas;
+
+    @Bean
+    public KafkaAdmin.NewTopics requestTopics() {
+        return new KafkaAdmin.NewTopics(REQUEST_TOPICS.stream()
+                .map(topic -> TopicBuilder.name(topic)
+                        .partitions(requestTopicPartitions)
+                        .replicas(requestTopicReplicas)
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+
+    @Bean
+    public NewTopic cardEventsTopic() {
+        return TopicBuilder.name(CARD_EVENTS_TOPIC)
+                .partitions(requestTopicPartitions)
+                .replicas(requestTopicReplicas)
+                .compact()
+                .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.cardcomponent.config;
+
+import com.example.cardcomponent.exception.RequestDeadlineExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class RequestDeadlineContext {
+    public static final String DEADLINE_HEADER = "x-request-deadline";
+    private static final Logger LOGGER = LoggerFactory.getLogger(RequestDeadlineContext.class);
+
+    private final ThreadLocal<RequestDeadline> currentDeadline = new ThreadLocal<>();
+    private final MeterRegistry meterRegistry;
+    private final long clockSkewMillis;
+
+    public RequestDeadlineContext(MeterRegistry meterRegistry,
+                                  @Value("${kafka.request-deadline.clock-skew-ms:200}") long clockSkewMillis) {
+        this.meterRegistry = meterRegistry;
+        this.clockSkewMillis = clockSkewMillis;
+    }
+
+    public <K, V> RecordInterceptor<K, V> recordInterceptor() {
+        return new RecordInterceptor<>() {
+            @Override
+            public ConsumerRecord<K, V> intercept(@NonNull ConsumerRecord<K, V> record, @NonNull Consumer<K, V> consumer) {
+                currentDeadline.remove();
+                RequestDeadline requestDeadline = extractRequestDeadline(record);
+                if (requestDeadline == null) {
+                    return record;
+                }
+                if (isExpiredOnArrival(record, requestDeadline)) {
+                    return null;
+                }
+                currentDeadline.set(requestDeadline);
+                return record;
+            }
+
+            @Override
+            public void afterRecord(@NonNull ConsumerRecord<K, V> record, @NonNull Consumer<K, V> consumer) {
+                currentDeadline.remove();
+            }
+        };
+    }
+
+    public <K, V> BatchInterceptor<K, V> batchInterceptor() {
+        return new BatchInterceptor<>() {
+            @Override
+            public ConsumerRecords<K, V> intercept(@NonNull ConsumerRecords<K, V> records, @NonNull Consumer<K, V> consumer) {
+                Map<TopicPartition, List<ConsumerRecord<K, V>>> liveRecords = new HashMap<>();
+                for (TopicPartition topicPartition : records.partitions()) {
+                    List<ConsumerRecord<K, V>> partitionRecords = new ArrayList<>();
+                    for (ConsumerRecord<K, V> record : records.records(topicPartition)) {
+                        RequestDeadline requestDeadline = extractRequestDeadline(record);
+                        if (requestDeadline == null || !isExpiredOnArrival(record, requestDeadline)) {
+                            partitionRecords.add(record);
+                        }
+                    }
+                    if (!partitionRecords.isEmpty()) {
+                        liveRecords.put(topicPartition, partitionRecords);
+                    }
+                }
+                return liveRecords.isEmpty() ? null : new ConsumerRecords<>(liveRecords);
+            }
+        };
+    }
+
+    public boolean bind(String deadlineHeader, boolean droppable, String target) {
+        currentDeadline.remove();
+        Long deadline = parseDeadline(deadlineHeader);
+        if (deadline == null) {
+            return true;
+        }
+        if (droppable && isExpired(deadline)) {
+            countExpired(target, "http");
+            LOGGER.debug("Rejecting expired request to: {}", target);
+            return false;
+        }
+        currentDeadline.set(new RequestDeadline(deadline, droppable, ""));
+        return true;
+    }
+
+    public void clear() {
+        currentDeadline.remove();
+    }
+
+    public Long getDeadline() {
+        RequestDeadline requestDeadline = currentDeadline.get();
+        return requestDeadline != null ? requestDeadline.deadline() : null;
+    }
+
+    public void checkDeadline(String target) {
+        RequestDeadline requestDeadline = currentDeadline.get();
+        if (requestDeadline != null && requestDeadline.droppable() && isExpired(requestDeadline.deadline())) {
+            countExpired(target, "feign");
+            throw new RequestDeadlineExceededException(target);
+        }
+    }
+
+    private boolean isExpiredOnArrival(ConsumerRecord<?, ?> record, RequestDeadline requestDeadline) {
+        if (requestDeadline.droppable() && isExpired(requestDeadline.deadline())) {
+            countExpired(record.topic(), "kafka");
+            LOGGER.debug("Dropping expired request from topic: {} with correlation id: {}",
+                    record.topic(), requestDeadline.correlationId());
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isExpired(long deadline) {
+        return System.currentTimeMillis() > deadline + clockSkewMillis;
+    }
+
+    private void countExpired(String target, String stage) {
+        Counter.builder("kafka.requests.expired.dropped")
+                .tag("target", target)
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static RequestDeadline extractRequestDeadline(ConsumerRecord<?, ?> record) {
+        Long deadline = extractDeadline(record.headers());
+        if (deadline == null) {
+            return null;
+        }
+        return new RequestDeadline(deadline, record.topic().startsWith("get-"), extractCorrelationId(record.headers()));
+    }
+
+    private static Long extractDeadline(Headers headers) {
+        Header header = headers.lastHeader(DEADLINE_HEADER);
+        return header != null ? parseDeadline(new String(header.value(), StandardCharsets.UTF_8)) : null;
+    }
+
+    private static Long parseDeadline(String deadline) {
+        if (deadline == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(deadline);
+        } catch (NumberFormatException exception) {
+            LOGGER.warn("Ignoring malformed request deadline header");
+            return null;
+        }
+    }
+
+    private static String extractCorrelationId(Headers headers) {
+        Header header = headers.lastHeader(KafkaHeaders.CORRELATION_ID);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : "";
+    }
+
+    private record RequestDeadline(long deadline, boolean droppable, String correlationId) {
+    }
+}
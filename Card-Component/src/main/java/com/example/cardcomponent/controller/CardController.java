@@ -8,6 +8,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -55,6 +57,22 @@ public class CardController {
         return ResponseEntity.ok(responseCardDTO);
     }
 
+    @PostMapping("/by-account-ids")
+    public ResponseEntity<Map<UUID, List<CardDTO>>> getAllCardsByAccountIds(@RequestBody Set<UUID> accountIds) {
+        LOGGER.debug("Received POST request to get All Cards by {} Account IDs", accountIds.size());
+        Map<UUID, List<CardDTO>> responseCardDTOS = restCardService.getAllCardsByAccountIds(accountIds);
+        LOGGER.debug(RESPONSE_LOG, responseCardDTOS);
+        return ResponseEntity.ok(responseCardDTOS);
+    }
+
+    @PostMapping("/deactivate/by-account-ids")
+    public ResponseEntity<Integer> deactivateAllCardsByAccountIds(@RequestBody Set<UUID> accountIds) {
+        LOGGER.debug("Received POST request to deactivate All Cards by {} Account IDs", accountIds.size());
+        int deactivatedCards = restCardService.deactivateAllCardsByAccountIds(accountIds);
+        LOGGER.debug(RESPONSE_LOG, deactivatedCards);
+        return ResponseEntity.ok(deactivatedCards);
+    }
+
     @GetMapping("/by-user-id/{holderId}")
     public ResponseEntity<List<CardDTO>> getAllUserCardsByCardHolderId(@PathVariable UUID holderId) {
         LOGGER.debug("Received GET request to get All Cards by Card Holder ID: {}", holderId);
@@ -1,75 +1,136 @@
 package com.example.cardcomponent.exception;
 
+import com.example.cardcomponent.config.ReplyTopicResolver;
 import com.example.cardcomponent.dto.ErrorDTO;
+import feign.FeignException;
+import feign.RetryableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.listener.CommonErrorHandler;
 import org.springframework.kafka.listener.ListenerExecutionFailedException;
 import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
 import org.springframework.lang.NonNull;
+import org.springframework.messaging.converter.MessageConversionException;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Objects;
 
 @Component
 public class GlobalKafkaExceptionHandler implements CommonErrorHandler {
     private static final Logger LOGGER = LoggerFactory.getLogger(GlobalKafkaExceptionHandler.class);
+    private static final String ERROR_TOPIC = "card-error";
+
     private final KafkaTemplate<String, ErrorDTO> cardDTOErrorKafkaTemplate;
+    private final MeterRegistry meterRegistry;
 
-    public GlobalKafkaExceptionHandler(KafkaTemplate<String, ErrorDTO> cardDTOErrorKafkaTemplate) {
+    public GlobalKafkaExceptionHandler(KafkaTemplate<String, ErrorDTO> cardDTOErrorKafkaTemplate,
+                                       MeterRegistry meterRegistry) {
         this.cardDTOErrorKafkaTemplate = cardDTOErrorKafkaTemplate;
+        this.meterRegistry = meterRegistry;
     }
 
     @Override
     public boolean handleOne(@NonNull Exception thrownException, @NonNull ConsumerRecord<?, ?> rec,
                              @NonNull Consumer<?, ?> consumer, @NonNull MessageListenerContainer container) {
-        handleRemaining(thrownException, List.of(rec), consumer, container);
+        sendErrorReply(unwrap(thrownException), rec);
         return true;
     }
 
     @Override
     public void handleRemaining(@NonNull Exception thrownException, @NonNull List<ConsumerRecord<?, ?>> records,
                                 @NonNull Consumer<?, ?> consumer, @NonNull MessageListenerContainer container) {
-        Throwable cause = (thrownException instanceof ListenerExecutionFailedException)
-                ? thrownException.getCause()
-                : thrownException;
-
-        if (cause instanceof CustomKafkaException customKafkaException) {
-            kafkaErrorProducer(customKafkaException);
-        } else {
-            LOGGER.error("Unexpected exception type in Kafka error handler", cause);
+        if (!records.isEmpty()) {
+            sendErrorReply(unwrap(thrownException), records.get(0));
         }
     }
 
-    public void kafkaErrorProducer(CustomKafkaException exception) {
-        String correlationId = extractCorrelationId(exception.getReason());
-        String exceptionReason = extractExceptionReason(exception.getReason());
+    @Override
+    public void handleBatch(@NonNull Exception thrownException, @NonNull ConsumerRecords<?, ?> data,
+                            @NonNull Consumer<?, ?> consumer, @NonNull MessageListenerContainer container,
+                            @NonNull Runnable invokeListener) {
+        Throwable cause = unwrap(thrownException);
+        data.forEach(rec -> sendErrorReply(cause, rec));
+    }
 
-        ErrorDTO errorDTO = new ErrorDTO(exceptionReason, exception.getStatusCode().value());
+    public void kafkaErrorProducer(CustomKafkaException exception, ConsumerRecord<?, ?> rec) {
+        sendErrorReply(exception, rec);
+    }
 
-        LOGGER.info("Create topic: card-error with correlation id: {} ", correlationId);
-        ProducerRecord<String, ErrorDTO> errorTopic = new ProducerRecord<>("card-error", null, errorDTO);
-        errorTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
+    private void sendErrorReply(Throwable cause, ConsumerRecord<?, ?> rec) {
+        ErrorDTO errorDTO = toErrorDTO(cause);
+        if (errorDTO.status() >= HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+            LOGGER.error("Failed to process record from topic: {} at offset: {}", rec.topic(), rec.offset(), cause);
+        } else {
+            LOGGER.warn("Rejected record from topic: {} with status: {} and message: {}",
+                    rec.topic(), errorDTO.status(), errorDTO.message());
+        }
+
+        String correlationId = extractCorrelationId(rec);
+        if (correlationId == null) {
+            LOGGER.error("Record from topic: {} at offset: {} has no correlation id, error reply was not sent",
+                    rec.topic(), rec.offset());
+            return;
+        }
+        String replyTopic = ReplyTopicResolver.extractReplyTopic(rec.headers());
+        String errorTopicName = replyTopic != null ? replyTopic : ERROR_TOPIC;
+
+        LOGGER.info("Create topic: {} with correlation id: {} ", errorTopicName, correlationId);
+        ProducerRecord<String, ErrorDTO> errorTopic = new ProducerRecord<>(errorTopicName, null, errorDTO);
+        errorTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes(StandardCharsets.UTF_8));
         cardDTOErrorKafkaTemplate.send(errorTopic);
+        Counter.builder("kafka.listener.error.replies")
+                .tag("topic", rec.topic())
+                .tag("status", String.valueOf(errorDTO.status()))
+                .register(meterRegistry)
+                .increment();
         LOGGER.info("Error topic was created and allocated in kafka broker successfully: {}", errorTopic.value());
     }
 
-    private String extractCorrelationId(String reason) {
-        return Objects.requireNonNull(reason)
-                .replaceAll("^.*correlationId:\\s*", "")
-                .replaceAll("[\"\\s]", "")
-                .trim();
+    private static ErrorDTO toErrorDTO(Throwable cause) {
+        if (cause instanceof CustomKafkaException customKafkaException) {
+            String reason = customKafkaException.getReason();
+            return new ErrorDTO(reason != null ? reason : customKafkaException.getStatusCode().toString(),
+                    customKafkaException.getStatusCode().value());
+        }
+        if (cause instanceof DeserializationException || cause instanceof MessageConversionException) {
+            return new ErrorDTO("Request payload could not be read", HttpStatus.BAD_REQUEST.value());
+        }
+        if (cause instanceof RetryableException) {
+            return new ErrorDTO("Downstream service is unavailable, please try again later",
+                    HttpStatus.SERVICE_UNAVAILABLE.value());
+        }
+        if (cause instanceof FeignException feignException
+                && feignException.status() >= 400 && feignException.status() < 500) {
+            return new ErrorDTO("Downstream service rejected the request", feignException.status());
+        }
+        if (cause instanceof FeignException) {
+            return new ErrorDTO("Downstream service failed to process the request", HttpStatus.BAD_GATEWAY.value());
+        }
+        return new ErrorDTO("Request could not be processed", HttpStatus.INTERNAL_SERVER_ERROR.value());
+    }
+
+    private static Throwable unwrap(Exception thrownException) {
+        Throwable cause = thrownException;
+        while (cause instanceof ListenerExecutionFailedException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
     }
 
-    private String extractExceptionReason(String reason) {
-        return Objects.requireNonNull(reason)
-                .replaceAll("correlationId:(.*)$", "")
-                .trim();
+    private static String extractCorrelationId(ConsumerRecord<?, ?> rec) {
+        Header header = rec.headers().lastHeader(KafkaHeaders.CORRELATION_ID);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
     }
 }
@@ -3,6 +3,7 @@ package com.example.cardcomponent.feign;
 import com.example.cardcomponent.dto.AuthRequestDTO;
 import com.example.cardcomponent.dto.AuthResponseDTO;
 import com.example.cardcomponent.config.CardAppComponentConfig;
+import com.example.cardcomponent.config.RequestDeadlineContext;
 import feign.FeignException;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
@@ -16,15 +17,19 @@ public class FeignClientInterceptor implements RequestInterceptor {
     private static final Logger LOGGER = LoggerFactory.getLogger(FeignClientInterceptor.class);
     private final SecurityComponentClient securityComponentClient;
     private final CardAppComponentConfig cardConfig;
+    private final RequestDeadlineContext requestDeadlineContext;
 
     public FeignClientInterceptor(@Qualifier("Security-Components") SecurityComponentClient securityComponentClient,
-                                  CardAppComponentConfig cardConfig) {
+                                  CardAppComponentConfig cardConfig,
+                                  RequestDeadlineContext requestDeadlineContext) {
         this.securityComponentClient = securityComponentClient;
         this.cardConfig = cardConfig;
+        this.requestDeadlineContext = requestDeadlineContext;
     }
 
     @Override
     public void apply(RequestTemplate requestTemplate) {
+        applyDeadline(requestTemplate);
         try {
             LOGGER.debug("Inject to feign request my JWT Token");
             requestTemplate.header("Authorization", "Bearer " + cardConfig.getJwtToken());
@@ -39,6 +44,15 @@ public class FeignClientInterceptor implements RequestInterceptor {
         }
     }
 
+    private void applyDeadline(RequestTemplate requestTemplate) {
+        requestDeadlineContext.checkDeadline(requestTemplate.feignTarget().name());
+        Long deadline = requestDeadlineContext.getDeadline();
+        if (deadline != null) {
+            requestTemplate.removeHeader(RequestDeadlineContext.DEADLINE_HEADER);
+            requestTemplate.header(RequestDeadlineContext.DEADLINE_HEADER, String.valueOf(deadline));
+        }
+    }
+
     private void refreshToken() {
         try {
             AuthResponseDTO authResponseDTO = securityComponentClient.authenticateComponent(
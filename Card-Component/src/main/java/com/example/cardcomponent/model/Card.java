@@ -1,5 +1,6 @@
 package com.example.cardcomponent.model;
 
+import com.example.kafkaschema.id.TimeOrderedId;
 import jakarta.persistence.*;
 
 import java.time.LocalDate;
@@ -8,7 +9,7 @@ import java.util.UUID;
 @Entity
 public class Card {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
     private UUID accountId;
     private String cardNumber;
@@ -1,9 +1,13 @@
 package com.example.cardcomponent.repository;
 
 import com.example.cardcomponent.model.Card;
+import feign.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +20,14 @@ public interface CardRepository extends JpaRepository<Card, UUID> {
 
     List<Card> findAllByAccountId(UUID accountId);
 
+    List<Card> findAllByAccountIdIn(Collection<UUID> accountIds);
+
+    @Transactional
+    @Query(value = "UPDATE card SET status = 'DEACTIVATED' " +
+            "WHERE account_id IN (:accountIds) AND status IS DISTINCT FROM 'DEACTIVATED' RETURNING *",
+            nativeQuery = true)
+    List<Card> deactivateAllByAccountIdIn(@Param("accountIds") Collection<UUID> accountIds);
+
     List<Card> findAllByCardHolderUUID(UUID holderId);
 
     List<Card> findAllByCardHolderUUIDAndStatus(UUID holderId, String status);
@@ -0,0 +1,84 @@
+package com.example.cardcomponent.service;
+
+import com.example.cardcomponent.config.KafkaTopicConfig;
+import com.example.cardcomponent.dto.CardDTO;
+import com.example.cardcomponent.model.Card;
+import com.example.cardcomponent.repository.CardRepository;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+
+@Service
+public class CardEventPublisher {
+    public static final String EVENT_TYPE_HEADER = "card-event-type";
+    public static final String CREATED = "CREATED";
+    public static final String STATUS_CHANGED = "STATUS_CHANGED";
+    public static final String DEACTIVATED = "DEACTIVATED";
+    public static final String SNAPSHOT = "SNAPSHOT";
+    private static final Logger LOGGER = LoggerFactory.getLogger(CardEventPublisher.class);
+
+    private final KafkaTemplate<String, CardDTO> cardEventKafkaTemplate;
+    private final CardRepository cardRepository;
+    private final boolean snapshotOnStartup;
+    private final int snapshotPageSize;
+
+    public CardEventPublisher(@Qualifier("cardEventKafkaTemplate") KafkaTemplate<String, CardDTO> cardEventKafkaTemplate,
+                              CardRepository cardRepository,
+                              @Value("${card.events.snapshot-on-startup:false}") boolean snapshotOnStartup,
+                              @Value("${card.events.snapshot-page-size:500}") int snapshotPageSize) {
+        this.cardEventKafkaTemplate = cardEventKafkaTemplate;
+        this.cardRepository = cardRepository;
+        this.snapshotOnStartup = snapshotOnStartup;
+        this.snapshotPageSize = snapshotPageSize;
+    }
+
+    public void publish(String eventType, Card card) {
+        ProducerRecord<String, CardDTO> cardEvent = new ProducerRecord<>(
+                KafkaTopicConfig.CARD_EVENTS_TOPIC, card.getId().toString(), convertCardModelToEvent(card));
+        cardEvent.headers().add(EVENT_TYPE_HEADER, eventType.getBytes(StandardCharsets.UTF_8));
+        cardEventKafkaTemplate.send(cardEvent).whenComplete((sendResult, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error("Failed to publish {} event for Card with ID: {}", eventType, card.getId(), throwable);
+            }
+        });
+        LOGGER.debug("Published {} event for Card with ID: {}", eventType, card.getId());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void publishSnapshot() {
+        if (!snapshotOnStartup) {
+            return;
+        }
+        LOGGER.info("Publishing snapshot of all Cards to topic: {}", KafkaTopicConfig.CARD_EVENTS_TOPIC);
+        Page<Card> page = cardRepository.findAll(PageRequest.of(0, snapshotPageSize, Sort.by("id")));
+        page.forEach(card -> publish(SNAPSHOT, card));
+        while (page.hasNext()) {
+            page = cardRepository.findAll(page.nextPageable());
+            page.forEach(card -> publish(SNAPSHOT, card));
+        }
+        LOGGER.info("Published snapshot of {} Cards", page.getTotalElements());
+    }
+
+    private static CardDTO convertCardModelToEvent(Card card) {
+        CardDTO cardDTO = new CardDTO();
+        cardDTO.setId(card.getId());
+        cardDTO.setAccountId(card.getAccountId());
+        cardDTO.setCardNumber(card.getCardNumber());
+        cardDTO.setCardHolderFullName(card.getCardHolderFullName());
+        cardDTO.setCardHolderId(card.getCardHolderUUID());
+        cardDTO.setExpirationDate(card.getExpirationDate());
+        cardDTO.setStatus(card.getStatus());
+        return cardDTO;
+    }
+}
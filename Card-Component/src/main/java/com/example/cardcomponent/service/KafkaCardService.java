@@ -1,8 +1,10 @@
 package com.example.cardcomponent.service;
 
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface KafkaCardService {
@@ -10,6 +12,8 @@ public interface KafkaCardService {
 
     void getCardById(UUID cardId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
 
+    void getCardsByIds(List<ConsumerRecord<String, UUID>> records);
+
     void getCardByCardNumber(String cardNumber, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
 
     void getCardsByCardHolderFullName(String cardHolderFullName, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
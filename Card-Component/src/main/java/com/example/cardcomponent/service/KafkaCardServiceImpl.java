@@ -1,12 +1,14 @@
 package com.example.cardcomponent.service;
 
+import com.example.cardcomponent.config.ReplyTopicResolver;
 import com.example.cardcomponent.dto.AccountDTO;
 import com.example.cardcomponent.dto.CardDTO;
 import com.example.cardcomponent.exception.CustomKafkaException;
+import com.example.cardcomponent.exception.GlobalKafkaExceptionHandler;
 import com.example.cardcomponent.feign.AccountComponentClient;
-import com.example.cardcomponent.feign.UsersComponentClient;
 import com.example.cardcomponent.model.Card;
 import com.example.cardcomponent.repository.CardRepository;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,10 +20,16 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class KafkaCardServiceImpl implements KafkaCardService {
@@ -38,26 +46,36 @@ public class KafkaCardServiceImpl implements KafkaCardService {
     private final KafkaTemplate<String, CardDTO> responseDTOKafkaTemplate;
     private final KafkaTemplate<String, List<CardDTO>> responseListOfDTOSKafkaTemplate;
     private final KafkaTemplate<String, String> responseMessageKafkaTemplate;
+    private final ReplyTopicResolver replyTopicResolver;
+    private final GlobalKafkaExceptionHandler globalKafkaExceptionHandler;
+    private final CardEventPublisher cardEventPublisher;
 
     private final CardRepository cardRepository;
-    private final UsersComponentClient usersComponentClient;
+    private final UsersNearCache usersNearCache;
     private final AccountComponentClient accountComponentClient;
     private final Random random = new Random();
 
     public KafkaCardServiceImpl(CardRepository cardRepository,
-                                @Qualifier("Users-Components") UsersComponentClient usersComponentClient,
-                                @Qualifier("Account-Components") AccountComponentClient accountComponentClient, KafkaTemplate<String, CardDTO> responseDTOKafkaTemplate, KafkaTemplate<String, List<CardDTO>> responseListOfDTOSKafkaTemplate, KafkaTemplate<String, String> responseMessageKafkaTemplate) {
+                                UsersNearCache usersNearCache,
+                                @Qualifier("Account-Components") AccountComponentClient accountComponentClient, KafkaTemplate<String, CardDTO> responseDTOKafkaTemplate, KafkaTemplate<String, List<CardDTO>> responseListOfDTOSKafkaTemplate, KafkaTemplate<String, String> responseMessageKafkaTemplate,
+                                ReplyTopicResolver replyTopicResolver,
+                                GlobalKafkaExceptionHandler globalKafkaExceptionHandler,
+                                CardEventPublisher cardEventPublisher) {
         this.cardRepository = cardRepository;
-        this.usersComponentClient = usersComponentClient;
+        this.usersNearCache = usersNearCache;
         this.accountComponentClient = accountComponentClient;
         this.responseDTOKafkaTemplate = responseDTOKafkaTemplate;
         this.responseListOfDTOSKafkaTemplate = responseListOfDTOSKafkaTemplate;
         this.responseMessageKafkaTemplate = responseMessageKafkaTemplate;
+        this.replyTopicResolver = replyTopicResolver;
+        this.globalKafkaExceptionHandler = globalKafkaExceptionHandler;
+        this.cardEventPublisher = cardEventPublisher;
     }
 
     private CardDTO convertCardModelToDTO(Card card) {
         CardDTO cardDTO = new CardDTO();
         cardDTO.setId(card.getId());
+        cardDTO.setAccountId(card.getAccountId());
         cardDTO.setCardNumber(card.getCardNumber());
         cardDTO.setCardHolderFullName(card.getCardHolderFullName());
         cardDTO.setCardHolderId(card.getCardHolderUUID());
@@ -69,6 +87,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     private Card cardGenerator(AccountDTO accountDTO) {
         Card card = new Card();
+        card.setAccountId(accountDTO.getId());
         card.setCardHolderUUID(accountDTO.getId());
         LOGGER.debug("Generating card number");
         card.setCardNumber(cardNumberGenerator());
@@ -93,7 +112,8 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "create-card-by-account-id", groupId = "card-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.create-card-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void createCard(UUID accountId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: create-card-by-account-id with correlation id: {} ", correlationId);
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
@@ -107,11 +127,11 @@ public class KafkaCardServiceImpl implements KafkaCardService {
         LOGGER.debug("Generating Card");
         Card card = cardRepository.save(cardGenerator(accountDTO));
         LOGGER.info("Card generated successfully: {}", card);
-        convertCardModelToDTO(card);
+        cardEventPublisher.publish(CardEventPublisher.CREATED, card);
 
         LOGGER.info("Trying to create topic: create-card-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, CardDTO> responseTopic = new ProducerRecord<>(
-                "create-card-by-account-id-response", null, convertCardModelToDTO(card));
+                replyTopicResolver.resolve("create-card-by-account-id-response"), null, convertCardModelToDTO(card));
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -119,7 +139,9 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "get-card-by-id", groupId = "card-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            autoStartup = "#{!${kafka.listener.get-card-by-id.batch:false}}",
+            concurrency = "${kafka.listener.get-card-by-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getCardById(UUID cardId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-card-by-id with correlation id: {} ", correlationId);
         LOGGER.info(CARD_SEARCHING_LOG, cardId);
@@ -136,15 +158,51 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: get-card-by-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, CardDTO> responseTopic = new ProducerRecord<>(
-                "get-card-by-id-response", null, cardDTO);
+                replyTopicResolver.resolve("get-card-by-id-response"), null, cardDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
+    @Override
+    @KafkaListener(topics = "get-card-by-id", groupId = "card-component",
+            containerFactory = "uuidBatchKafkaListenerFactory",
+            autoStartup = "${kafka.listener.get-card-by-id.batch:false}",
+            concurrency = "${kafka.listener.get-card-by-id.concurrency:${kafka.listener.concurrency:1}}")
+    public void getCardsByIds(List<ConsumerRecord<String, UUID>> records) {
+        LOGGER.info("Got batch of {} requests from kafka topic: get-card-by-id", records.size());
+        Set<UUID> cardIds = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, CardDTO> cardsById = cardRepository.findAllById(cardIds).stream()
+                .collect(Collectors.toMap(Card::getId, this::convertCardModelToDTO));
+        LOGGER.info("Resolved {} of {} requested Cards with one query", cardsById.size(), cardIds.size());
+
+        for (ConsumerRecord<String, UUID> record : records) {
+            String correlationId = extractCorrelationId(record);
+            if (record.value() == null || correlationId == null) {
+                LOGGER.warn("Skipping unreadable request at offset: {} of topic: get-card-by-id", record.offset());
+                continue;
+            }
+            CardDTO cardDTO = cardsById.get(record.value());
+            if (cardDTO == null) {
+                LOGGER.error(CARD_NOT_FOUND_LOG, record.value());
+                globalKafkaExceptionHandler.kafkaErrorProducer(new CustomKafkaException(HttpStatus.NOT_FOUND,
+                                "Card with such ID: " + record.value() + " was not found"), record);
+                continue;
+            }
+            ProducerRecord<String, CardDTO> responseTopic = new ProducerRecord<>(
+                    replyTopicResolver.resolve(record.headers(), "get-card-by-id-response"), null, cardDTO);
+            responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
+            responseDTOKafkaTemplate.send(responseTopic);
+        }
+    }
+
     @Override
     @KafkaListener(topics = "get-card-by-card-number", groupId = "card-component",
-            containerFactory = "stringKafkaListenerFactory")
+            containerFactory = "stringKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-card-by-card-number.concurrency:${kafka.listener.concurrency:1}}")
     public void getCardByCardNumber(String cardNumber, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-card-by-card-number with correlation id: {} ", correlationId);
         LOGGER.info(CARD_SEARCHING_LOG, cardNumber);
@@ -161,7 +219,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: get-card-by-card-number-response with correlation id: {} ", correlationId);
         ProducerRecord<String, CardDTO> responseTopic = new ProducerRecord<>(
-                "get-card-by-card-number-response", null, cardDTO);
+                replyTopicResolver.resolve("get-card-by-card-number-response"), null, cardDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -169,11 +227,12 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "get-all-cards-by-holder-name", groupId = "card-component",
-            containerFactory = "stringKafkaListenerFactory")
+            containerFactory = "stringKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-cards-by-holder-name.concurrency:${kafka.listener.concurrency:1}}")
     public void getCardsByCardHolderFullName(String cardHolderFullName, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-cards-by-holder-name with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, cardHolderFullName);
-        usersComponentClient.findByFullName(cardHolderFullName)
+        usersNearCache.findByFullName(cardHolderFullName)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, cardHolderFullName);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
@@ -188,7 +247,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: get-all-cards-by-holder-name-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<CardDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-cards-by-holder-name-response", null, cardDTOS);
+                replyTopicResolver.resolve("get-all-cards-by-holder-name-response"), null, cardDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseListOfDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -196,7 +255,8 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "get-all-cards-by-account-id", groupId = "card-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-cards-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllAccountCardsByAccountId(UUID accountId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-cards-by-account-id with correlation id: {} ", correlationId);
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
@@ -215,7 +275,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: get-all-cards-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<CardDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-cards-by-account-id-response", null, cardDTOS);
+                replyTopicResolver.resolve("get-all-cards-by-account-id-response"), null, cardDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseListOfDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -223,11 +283,12 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "get-all-cards-by-holder-id", groupId = "card-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-cards-by-holder-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllUserCardsByCardHolderId(UUID holderId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-cards-by-holder-id with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, holderId);
-        usersComponentClient.findById(holderId)
+        usersNearCache.findById(holderId)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, holderId);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
@@ -242,7 +303,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: get-all-cards-by-holder-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<CardDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-cards-by-holder-id-response", null, cardDTOS);
+                replyTopicResolver.resolve("get-all-cards-by-holder-id-response"), null, cardDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseListOfDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -250,11 +311,12 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "update-card-status-by-id", groupId = "card-component",
-            containerFactory = "mapUUIDToStringKafkaListenerFactory")
+            containerFactory = "mapUUIDToStringKafkaListenerFactory",
+            concurrency = "${kafka.listener.update-card-status-by-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllUserCardsByStatus(UUID holderId, String status, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: update-card-status-by-id with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, holderId);
-        usersComponentClient.findById(holderId)
+        usersNearCache.findById(holderId)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, holderId);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
@@ -270,7 +332,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: update-card-status-by-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<CardDTO>> responseTopic = new ProducerRecord<>(
-                "update-card-status-by-id-response", null, cardDTOS);
+                replyTopicResolver.resolve("update-card-status-by-id-response"), null, cardDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseListOfDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -278,11 +340,12 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "get-all-expired-cards-by-holder-id", groupId = "card-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-expired-cards-by-holder-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllExpiredCards(UUID holderId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-expired-cards-by-holder-id with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, holderId);
-        usersComponentClient.findById(holderId)
+        usersNearCache.findById(holderId)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, holderId);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
@@ -300,7 +363,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: get-all-expired-cards-by-holder-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<CardDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-expired-cards-by-holder-id-response", null, cardDTOS);
+                replyTopicResolver.resolve("get-all-expired-cards-by-holder-id-response"), null, cardDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseListOfDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -308,11 +371,12 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "get-all-active-cards-by-holder-id", groupId = "card-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-active-cards-by-holder-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllActiveCards(UUID holderId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-active-cards-by-holder-id with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, holderId);
-        usersComponentClient.findById(holderId)
+        usersNearCache.findById(holderId)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, holderId);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
@@ -329,7 +393,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: get-all-active-cards-by-holder-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<CardDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-active-cards-by-holder-id-response", null, cardDTOS);
+                replyTopicResolver.resolve("get-all-active-cards-by-holder-id-response"), null, cardDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseListOfDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -337,7 +401,8 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "update-card-status-by-id", groupId = "card-component",
-            containerFactory = "mapUUIDToStringKafkaListenerFactory")
+            containerFactory = "mapUUIDToStringKafkaListenerFactory",
+            concurrency = "${kafka.listener.update-card-status-by-id.concurrency:${kafka.listener.concurrency:1}}")
     public void updateCardStatusById(UUID cardId, String status, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: update-card-status-by-id with correlation id: {} ", correlationId);
         LOGGER.info(CARD_SEARCHING_LOG, cardId);
@@ -345,6 +410,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
                 .map(cardEntity -> {
                     cardEntity.setStatus(status);
                     cardRepository.save(cardEntity);
+                    cardEventPublisher.publish(CardEventPublisher.STATUS_CHANGED, cardEntity);
                     LOGGER.info("Card status was updated and received to the Controller: {}", cardEntity);
                     return convertCardModelToDTO(cardEntity);
                 })
@@ -356,7 +422,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: update-card-status-by-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, CardDTO> responseTopic = new ProducerRecord<>(
-                "update-card-status-by-id-response", null, cardDTO);
+                replyTopicResolver.resolve("update-card-status-by-id-response"), null, cardDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -364,7 +430,8 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "update-card-status-by-card-number", groupId = "card-component",
-            containerFactory = "mapStringToStringKafkaListenerFactory")
+            containerFactory = "mapStringToStringKafkaListenerFactory",
+            concurrency = "${kafka.listener.update-card-status-by-card-number.concurrency:${kafka.listener.concurrency:1}}")
     public void updateCardStatusByCardNumber(String cardNumber, String status, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: update-card-status-by-card-number with correlation id: {} ", correlationId);
         LOGGER.info(CARD_SEARCHING_LOG, cardNumber);
@@ -372,6 +439,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
                 .map(cardEntity -> {
                     cardEntity.setStatus(status);
                     cardRepository.save(cardEntity);
+                    cardEventPublisher.publish(CardEventPublisher.STATUS_CHANGED, cardEntity);
                     LOGGER.info("Card status was updated and received to the Controller: {}", cardEntity);
                     return convertCardModelToDTO(cardEntity);
                 })
@@ -383,7 +451,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: update-card-status-by-card-number-response with correlation id: {} ", correlationId);
         ProducerRecord<String, CardDTO> responseTopic = new ProducerRecord<>(
-                "update-card-status-by-card-number-response", null, cardDTO);
+                replyTopicResolver.resolve("update-card-status-by-card-number-response"), null, cardDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -391,7 +459,8 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "delete-card-by-id", groupId = "card-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.delete-card-by-id.concurrency:${kafka.listener.concurrency:1}}")
     public void deleteCardById(UUID cardId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: delete-card-by-id with correlation id: {} ", correlationId);
         LOGGER.info(CARD_SEARCHING_LOG, cardId);
@@ -399,7 +468,9 @@ public class KafkaCardServiceImpl implements KafkaCardService {
                 .map(cardEntity -> {
                     cardEntity.setStatus("DEACTIVATED");
                     LOGGER.info("Cards Status was changed to - DEACTIVATED: {}", cardEntity);
-                    return cardRepository.save(cardEntity);
+                    Card deactivatedCard = cardRepository.save(cardEntity);
+                    cardEventPublisher.publish(CardEventPublisher.DEACTIVATED, deactivatedCard);
+                    return deactivatedCard;
                 })
                 .orElseThrow(() -> {
                     LOGGER.error(CARD_NOT_FOUND_LOG, cardId);
@@ -409,7 +480,7 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
         LOGGER.info("Trying to create topic: delete-card-by-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, String> responseTopic = new ProducerRecord<>(
-                "delete-card-by-id-response", null, "Card deleted successfully");
+                replyTopicResolver.resolve("delete-card-by-id-response"), null, "Card deleted successfully");
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseMessageKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -417,7 +488,8 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "delete-card-by-account-id", groupId = "card-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.delete-card-by-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void deleteAllAccountCardsByAccountId(UUID accountId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: delete-card-by-account-id with correlation id: {} ", correlationId);
         LOGGER.info(ACCOUNT_SEARCHING_LOG, accountId);
@@ -428,16 +500,14 @@ public class KafkaCardServiceImpl implements KafkaCardService {
                             "Account with such ID: " + accountId + " was not found");
                 });
 
-        LOGGER.info("Trying to find Account Cards with Account ID: {}", accountId);
-        cardRepository.findAllByAccountId(accountId)
-                .forEach(cardEntity -> {
-                    cardEntity.setStatus("DEACTIVATED");
-                    LOGGER.info("Account Cards Status was changed to - DEACTIVATED: {}", cardEntity);
-                });
+        LOGGER.info("Trying to deactivate Account Cards with Account ID: {}", accountId);
+        List<Card> deactivatedCards = cardRepository.deactivateAllByAccountIdIn(List.of(accountId));
+        LOGGER.info("{} Account Cards Status was changed to - DEACTIVATED", deactivatedCards.size());
+        deactivatedCards.forEach(cardEntity -> cardEventPublisher.publish(CardEventPublisher.DEACTIVATED, cardEntity));
 
         LOGGER.info("Trying to create topic: delete-card-by-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, String> responseTopic = new ProducerRecord<>(
-                "delete-card-by-account-id-response", null, "Cards deleted successfully");
+                replyTopicResolver.resolve("delete-card-by-account-id-response"), null, "Cards deleted successfully");
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseMessageKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -445,11 +515,12 @@ public class KafkaCardServiceImpl implements KafkaCardService {
 
     @Override
     @KafkaListener(topics = "delete-card-by-holder-id", groupId = "card-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.delete-card-by-holder-id.concurrency:${kafka.listener.concurrency:1}}")
     public void deleteAllUsersCardsByCardHolderUUID(UUID cardHolderUUID, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: delete-card-by-holder-id with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, cardHolderUUID);
-        usersComponentClient.findById(cardHolderUUID)
+        usersNearCache.findById(cardHolderUUID)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, cardHolderUUID);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
@@ -457,17 +528,25 @@ public class KafkaCardServiceImpl implements KafkaCardService {
                 });
 
         LOGGER.info("Trying to find User Cards with User ID: {}", cardHolderUUID);
-        cardRepository.findAllByCardHolderUUID(cardHolderUUID)
-                .forEach(cardEntity -> {
-                    cardEntity.setStatus("DEACTIVATED");
-                    LOGGER.info("Account Cards Status was changed to - DEACTIVATED: {}", cardEntity);
-                });
+        List<Card> deactivatedCards = cardRepository.findAllByCardHolderUUID(cardHolderUUID);
+        deactivatedCards.forEach(cardEntity -> {
+            cardEntity.setStatus("DEACTIVATED");
+            LOGGER.info("Account Cards Status was changed to - DEACTIVATED: {}", cardEntity);
+        });
+        cardRepository.saveAll(deactivatedCards)
+                .forEach(cardEntity -> cardEventPublisher.publish(CardEventPublisher.DEACTIVATED, cardEntity));
 
         LOGGER.info("Trying to create topic: delete-card-by-holder-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, String> responseTopic = new ProducerRecord<>(
-                "delete-card-by-holder-id-response", null, "Cards deleted successfully");
+                replyTopicResolver.resolve("delete-card-by-holder-id-response"), null, "Cards deleted successfully");
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseMessageKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
+
+    private static String extractCorrelationId(ConsumerRecord<?, ?> record) {
+        return Optional.ofNullable(record.headers().lastHeader(KafkaHeaders.CORRELATION_ID))
+                .map(header -> new String(header.value(), StandardCharsets.UTF_8))
+                .orElse(null);
+    }
 }
@@ -3,6 +3,8 @@ package com.example.cardcomponent.service;
 import com.example.cardcomponent.dto.CardDTO;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 public interface RestCardService {
@@ -15,6 +17,10 @@ public interface RestCardService {
 
     List<CardDTO> getAllAccountCardsByAccountId(UUID accountId);
 
+    Map<UUID, List<CardDTO>> getAllCardsByAccountIds(Set<UUID> accountIds);
+
+    int deactivateAllCardsByAccountIds(Set<UUID> accountIds);
+
     List<CardDTO> getAllUserCardsByCardHolderId(UUID holderId);
 
     List<CardDTO> getAllUserCardsByStatus(UUID holderId, String status);
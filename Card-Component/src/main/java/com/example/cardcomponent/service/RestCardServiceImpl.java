@@ -2,7 +2,6 @@ package com.example.cardcomponent.service;
 
 import com.example.cardcomponent.dto.CardDTO;
 import com.example.cardcomponent.feign.AccountComponentClient;
-import com.example.cardcomponent.feign.UsersComponentClient;
 import com.example.cardcomponent.model.Card;
 import com.example.cardcomponent.repository.CardRepository;
 import org.slf4j.Logger;
@@ -13,7 +12,11 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -29,21 +32,25 @@ public class RestCardServiceImpl implements RestCardService {
     private static final String CARD_FOUND_LOG = "Card was found and received to the Controller: {}";
 
     private final CardRepository cardRepository;
-    private final UsersComponentClient usersComponentClient;
+    private final UsersNearCache usersNearCache;
     private final AccountComponentClient accountComponentClient;
+    private final CardEventPublisher cardEventPublisher;
 
     public RestCardServiceImpl(CardRepository cardRepository,
-                               @Qualifier("Users-Components") UsersComponentClient usersComponentClient,
-                               @Qualifier("Account-Components") AccountComponentClient accountComponentClient) {
+                               UsersNearCache usersNearCache,
+                               @Qualifier("Account-Components") AccountComponentClient accountComponentClient,
+                               CardEventPublisher cardEventPublisher) {
         this.cardRepository = cardRepository;
-        this.usersComponentClient = usersComponentClient;
+        this.usersNearCache = usersNearCache;
         this.accountComponentClient = accountComponentClient;
+        this.cardEventPublisher = cardEventPublisher;
     }
 
 
     private CardDTO convertCardModelToDTO(Card card) {
         CardDTO cardDTO = new CardDTO();
         cardDTO.setId(card.getId());
+        cardDTO.setAccountId(card.getAccountId());
         cardDTO.setCardNumber(card.getCardNumber());
         cardDTO.setCardHolderFullName(card.getCardHolderFullName());
         cardDTO.setCardHolderId(card.getCardHolderUUID());
@@ -87,8 +94,7 @@ public class RestCardServiceImpl implements RestCardService {
     @Override
     public List<CardDTO> getCardsByCardHolderFullName(String cardHolderFullName) {
         LOGGER.info(USER_SEARCHING_LOG, cardHolderFullName);
-        usersComponentClient.existenceCheck(cardHolderFullName)
-                .filter(Boolean.TRUE::equals)
+        usersNearCache.findByFullName(cardHolderFullName)
                 .orElseThrow(() -> {
                     LOGGER.error(ACCOUNT_NOT_FOUND_LOG, cardHolderFullName);
                     return new ResponseStatusException(HttpStatus.NOT_FOUND,
@@ -124,11 +130,36 @@ public class RestCardServiceImpl implements RestCardService {
                 .toList();
     }
 
+    @Override
+    public Map<UUID, List<CardDTO>> getAllCardsByAccountIds(Set<UUID> accountIds) {
+        LOGGER.info("Trying to find all Cards linked to {} Accounts", accountIds.size());
+        Map<UUID, List<CardDTO>> cardsByAccountId = new LinkedHashMap<>();
+        accountIds.forEach(accountId -> cardsByAccountId.put(accountId, new ArrayList<>()));
+        if (accountIds.isEmpty()) {
+            return cardsByAccountId;
+        }
+        List<Card> cards = cardRepository.findAllByAccountIdIn(accountIds);
+        LOGGER.info(CARD_FOUND_LOG, cards);
+        cards.forEach(card -> cardsByAccountId.get(card.getAccountId()).add(convertCardModelToDTO(card)));
+        return cardsByAccountId;
+    }
+
+    @Override
+    public int deactivateAllCardsByAccountIds(Set<UUID> accountIds) {
+        if (accountIds.isEmpty()) {
+            return 0;
+        }
+        LOGGER.info("Trying to deactivate all Cards linked to {} Accounts", accountIds.size());
+        List<Card> deactivatedCards = cardRepository.deactivateAllByAccountIdIn(accountIds);
+        LOGGER.info("{} Cards Status was changed to - DEACTIVATED", deactivatedCards.size());
+        deactivatedCards.forEach(card -> cardEventPublisher.publish(CardEventPublisher.DEACTIVATED, card));
+        return deactivatedCards.size();
+    }
+
     @Override
     public List<CardDTO> getAllUserCardsByCardHolderId(UUID holderId) {
         LOGGER.info(USER_SEARCHING_LOG, holderId);
-        usersComponentClient.existenceCheck(holderId)
-                .filter(Boolean.TRUE::equals)
+        usersNearCache.findById(holderId)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, holderId);
                     return new ResponseStatusException(HttpStatus.NOT_FOUND,
@@ -147,8 +178,7 @@ public class RestCardServiceImpl implements RestCardService {
     @Override
     public List<CardDTO> getAllUserCardsByStatus(UUID holderId, String status) {
         LOGGER.info(USER_SEARCHING_LOG, holderId);
-        usersComponentClient.existenceCheck(holderId)
-                .filter(Boolean.TRUE::equals)
+        usersNearCache.findById(holderId)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, holderId);
                     return new ResponseStatusException(HttpStatus.NOT_FOUND,
@@ -168,8 +198,7 @@ public class RestCardServiceImpl implements RestCardService {
     @Override
     public List<CardDTO> getAllExpiredCards(UUID holderId) {
         LOGGER.info(USER_SEARCHING_LOG, holderId);
-        usersComponentClient.existenceCheck(holderId)
-                .filter(Boolean.TRUE::equals)
+        usersNearCache.findById(holderId)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, holderId);
                     return new ResponseStatusException(HttpStatus.NOT_FOUND,
@@ -191,8 +220,7 @@ public class RestCardServiceImpl implements RestCardService {
     @Override
     public List<CardDTO> getAllActiveCards(UUID holderId) {
         LOGGER.info(USER_SEARCHING_LOG, holderId);
-        usersComponentClient.existenceCheck(holderId)
-                .filter(Boolean.TRUE::equals)
+        usersNearCache.findById(holderId)
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, holderId);
                     return new ResponseStatusException(HttpStatus.NOT_FOUND,
@@ -0,0 +1,53 @@
+package com.example.cardcomponent.service;
+
+import com.example.cardcomponent.dto.UsersDTO;
+import com.example.cardcomponent.feign.UsersComponentClient;
+import com.example.kafkaschema.cache.NearCache;
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class UsersNearCache {
+    public static final String USER_EVENTS_TOPIC = "user-events";
+    private static final Logger LOGGER = LoggerFactory.getLogger(UsersNearCache.class);
+
+    private final UsersComponentClient usersComponentClient;
+    private final NearCache<UUID, UsersDTO> usersById;
+    private final NearCache<String, UsersDTO> usersByFullName;
+
+    public UsersNearCache(@Qualifier("Users-Components") UsersComponentClient usersComponentClient,
+                          MeterRegistry meterRegistry,
+                          @Value("${users.near-cache.max-entries:10000}") int maxEntries,
+                          @Value("${users.near-cache.ttl-ms:300000}") long ttlMs) {
+        this.usersComponentClient = usersComponentClient;
+        this.usersById = new NearCache<>("users-by-id", maxEntries, Duration.ofMillis(ttlMs),
+                meterRegistry, UsersDTO::getId);
+        this.usersByFullName = new NearCache<>("users-by-full-name", maxEntries, Duration.ofMillis(ttlMs),
+                meterRegistry, UsersDTO::getId);
+    }
+
+    public Optional<UsersDTO> findById(UUID userId) {
+        return usersById.get(userId, usersComponentClient::findById);
+    }
+
+    public Optional<UsersDTO> findByFullName(String userFullName) {
+        return usersByFullName.get(userFullName, usersComponentClient::findByFullName);
+    }
+
+    @KafkaListener(topics = USER_EVENTS_TOPIC, containerFactory = "userEventKafkaListenerFactory")
+    public void onUserEvent(EntityChangeEvent userEvent) {
+        LOGGER.debug("Got {} event for User with ID: {}, invalidating cached lookups", userEvent.change(), userEvent.id());
+        usersById.invalidateById(userEvent.id());
+        usersByFullName.invalidateById(userEvent.id());
+    }
+}
@@ -0,0 +1,16 @@
+CREATE TABLE card
+(
+    id                    uuid PRIMARY KEY,
+    account_id            uuid,
+    card_number           varchar(255),
+    card_holder_full_name varchar(255),
+    card_holderuuid       uuid,
+    expiration_date       date,
+    cvv                   varchar(255),
+    status                varchar(255)
+);
+
+CREATE INDEX idx_card_card_number ON card (card_number);
+CREATE INDEX idx_card_account_id ON card (account_id);
+CREATE INDEX idx_card_holder_uuid_status ON card (card_holderuuid, status);
+CREATE INDEX idx_card_holder_full_name ON card (card_holder_full_name);
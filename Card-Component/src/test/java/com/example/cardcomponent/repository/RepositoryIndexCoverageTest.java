@@ -0,0 +1,92 @@
+package com.example.cardcomponent.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {"spring.cloud.config.enabled=false", "spring.jpa.hibernate.ddl-auto=validate"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RepositoryIndexCoverageTest {
+    private static final IndexedQuery CARD_BY_NUMBER = on("card", "idx_card_card_number", "card_number");
+    private static final IndexedQuery CARD_BY_ACCOUNT = on("card", "idx_card_account_id", "account_id");
+    private static final IndexedQuery CARD_BY_HOLDER_NAME = on("card", "idx_card_holder_full_name",
+            "card_holder_full_name");
+    private static final IndexedQuery CARD_BY_HOLDER = on("card", "idx_card_holder_uuid_status", "card_holderuuid");
+    private static final IndexedQuery CARD_BY_HOLDER_AND_STATUS = on("card", "idx_card_holder_uuid_status",
+            "card_holderuuid", "status");
+
+    private static final Map<String, List<IndexedQuery>> INDEXED_QUERIES = Map.ofEntries(
+            Map.entry("CardRepository.findByCardNumber", List.of(CARD_BY_NUMBER)),
+            Map.entry("CardRepository.findAllByCardHolderFullName", List.of(CARD_BY_HOLDER_NAME)),
+            Map.entry("CardRepository.findAllByAccountId", List.of(CARD_BY_ACCOUNT)),
+            Map.entry("CardRepository.findAllByAccountIdIn", List.of(CARD_BY_ACCOUNT)),
+            Map.entry("CardRepository.deactivateAllByAccountIdIn", List.of(CARD_BY_ACCOUNT)),
+            Map.entry("CardRepository.findAllByCardHolderUUID", List.of(CARD_BY_HOLDER)),
+            Map.entry("CardRepository.findAllByCardHolderUUIDAndStatus", List.of(CARD_BY_HOLDER_AND_STATUS)));
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyRepositoryQueryIsMappedToAnIndex() {
+        List<String> unmappedQueries = Stream.of(CardRepository.class)
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isSynthetic())
+                        .map(method -> repository.getSimpleName() + "." + method.getName()))
+                .filter(query -> !INDEXED_QUERIES.containsKey(query))
+                .toList();
+
+        assertThat(unmappedQueries).as("Repository queries without an index mapping").isEmpty();
+    }
+
+    @Test
+    void everyMappedIndexLeadsWithTheQueriedColumns() {
+        INDEXED_QUERIES.forEach((query, indexedQueries) -> indexedQueries.forEach(indexedQuery ->
+                assertThat(indexColumns(indexedQuery))
+                        .as("%s should be served by index %s", query, indexedQuery.index())
+                        .startsWith(indexedQuery.leadingColumns().toArray(String[]::new))));
+    }
+
+    private List<String> indexColumns(IndexedQuery indexedQuery) {
+        return jdbcTemplate.queryForList("SELECT pg_get_indexdef(i.indexrelid, column_number, true) " +
+                        "FROM pg_index i JOIN pg_class index_class ON index_class.oid = i.indexrelid " +
+                        "CROSS JOIN generate_series(1, i.indnatts) AS column_number " +
+                        "WHERE i.indrelid = CAST(? AS regclass) AND index_class.relname = ? " +
+                        "ORDER BY column_number", String.class, indexedQuery.table(), indexedQuery.index())
+                .stream()
+                .map(RepositoryIndexCoverageTest::normalize)
+                .toList();
+    }
+
+    private static IndexedQuery on(String table, String index, String... leadingColumns) {
+        return new IndexedQuery(table, index, Arrays.stream(leadingColumns)
+                .map(RepositoryIndexCoverageTest::normalize)
+                .toList());
+    }
+
+    private static String normalize(String indexColumn) {
+        return indexColumn.replace("::text", "").replaceAll("[()\\s]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedQuery(String table, String index, List<String> leadingColumns) {
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.kafkaschema;
+
+import com.example.kafkaschema.serde.WireObjectMappers;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class WireFormatBenchmark {
+    @Param({"json", "smile"})
+    private String wireFormat;
+
+    @Param({"5"})
+    private int cardsPerAccount;
+
+    @Param({"50"})
+    private int paymentsPerList;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader accountReader;
+    private ObjectReader paymentsReader;
+    private AccountWire account;
+    private List<PaymentWire> payments;
+    private byte[] encodedAccount;
+    private byte[] encodedPayments;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = "smile".equals(wireFormat) ? WireObjectMappers.smile() : JacksonUtils.enhancedObjectMapper();
+        accountReader = objectMapper.readerFor(AccountWire.class);
+        paymentsReader = objectMapper.readerFor(new TypeReference<List<PaymentWire>>() {
+        });
+        account = accountWithCards(cardsPerAccount);
+        payments = payments(paymentsPerList);
+        encodedAccount = objectMapper.writeValueAsBytes(account);
+        encodedPayments = objectMapper.writeValueAsBytes(payments);
+    }
+
+    @Benchmark
+    public byte[] encodeAccountWithCards(PayloadSize payloadSize) throws Exception {
+        return payloadSize.record(objectMapper.writeValueAsBytes(account));
+    }
+
+    @Benchmark
+    public AccountWire decodeAccountWithCards() throws Exception {
+        return accountReader.readValue(encodedAccount);
+    }
+
+    @Benchmark
+    public byte[] encodePayments(PayloadSize payloadSize) throws Exception {
+        return payloadSize.record(objectMapper.writeValueAsBytes(payments));
+    }
+
+    @Benchmark
+    public List<PaymentWire> decodePayments() throws Exception {
+        return paymentsReader.readValue(encodedPayments);
+    }
+
+    private static AccountWire accountWithCards(int cardCount) {
+        UUID accountId = UUID.randomUUID();
+        UUID holderId = UUID.randomUUID();
+        List<CardWire> cards = new ArrayList<>();
+        for (int i = 0; i < cardCount; i++) {
+            cards.add(new CardWire(UUID.randomUUID(), accountId, holderId, String.format("4000%012d", i),
+                    "John Doe", LocalDate.now().plusYears(4), String.format("%03d", i), "ACTIVE"));
+        }
+        return new AccountWire(accountId, "Main account", new BigDecimal("12345.67"), "John Doe", "ACTIVE",
+                "DEBIT", LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS), "USD", cards);
+    }
+
+    private static List<PaymentWire> payments(int paymentCount) {
+        UUID fromAccount = UUID.randomUUID();
+        List<PaymentWire> payments = new ArrayList<>();
+        for (int i = 0; i < paymentCount; i++) {
+            payments.add(new PaymentWire(UUID.randomUUID(), fromAccount, UUID.randomUUID(),
+                    "Account to Account Transfer", BigDecimal.valueOf(100 + i, 2), "COMPLETED",
+                    LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS), "Payment " + i));
+        }
+        return payments;
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            payloadBytes = 0;
+        }
+
+        byte[] record(byte[] payload) {
+            payloadBytes = payload.length;
+            return payload;
+        }
+    }
+
+    public record AccountWire(UUID id, String accountName, BigDecimal balance, String accountHolderFullName,
+                              String status, String accountType, LocalDateTime createdDate, String currency,
+                              List<CardWire> cards) {
+    }
+
+    public record CardWire(UUID id, UUID accountId, UUID cardHolderId, String cardNumber, String cardHolderFullName,
+                           LocalDate expirationDate, String cvv, String status) {
+    }
+
+    public record PaymentWire(UUID id, UUID fromAccount, UUID toAccount, String paymentType, BigDecimal amount,
+                              String status, LocalDateTime paymentDate, String description) {
+    }
+}
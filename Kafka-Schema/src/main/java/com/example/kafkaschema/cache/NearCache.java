@@ -0,0 +1,117 @@
+package com.example.kafkaschema.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+public class NearCache<K, V> {
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final Function<V, ?> idExtractor;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Object, Set<K>> keysById = new HashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter invalidations;
+    private long invalidationEpoch;
+
+    public NearCache(String name, int maxEntries, Duration ttl, MeterRegistry meterRegistry, Function<V, ?> idExtractor) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.idExtractor = idExtractor;
+        this.hits = Counter.builder("near-cache.hits").tag("cache", name).register(meterRegistry);
+        this.misses = Counter.builder("near-cache.misses").tag("cache", name).register(meterRegistry);
+        this.invalidations = Counter.builder("near-cache.invalidations").tag("cache", name).register(meterRegistry);
+        Gauge.builder("near-cache.size", this, NearCache::size).tag("cache", name).register(meterRegistry);
+    }
+
+    public Optional<V> get(K key, Function<K, Optional<V>> loader) {
+        long epoch;
+        synchronized (this) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && System.nanoTime() - entry.loadedAt() < ttlNanos) {
+                hits.increment();
+                return Optional.of(entry.value());
+            }
+            if (entry != null) {
+                remove(key, entry);
+            }
+            epoch = invalidationEpoch;
+        }
+        misses.increment();
+        Optional<V> loaded = loader.apply(key);
+        loaded.ifPresent(value -> put(key, value, epoch));
+        return loaded;
+    }
+
+    public synchronized void invalidateById(Object id) {
+        invalidationEpoch++;
+        Set<K> keys = keysById.remove(id);
+        if (keys != null) {
+            keys.forEach(entries::remove);
+            invalidations.increment(keys.size());
+        }
+    }
+
+    public synchronized void clear() {
+        invalidationEpoch++;
+        entries.clear();
+        keysById.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void put(K key, V value, long loadedInEpoch) {
+        if (loadedInEpoch != invalidationEpoch) {
+            return;
+        }
+        Entry<V> previous = entries.put(key, new Entry<>(value, System.nanoTime()));
+        if (previous != null) {
+            unindex(key, previous);
+        }
+        Object id = idExtractor.apply(value);
+        if (id != null) {
+            keysById.computeIfAbsent(id, ignored -> new HashSet<>()).add(key);
+        }
+        Iterator<Map.Entry<K, Entry<V>>> eldest = entries.entrySet().iterator();
+        while (entries.size() > maxEntries && eldest.hasNext()) {
+            Map.Entry<K, Entry<V>> evicted = eldest.next();
+            eldest.remove();
+            unindex(evicted.getKey(), evicted.getValue());
+        }
+    }
+
+    private void remove(K key, Entry<V> entry) {
+        entries.remove(key);
+        unindex(key, entry);
+    }
+
+    private void unindex(K key, Entry<V> entry) {
+        Object id = idExtractor.apply(entry.value());
+        if (id == null) {
+            return;
+        }
+        Set<K> keys = keysById.get(id);
+        if (keys != null) {
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                keysById.remove(id);
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.kafkaschema.group;
+
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.ConsumerGroupListing;
+import org.apache.kafka.common.ConsumerGroupState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class InstanceConsumerGroups {
+    private static final Logger LOGGER = LoggerFactory.getLogger(InstanceConsumerGroups.class);
+    private static final long ADMIN_TIMEOUT_SECONDS = 30;
+
+    private final String applicationName;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, Object> adminConfig;
+    private final Set<String> purposes = ConcurrentHashMap.newKeySet();
+
+    public InstanceConsumerGroups(String applicationName, Map<String, Object> adminConfig) {
+        this.applicationName = applicationName;
+        this.adminConfig = adminConfig;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    public String groupId(String purpose) {
+        purposes.add(purpose);
+        return instanceGroupId(purpose);
+    }
+
+    public void sweepStaleGroups() {
+        if (purposes.isEmpty()) {
+            return;
+        }
+        try (Admin admin = Admin.create(adminConfig)) {
+            List<String> siblingGroups = admin.listConsumerGroups().all().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                    .stream()
+                    .map(ConsumerGroupListing::groupId)
+                    .filter(this::isSiblingGroup)
+                    .toList();
+            if (siblingGroups.isEmpty()) {
+                return;
+            }
+            Map<String, ConsumerGroupDescription> groups = admin.describeConsumerGroups(siblingGroups).all()
+                    .get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            List<String> staleGroups = siblingGroups.stream()
+                    .filter(groupId -> groups.containsKey(groupId)
+                            && groups.get(groupId).state() == ConsumerGroupState.EMPTY)
+                    .toList();
+            if (staleGroups.isEmpty()) {
+                return;
+            }
+            admin.deleteConsumerGroups(staleGroups).all().get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            LOGGER.info("Deleted consumer groups of stopped {} instances: {}", applicationName, staleGroups);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException exception) {
+            LOGGER.warn("Stale consumer group sweep failed, retrying on the next run: {}", exception.getMessage());
+        }
+    }
+
+    private boolean isSiblingGroup(String groupId) {
+        return purposes.stream().anyMatch(purpose -> groupId.equals(sharedGroupId(purpose))
+                || groupId.startsWith(sharedGroupId(purpose) + "-") && !groupId.equals(instanceGroupId(purpose)));
+    }
+
+    private String instanceGroupId(String purpose) {
+        return sharedGroupId(purpose) + "-" + instanceId;
+    }
+
+    private String sharedGroupId(String purpose) {
+        return applicationName + "-" + purpose;
+    }
+}
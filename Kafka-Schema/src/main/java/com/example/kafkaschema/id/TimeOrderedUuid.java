@@ -0,0 +1,37 @@
+package com.example.kafkaschema.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class TimeOrderedUuid {
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC_9562 = 0x8000000000000000L;
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_TIMESTAMP_AND_SEQUENCE = new AtomicLong();
+
+    private TimeOrderedUuid() {
+    }
+
+    public static UUID next() {
+        long timestampAndSequence = nextTimestampAndSequence(System.currentTimeMillis());
+        long mostSigBits = (timestampAndSequence >>> SEQUENCE_BITS) << 16 | VERSION_7
+                | (timestampAndSequence & SEQUENCE_MASK);
+        long leastSigBits = RANDOM.nextLong() & VARIANT_MASK | VARIANT_RFC_9562;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    public static long timestampMillis(UUID uuid) {
+        return uuid.getMostSignificantBits() >>> 16;
+    }
+
+    private static long nextTimestampAndSequence(long nowMillis) {
+        // Within one millisecond the 12-bit sequence keeps ids strictly increasing; when it runs out
+        // the carry moves the timestamp a millisecond ahead instead of repeating a value.
+        return LAST_TIMESTAMP_AND_SEQUENCE.accumulateAndGet(nowMillis << SEQUENCE_BITS,
+                (last, candidate) -> candidate > last ? candidate : last + 1);
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.kafkaschema.routing;
+
+import com.example.kafkaschema.schema.ReadYourWritesPin;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.kafka.listener.RecordInterceptor;
+import org.springframework.lang.NonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWritesContext {
+    public static final String SESSION_HEADER = "x-session-id";
+
+    private final ThreadLocal<String> currentSessionId = new ThreadLocal<>();
+    private final Map<String, Long> pinnedUntil = new ConcurrentHashMap<>();
+    private final long pinWindowMillis;
+    private final java.util.function.Consumer<ReadYourWritesPin> pinPublisher;
+
+    public ReadYourWritesContext(Duration pinWindow, MeterRegistry meterRegistry,
+                                 java.util.function.Consumer<ReadYourWritesPin> pinPublisher) {
+        this.pinWindowMillis = pinWindow.toMillis();
+        this.pinPublisher = pinPublisher;
+        Gauge.builder("datasource.read-your-writes.pinned", pinnedUntil, Map::size)
+                .description("Sessions whose reads are pinned to the primary after a write on any instance")
+                .register(meterRegistry);
+    }
+
+    public <K, V> RecordInterceptor<K, V> recordInterceptor() {
+        return new RecordInterceptor<>() {
+            @Override
+            public ConsumerRecord<K, V> intercept(@NonNull ConsumerRecord<K, V> record, @NonNull Consumer<K, V> consumer) {
+                Header header = record.headers().lastHeader(SESSION_HEADER);
+                bind(header != null ? new String(header.value(), StandardCharsets.UTF_8) : null);
+                return record;
+            }
+
+            @Override
+            public void afterRecord(@NonNull ConsumerRecord<K, V> record, @NonNull Consumer<K, V> consumer) {
+                clear();
+            }
+        };
+    }
+
+    public void bind(String sessionId) {
+        if (sessionId == null || sessionId.isBlank()) {
+            currentSessionId.remove();
+        } else {
+            currentSessionId.set(sessionId);
+        }
+    }
+
+    public void clear() {
+        currentSessionId.remove();
+    }
+
+    public String getSessionId() {
+        return currentSessionId.get();
+    }
+
+    public void recordWrite() {
+        String sessionId = currentSessionId.get();
+        if (sessionId == null) {
+            return;
+        }
+        long until = System.currentTimeMillis() + pinWindowMillis;
+        Long previous = pinnedUntil.put(sessionId, until);
+        if (previous == null || until - previous >= pinWindowMillis / 2) {
+            pinPublisher.accept(new ReadYourWritesPin(sessionId, until));
+        }
+    }
+
+    public void applyPin(ReadYourWritesPin pin) {
+        if (pin.pinnedUntil() > System.currentTimeMillis()) {
+            pinnedUntil.merge(pin.sessionId(), pin.pinnedUntil(), Math::max);
+        }
+    }
+
+    public boolean isPinned() {
+        String sessionId = currentSessionId.get();
+        if (sessionId == null) {
+            return false;
+        }
+        Long until = pinnedUntil.get(sessionId);
+        if (until == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() > until) {
+            pinnedUntil.remove(sessionId, until);
+            return false;
+        }
+        return true;
+    }
+
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        pinnedUntil.entrySet().removeIf(pin -> now > pin.getValue());
+    }
+}
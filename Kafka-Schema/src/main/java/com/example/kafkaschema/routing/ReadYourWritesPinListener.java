@@ -0,0 +1,30 @@
+package com.example.kafkaschema.routing;
+
+import com.example.kafkaschema.schema.ReadYourWritesPin;
+import org.springframework.kafka.annotation.KafkaListener;
+
+public class ReadYourWritesPinListener {
+    public static final String CONTAINER_FACTORY = "readYourWritesPinKafkaListenerFactory";
+    private static final String TOPIC_SUFFIX = "-read-your-writes-pins";
+
+    private final ReadYourWritesContext readYourWritesContext;
+    private final String topic;
+
+    public ReadYourWritesPinListener(ReadYourWritesContext readYourWritesContext, String applicationName) {
+        this.readYourWritesContext = readYourWritesContext;
+        this.topic = topicFor(applicationName);
+    }
+
+    public static String topicFor(String applicationName) {
+        return applicationName + TOPIC_SUFFIX;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    @KafkaListener(topics = "#{__listener.topic}", containerFactory = CONTAINER_FACTORY)
+    public void onPin(ReadYourWritesPin pin) {
+        readYourWritesContext.applyPin(pin);
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.kafkaschema.routing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+    private static final String REPOSITORY_DEFAULT_TRANSACTION_PREFIX = "org.springframework.data.";
+    private static final String REPLICA_LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS bigint), " +
+            Long.MAX_VALUE + ") END";
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final ReadYourWritesContext readYourWritesContext;
+    private final long maxLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final Counter pinnedReads;
+    private final Counter laggingFallbacks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReadYourWritesContext readYourWritesContext, Duration maxLag,
+                                    MeterRegistry meterRegistry) {
+        this.primary = primary;
+        this.readYourWritesContext = readYourWritesContext;
+        this.maxLagMillis = maxLag.toMillis();
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> {
+            Replica replica = new Replica(name, dataSource, Counter.builder("datasource.replica.reads")
+                    .tag("replica", name)
+                    .register(meterRegistry));
+            Gauge.builder("datasource.replica.lag", replica, Replica::getLagMillis)
+                    .tag("replica", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+            this.replicas.add(replica);
+            targetDataSources.put(name, dataSource);
+        });
+        this.pinnedReads = Counter.builder("datasource.primary.fallbacks").tag("reason", "read-your-writes")
+                .register(meterRegistry);
+        this.laggingFallbacks = Counter.builder("datasource.primary.fallbacks").tag("reason", "replica-lag")
+                .register(meterRegistry);
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!isReplicaEligible()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()
+                    && !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+                readYourWritesContext.recordWrite();
+            }
+            return PRIMARY;
+        }
+        if (readYourWritesContext.isPinned()) {
+            pinnedReads.increment();
+            return PRIMARY;
+        }
+        for (int attempt = 0; attempt < replicas.size(); attempt++) {
+            Replica replica = replicas.get(Math.floorMod(nextReplica.getAndIncrement(), replicas.size()));
+            if (replica.getLagMillis() <= maxLagMillis) {
+                replica.reads().increment();
+                return replica.name();
+            }
+        }
+        laggingFallbacks.increment();
+        return PRIMARY;
+    }
+
+    public void probeReplicaLag() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource().getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(REPLICA_LAG_QUERY)) {
+                resultSet.next();
+                long lagMillis = resultSet.getLong(1);
+                if (lagMillis > maxLagMillis && replica.getLagMillis() <= maxLagMillis) {
+                    LOGGER.warn("Replica: {} is {} ms behind the primary, routing its reads to the primary",
+                            replica.name(), lagMillis);
+                }
+                replica.setLagMillis(lagMillis);
+            } catch (SQLException exception) {
+                if (replica.getLagMillis() != Long.MAX_VALUE) {
+                    LOGGER.error("Replica: {} is unreachable, routing its reads to the primary: {}",
+                            replica.name(), exception.getMessage());
+                }
+                replica.setLagMillis(Long.MAX_VALUE);
+            }
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private boolean isReplicaEligible() {
+        if (replicas.isEmpty() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return false;
+        }
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        return transactionName == null || !transactionName.startsWith(REPOSITORY_DEFAULT_TRANSACTION_PREFIX);
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter reads;
+        private volatile long lagMillis = Long.MAX_VALUE;
+
+        private Replica(String name, DataSource dataSource, Counter reads) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.reads = reads;
+        }
+
+        String name() {
+            return name;
+        }
+
+        DataSource dataSource() {
+            return dataSource;
+        }
+
+        Counter reads() {
+            return reads;
+        }
+
+        long getLagMillis() {
+            return lagMillis;
+        }
+
+        void setLagMillis(long lagMillis) {
+            this.lagMillis = lagMillis;
+        }
+    }
+}
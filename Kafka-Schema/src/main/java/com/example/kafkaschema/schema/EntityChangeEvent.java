@@ -0,0 +1,10 @@
+package com.example.kafkaschema.schema;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record EntityChangeEvent(String entity, UUID id, String change, Instant occurredAt) {
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+}
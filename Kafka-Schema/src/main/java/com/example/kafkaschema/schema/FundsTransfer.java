@@ -0,0 +1,16 @@
+package com.example.kafkaschema.schema;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+public record FundsTransfer(UUID paymentId, UUID fromAccountId, UUID toAccountId, BigDecimal amount,
+                            Instant occurredAt) {
+    public static final String TRANSFER_TOPIC = "transfer-funds";
+    public static final String APPLIED_TOPIC = "applied-funds-transfers";
+    public static final String REJECTED_TOPIC = "rejected-funds-transfers";
+
+    public String transferId() {
+        return paymentId + ":TRANSFER";
+    }
+}
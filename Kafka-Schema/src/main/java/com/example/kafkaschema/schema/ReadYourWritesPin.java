@@ -0,0 +1,4 @@
+package com.example.kafkaschema.schema;
+
+public record ReadYourWritesPin(String sessionId, long pinnedUntil) {
+}
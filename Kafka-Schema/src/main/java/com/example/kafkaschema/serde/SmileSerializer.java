@@ -0,0 +1,9 @@
+package com.example.kafkaschema.serde;
+
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+public class SmileSerializer<T> extends JsonSerializer<T> {
+    public SmileSerializer() {
+        super(WireObjectMappers.smile());
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.kafkaschema.serde;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.util.Map;
+
+public class WireDeserializer<T> implements Deserializer<T> {
+    private final JsonDeserializer<T> jsonDeserializer = new JsonDeserializer<>();
+    private final JsonDeserializer<T> smileDeserializer = new JsonDeserializer<>(WireObjectMappers.smile());
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        jsonDeserializer.configure(configs, isKey);
+        smileDeserializer.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return delegateFor(data).deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        return delegateFor(data).deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+        smileDeserializer.close();
+    }
+
+    private JsonDeserializer<T> delegateFor(byte[] data) {
+        return WireFormat.isSmile(data) ? smileDeserializer : jsonDeserializer;
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.kafkaschema.serde;
+
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+public final class WireFormat {
+    public static final String PROPERTY = "kafka.wire-format";
+    public static final String JSON = "json";
+    public static final String SMILE = "smile";
+
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+    private WireFormat() {
+    }
+
+    public static Class<?> serializerFor(String wireFormat) {
+        if (SMILE.equalsIgnoreCase(wireFormat)) {
+            return SmileSerializer.class;
+        }
+        if (JSON.equalsIgnoreCase(wireFormat)) {
+            return JsonSerializer.class;
+        }
+        throw new IllegalArgumentException("Unsupported Kafka wire format: " + wireFormat);
+    }
+
+    public static boolean isSmile(byte[] data) {
+        if (data == null || data.length < SMILE_HEADER.length) {
+            return false;
+        }
+        for (int i = 0; i < SMILE_HEADER.length; i++) {
+            if (data[i] != SMILE_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
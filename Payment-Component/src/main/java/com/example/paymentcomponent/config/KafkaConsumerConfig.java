@@ -1,5 +1,11 @@
 package com.example.paymentcomponent.config;
 
+import com.example.kafkaschema.group.InstanceConsumerGroups;
+import com.example.kafkaschema.routing.ReadYourWritesContext;
+import com.example.kafkaschema.routing.ReadYourWritesPinListener;
+import com.example.kafkaschema.schema.FundsTransfer;
+import com.example.kafkaschema.schema.ReadYourWritesPin;
+import com.example.kafkaschema.serde.WireDeserializer;
 import com.example.paymentcomponent.dto.PaymentDTO;
 import com.example.paymentcomponent.exception.GlobalKafkaExceptionHandler;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -11,8 +17,12 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.CompositeRecordInterceptor;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.RecordInterceptor;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.util.backoff.ExponentialBackOff;
 
 import java.util.List;
 import java.util.Map;
@@ -27,10 +37,25 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String kafkaBootstrapServers;
 
+    @Value("${kafka.batch.max-records:100}")
+    private int batchMaxRecords;
+
     private final GlobalKafkaExceptionHandler globalKafkaExceptionHandler;
+    private final ReplyTopicResolver replyTopicResolver;
+    private final RequestDeadlineContext requestDeadlineContext;
+    private final ReadYourWritesContext readYourWritesContext;
+    private final InstanceConsumerGroups instanceConsumerGroups;
 
-    public KafkaConsumerConfig(GlobalKafkaExceptionHandler globalKafkaExceptionHandler) {
+    public KafkaConsumerConfig(GlobalKafkaExceptionHandler globalKafkaExceptionHandler,
+                               ReplyTopicResolver replyTopicResolver,
+                               RequestDeadlineContext requestDeadlineContext,
+                               ReadYourWritesContext readYourWritesContext,
+                               InstanceConsumerGroups instanceConsumerGroups) {
         this.globalKafkaExceptionHandler = globalKafkaExceptionHandler;
+        this.replyTopicResolver = replyTopicResolver;
+        this.requestDeadlineContext = requestDeadlineContext;
+        this.readYourWritesContext = readYourWritesContext;
+        this.instanceConsumerGroups = instanceConsumerGroups;
     }
 
     @Bean
@@ -40,7 +65,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniquePaymentComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.paymentcomponent.dto.PaymentDTO",
                 JsonDeserializer.TRUSTED_PACKAGES, "*",
                 JsonDeserializer.TYPE_MAPPINGS,
@@ -54,6 +79,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(paymentDTOConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -64,7 +90,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniquePaymentComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.ArrayList",
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -76,6 +102,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(listOfPaymentDTOConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -86,7 +113,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniquePaymentComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
     }
@@ -97,6 +124,31 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(uuidConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, UUID> uuidBatchConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, uniquePaymentComponentGroupId,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ConsumerConfig.MAX_POLL_RECORDS_CONFIG, batchMaxRecords,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "*"
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UUID> uuidBatchKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, UUID> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(uuidBatchConsumerFactory());
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setBatchInterceptor(requestDeadlineContext.batchInterceptor());
         return factory;
     }
 
@@ -107,7 +159,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniquePaymentComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.HashMap",
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -119,6 +171,58 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(mapObjectToObjectConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
+        return factory;
+    }
+
+    @Bean
+    public ConsumerFactory<String, FundsTransfer> fundsTransferConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, uniquePaymentComponentGroupId,
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, FundsTransfer.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example.kafkaschema.schema"
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, FundsTransfer> fundsTransferKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, FundsTransfer> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(fundsTransferConsumerFactory());
+        ExponentialBackOff backOff = new ExponentialBackOff(200L, 2.0);
+        backOff.setMaxInterval(10_000L);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
         return factory;
     }
+
+    @Bean
+    public ConsumerFactory<String, ReadYourWritesPin> readYourWritesPinConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, instanceConsumerGroups.groupId("read-your-writes-pins"),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, ReadYourWritesPin.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example.kafkaschema.schema"
+        ));
+    }
+
+    @Bean(ReadYourWritesPinListener.CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, ReadYourWritesPin> readYourWritesPinKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ReadYourWritesPin> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(readYourWritesPinConsumerFactory());
+        return factory;
+    }
+
+    private <K, V> RecordInterceptor<K, V> requestRecordInterceptor() {
+        return new CompositeRecordInterceptor<>(requestDeadlineContext.recordInterceptor(),
+                replyTopicResolver.recordInterceptor(), readYourWritesContext.recordInterceptor());
+    }
 }
@@ -0,0 +1,53 @@
+package com.example.paymentcomponent.config;
+
+import com.example.kafkaschema.routing.ReadYourWritesPinListener;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.List;
+
+@Configuration
+public class KafkaTopicConfig {
+    private static final List<String> REQUEST_TOPICS = List.of(
+            "create-payment-by-accounts",
+            "create-payment-by-cards",
+            "get-payment-by-id",
+            "get-all-payments-by-from-account-id",
+            "get-payments-by-status",
+            "get-all-payments-by-to-account",
+            "get-all-payments-by-payment-type",
+            "get-all-from-account-payments-by-date-range",
+            "get-all-to-account-payments-by-date-range"
+    );
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${kafka.topics.partitions:1}")
+    private int requestTopicPartitions;
+
+    @Value("${kafka.topics.replicas:1}")
+    private int requestTopicReplicas;
+
+    @Bean
+    public KafkaAdmin.NewTopics requestTopics() {
+        return new KafkaAdmin.NewTopics(REQUEST_TOPICS.stream()
+                .map(topic -> TopicBuilder.name(topic)
+                        .partitions(requestTopicPartitions)
+                        .replicas(requestTopicReplicas)
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+
+    @Bean
+    public NewTopic readYourWritesPinsTopic() {
+        return TopicBuilder.name(ReadYourWritesPinListener.topicFor(applicationName))
+                .partitions(requestTopicPartitions)
+                .replicas(requestTopicReplicas)
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.paymentcomponent.filter;
+
+import com.example.kafkaschema.routing.ReadYourWritesContext;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+@Component
+public class SessionIdFilter extends OncePerRequestFilter {
+    private final ReadYourWritesContext readYourWritesContext;
+
+    public SessionIdFilter(ReadYourWritesContext readYourWritesContext) {
+        this.readYourWritesContext = readYourWritesContext;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        readYourWritesContext.bind(request.getHeader(ReadYourWritesContext.SESSION_HEADER));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            readYourWritesContext.clear();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.paymentcomponent.model;
 
+import com.example.kafkaschema.id.TimeOrderedId;
 import jakarta.persistence.*;
 
 import java.math.BigDecimal;
@@ -9,7 +10,7 @@ import java.util.UUID;
 @Entity
 public class Payment {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
     private BigDecimal amount;
     private UUID fromAccountId;
@@ -0,0 +1,66 @@
+package com.example.paymentcomponent.model;
+
+import com.example.kafkaschema.schema.FundsTransfer;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+@Entity
+@Table(name = "payment_outbox")
+public class PaymentOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "payment_outbox_seq")
+    @SequenceGenerator(name = "payment_outbox_seq", sequenceName = "payment_outbox_seq", allocationSize = 50)
+    private Long id;
+    private String topic;
+    private UUID paymentId;
+    private UUID fromAccountId;
+    private UUID toAccountId;
+    private BigDecimal amount;
+    private Instant occurredAt;
+    private String correlationId;
+    private LocalDateTime createdDate;
+
+    public PaymentOutbox() {
+    }
+
+    public PaymentOutbox(String topic, FundsTransfer fundsTransfer, String correlationId) {
+        this.topic = topic;
+        this.paymentId = fundsTransfer.paymentId();
+        this.fromAccountId = fundsTransfer.fromAccountId();
+        this.toAccountId = fundsTransfer.toAccountId();
+        this.amount = fundsTransfer.amount();
+        this.occurredAt = fundsTransfer.occurredAt();
+        this.correlationId = correlationId;
+        this.createdDate = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public UUID getFromAccountId() {
+        return fromAccountId;
+    }
+
+    public String getCorrelationId() {
+        return correlationId;
+    }
+
+    public FundsTransfer toFundsTransfer() {
+        return new FundsTransfer(paymentId, fromAccountId, toAccountId, amount, occurredAt);
+    }
+}
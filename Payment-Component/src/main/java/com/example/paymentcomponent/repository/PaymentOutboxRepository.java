@@ -0,0 +1,18 @@
+package com.example.paymentcomponent.repository;
+
+import com.example.paymentcomponent.model.PaymentOutbox;
+import feign.Param;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PaymentOutboxRepository extends JpaRepository<PaymentOutbox, Long> {
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:lockKey)", nativeQuery = true)
+    boolean tryRelayLock(@Param("lockKey") long lockKey);
+
+    @Query(value = "SELECT * FROM payment_outbox ORDER BY id LIMIT :batchSize", nativeQuery = true)
+    List<PaymentOutbox> findNextBatch(@Param("batchSize") int batchSize);
+}
@@ -1,7 +1,10 @@
 package com.example.paymentcomponent.repository;
 
 import com.example.paymentcomponent.model.Payment;
+import feign.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -24,4 +27,7 @@ public interface PaymentRepository extends JpaRepository<Payment, UUID> {
                                                             LocalDateTime fromPaymentDate,
                                                             LocalDateTime toPaymentDate);
 
+    @Modifying
+    @Query("UPDATE Payment payment SET payment.status = :status WHERE payment.id = :id AND payment.status = 'PENDING'")
+    int settlePendingById(@Param("id") UUID id, @Param("status") String status);
 }
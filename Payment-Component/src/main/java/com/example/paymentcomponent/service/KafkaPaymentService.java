@@ -1,11 +1,14 @@
 package com.example.paymentcomponent.service;
 
+import com.example.kafkaschema.schema.FundsTransfer;
 import com.example.paymentcomponent.dto.DateRangeRequestDTO;
 import com.example.paymentcomponent.dto.PaymentDTO;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -16,6 +19,8 @@ public interface KafkaPaymentService {
 
     void getPaymentById(UUID paymentId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
 
+    void getPaymentsByIds(List<ConsumerRecord<String, UUID>> records);
+
     void getAllAccountPaymentsByFromAccount(UUID fromAccountId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
 
     void getPaymentsByStatus(Map<String, String> mapFromAccountUUIDToStatus, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
@@ -27,4 +32,6 @@ public interface KafkaPaymentService {
     void getAllFromAccountPaymentsByPaymentDateRange(DateRangeRequestDTO requestDTO, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
 
     void getAllToAccountPaymentsByPaymentDateRange(DateRangeRequestDTO requestDTO, @Header(KafkaHeaders.CORRELATION_ID) String correlationId);
+
+    void settlePayment(ConsumerRecord<String, FundsTransfer> transferOutcome);
 }
@@ -1,14 +1,19 @@
 package com.example.paymentcomponent.service;
 
+import com.example.kafkaschema.schema.FundsTransfer;
+import com.example.paymentcomponent.config.ReplyTopicResolver;
 import com.example.paymentcomponent.dto.AccountDTO;
 import com.example.paymentcomponent.dto.DateRangeRequestDTO;
 import com.example.paymentcomponent.dto.PaymentDTO;
 import com.example.paymentcomponent.exception.CustomKafkaException;
+import com.example.paymentcomponent.exception.GlobalKafkaExceptionHandler;
 import com.example.paymentcomponent.feign.AccountComponentClient;
 import com.example.paymentcomponent.feign.CardComponentClient;
 import com.example.paymentcomponent.model.Payment;
+import com.example.paymentcomponent.model.PaymentOutbox;
+import com.example.paymentcomponent.repository.PaymentOutboxRepository;
 import com.example.paymentcomponent.repository.PaymentRepository;
-import jakarta.transaction.Transactional;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,13 +24,22 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 public class KafkaPaymentServiceImpl implements KafkaPaymentService {
@@ -40,26 +54,38 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
     private static final String CARD_TO_NOT_FOUND_LOG = "To-Card was not found by: {}";
     private static final String PAYMENT_SEARCHING_LOG = "Trying to find Payment by: {}";
     private static final String PAYMENT_NOT_FOUND_LOG = "Payment was not found by: {}";
+    private static final String PAYMENT_PENDING_STATUS = "PENDING";
+    private static final String PAYMENT_COMPLETED_STATUS = "COMPLETED";
+    private static final String PAYMENT_FAILED_STATUS = "FAILED";
 
     private final KafkaTemplate<String, PaymentDTO> responseDTOKafkaTemplate;
-    private final KafkaTemplate<String, AccountDTO> requestDTOKafkaTemplate;
     private final KafkaTemplate<String, List<PaymentDTO>> responseDTOSKafkaTemplate;
+    private final ReplyTopicResolver replyTopicResolver;
+    private final GlobalKafkaExceptionHandler globalKafkaExceptionHandler;
 
     private final AccountComponentClient accountComponentClient;
     private final CardComponentClient cardComponentClient;
     private final PaymentRepository paymentRepository;
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
 
     public KafkaPaymentServiceImpl(@Qualifier("Account-Components") AccountComponentClient accountComponentClient,
                                    @Qualifier("Card-Components") CardComponentClient cardComponentClient,
-                                   PaymentRepository paymentRepository, KafkaTemplate<String, PaymentDTO> responseDTOKafkaTemplate,
-                                   KafkaTemplate<String, AccountDTO> requestDTOKafkaTemplate,
-                                   KafkaTemplate<String, List<PaymentDTO>> responseDTOSKafkaTemplate) {
+                                   PaymentRepository paymentRepository, PaymentOutboxRepository paymentOutboxRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   KafkaTemplate<String, PaymentDTO> responseDTOKafkaTemplate,
+                                   KafkaTemplate<String, List<PaymentDTO>> responseDTOSKafkaTemplate,
+                                   ReplyTopicResolver replyTopicResolver,
+                                   GlobalKafkaExceptionHandler globalKafkaExceptionHandler) {
         this.accountComponentClient = accountComponentClient;
         this.cardComponentClient = cardComponentClient;
         this.paymentRepository = paymentRepository;
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.responseDTOKafkaTemplate = responseDTOKafkaTemplate;
-        this.requestDTOKafkaTemplate = requestDTOKafkaTemplate;
         this.responseDTOSKafkaTemplate = responseDTOSKafkaTemplate;
+        this.replyTopicResolver = replyTopicResolver;
+        this.globalKafkaExceptionHandler = globalKafkaExceptionHandler;
     }
 
     private PaymentDTO convertPaymentModelToDTO(Payment payment) {
@@ -83,7 +109,7 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
         payment.setAmount(paymentDTO.getAmount());
         payment.setDescription(paymentDTO.getDescription());
         payment.setPaymentType(paymentDTO.getPaymentType());
-        payment.setStatus("COMPLETED");
+        payment.setStatus(PAYMENT_PENDING_STATUS);
         return payment;
     }
 
@@ -100,7 +126,8 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
 
     @Override
     @KafkaListener(topics = "create-payment-by-accounts", groupId = "payment-component",
-            containerFactory = "paymentDTOKafkaListenerFactory")
+            containerFactory = "paymentDTOKafkaListenerFactory",
+            concurrency = "${kafka.listener.create-payment-by-accounts.concurrency:${kafka.listener.concurrency:1}}")
     public void createPaymentByAccounts(PaymentDTO paymentDTO, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: create-payment-by-accounts with correlation id: {} ", correlationId);
 
@@ -109,17 +136,15 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
 
         checkSufficientFunds(fromAccount, paymentDTO.getAmount());
 
-        debitFunds(fromAccount, paymentDTO.getAmount(), correlationId);
-        creditFunds(toAccount, paymentDTO.getAmount(), correlationId);
-
-        Payment savedPayment = savePayment(paymentDTO, fromAccount.getId(), toAccount.getId());
+        Payment savedPayment = savePayment(paymentDTO, fromAccount.getId(), toAccount.getId(), correlationId);
 
         sendPaymentResponse(savedPayment, correlationId);
     }
 
     @Override
     @KafkaListener(topics = "create-payment-by-cards", groupId = "payment-component",
-            containerFactory = "paymentListKafkaListenerFactory")
+            containerFactory = "paymentListKafkaListenerFactory",
+            concurrency = "${kafka.listener.create-payment-by-cards.concurrency:${kafka.listener.concurrency:1}}")
     public void createPaymentByCards(String fromCardNumber, String toCardNumber, BigDecimal amount,
                                      @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: create-payment-by-cards with correlation id: {}", correlationId);
@@ -129,18 +154,18 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
 
         checkSufficientFunds(fromAccount, amount);
 
-        debitFunds(fromAccount, amount, correlationId);
-        creditFunds(toAccount, amount, correlationId);
-
         Payment savedPayment = savePayment(buildCardToCardPaymentDTO(fromAccount.getId(), toAccount.getId(), amount, fromCardNumber, toCardNumber),
-                fromAccount.getId(), toAccount.getId());
+                fromAccount.getId(), toAccount.getId(), correlationId);
 
         sendPaymentResponse(savedPayment, correlationId);
     }
 
     @Override
+    @Transactional(readOnly = true)
     @KafkaListener(topics = "get-payment-by-id", groupId = "payment-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            autoStartup = "#{!${kafka.listener.get-payment-by-id.batch:false}}",
+            concurrency = "${kafka.listener.get-payment-by-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getPaymentById(UUID paymentId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-payment-by-id with correlation id: {} ", correlationId);
         LOGGER.info(PAYMENT_SEARCHING_LOG, paymentId);
@@ -150,15 +175,53 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
 
         LOGGER.info("Trying to create topic: get-payment-by-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, PaymentDTO> responseTopic = new ProducerRecord<>(
-                "get-payment-by-id-response", null, paymentDTO);
+                replyTopicResolver.resolve("get-payment-by-id-response"), null, paymentDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
     @Override
+    @Transactional(readOnly = true)
+    @KafkaListener(topics = "get-payment-by-id", groupId = "payment-component",
+            containerFactory = "uuidBatchKafkaListenerFactory",
+            autoStartup = "${kafka.listener.get-payment-by-id.batch:false}",
+            concurrency = "${kafka.listener.get-payment-by-id.concurrency:${kafka.listener.concurrency:1}}")
+    public void getPaymentsByIds(List<ConsumerRecord<String, UUID>> records) {
+        LOGGER.info("Got batch of {} requests from kafka topic: get-payment-by-id", records.size());
+        Set<UUID> paymentIds = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, PaymentDTO> paymentsById = paymentRepository.findAllById(paymentIds).stream()
+                .collect(Collectors.toMap(Payment::getId, this::convertPaymentModelToDTO));
+        LOGGER.info("Resolved {} of {} requested Payments with one query", paymentsById.size(), paymentIds.size());
+
+        for (ConsumerRecord<String, UUID> record : records) {
+            String correlationId = extractCorrelationId(record);
+            if (record.value() == null || correlationId == null) {
+                LOGGER.warn("Skipping unreadable request at offset: {} of topic: get-payment-by-id", record.offset());
+                continue;
+            }
+            PaymentDTO paymentDTO = paymentsById.get(record.value());
+            if (paymentDTO == null) {
+                LOGGER.error(PAYMENT_NOT_FOUND_LOG, record.value());
+                globalKafkaExceptionHandler.kafkaErrorProducer(new CustomKafkaException(HttpStatus.NOT_FOUND,
+                                "Payment with such ID was NOT Found: " + record.value()), record);
+                continue;
+            }
+            ProducerRecord<String, PaymentDTO> responseTopic = new ProducerRecord<>(
+                    replyTopicResolver.resolve(record.headers(), "get-payment-by-id-response"), null, paymentDTO);
+            responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
+            responseDTOKafkaTemplate.send(responseTopic);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     @KafkaListener(topics = "get-all-payments-by-from-account-id", groupId = "payment-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-payments-by-from-account-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllAccountPaymentsByFromAccount(UUID fromAccountId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-payments-by-from-account-id with correlation id: {} ", correlationId);
         LOGGER.info(ACCOUNT_FROM_SEARCHING_LOG, fromAccountId);
@@ -173,15 +236,17 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
 
         LOGGER.info("Trying to create topic: get-all-payment-by-from-account-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<PaymentDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-payment-by-from-account-id-response", null, paymentDTOS);
+                replyTopicResolver.resolve("get-all-payment-by-from-account-id-response"), null, paymentDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
     @Override
+    @Transactional(readOnly = true)
     @KafkaListener(topics = "get-payments-by-status", groupId = "payment-component",
-            containerFactory = "mapObjectToObjectKafkaListenerFactory")
+            containerFactory = "mapObjectToObjectKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-payments-by-status.concurrency:${kafka.listener.concurrency:1}}")
     public void getPaymentsByStatus(Map<String, String> mapFromAccountIdToStatus, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-payments-by-status with correlation id: {} ", correlationId);
         String fromAccountId = mapFromAccountIdToStatus.keySet().iterator().next().replaceAll("\"", "");
@@ -202,15 +267,17 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
 
         LOGGER.info("Trying to create topic: get-payments-by-status-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<PaymentDTO>> responseTopic = new ProducerRecord<>(
-                "get-payments-by-status-response", null, paymentDTOS);
+                replyTopicResolver.resolve("get-payments-by-status-response"), null, paymentDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
     @Override
+    @Transactional(readOnly = true)
     @KafkaListener(topics = "get-all-payments-by-to-account", groupId = "payment-component",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-payments-by-to-account.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllAccountPaymentsByToAccount(UUID toAccountId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info(ACCOUNT_TO_SEARCHING_LOG, toAccountId);
 
@@ -226,15 +293,17 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
 
         LOGGER.info("Trying to create topic: get-all-payments-by-to-account-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<PaymentDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-payments-by-to-account-response", null, paymentDTOS);
+                replyTopicResolver.resolve("get-all-payments-by-to-account-response"), null, paymentDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
     @Override
+    @Transactional(readOnly = true)
     @KafkaListener(topics = "get-all-payments-by-payment-type", groupId = "payment-component",
-            containerFactory = "mapObjectToObjectKafkaListenerFactory")
+            containerFactory = "mapObjectToObjectKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-payments-by-payment-type.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllAccountPaymentsByPaymentType(Map<String, String> mapFromAccountIdToPaymentType, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-payments-by-payment-type with correlation id: {} ", correlationId);
         String fromAccountId = mapFromAccountIdToPaymentType.keySet().iterator().next().replaceAll("\"", "");
@@ -253,15 +322,17 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
 
         LOGGER.info("Trying to create topic: get-all-payments-by-payment-type-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<PaymentDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-payments-by-payment-type-response", null, paymentDTOS);
+                replyTopicResolver.resolve("get-all-payments-by-payment-type-response"), null, paymentDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
     @Override
+    @Transactional(readOnly = true)
     @KafkaListener(topics = "get-all-from-account-payments-by-date-range", groupId = "payment-component",
-            containerFactory = "paymentListKafkaListenerFactory")
+            containerFactory = "paymentListKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-from-account-payments-by-date-range.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllFromAccountPaymentsByPaymentDateRange(DateRangeRequestDTO requestDTO,
                                                             @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-from-account-payments-by-date-range with correlation id: {} ", correlationId);
@@ -282,15 +353,17 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
 
         LOGGER.info("Trying to create topic: get-all-from-account-payments-by-date-range-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<PaymentDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-from-account-payments-by-date-range-response", null, paymentDTOS);
+                replyTopicResolver.resolve("get-all-from-account-payments-by-date-range-response"), null, paymentDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
     @Override
+    @Transactional(readOnly = true)
     @KafkaListener(topics = "get-all-to-account-payments-by-date-range", groupId = "payment-component",
-            containerFactory = "paymentListKafkaListenerFactory")
+            containerFactory = "paymentListKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-all-to-account-payments-by-date-range.concurrency:${kafka.listener.concurrency:1}}")
     public void getAllToAccountPaymentsByPaymentDateRange(DateRangeRequestDTO requestDTO,
                                                           @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-all-to-account-payments-by-date-range with correlation id: {} ", correlationId);
@@ -310,12 +383,29 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
 
         LOGGER.info("Trying to create topic: get-all-to-account-payments-by-date-range-response with correlation id: {} ", correlationId);
         ProducerRecord<String, List<PaymentDTO>> responseTopic = new ProducerRecord<>(
-                "get-all-to-account-payments-by-date-range-response", null, paymentDTOS);
+                replyTopicResolver.resolve("get-all-to-account-payments-by-date-range-response"), null, paymentDTOS);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOSKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
+    @Override
+    @Transactional
+    @KafkaListener(topics = {FundsTransfer.APPLIED_TOPIC, FundsTransfer.REJECTED_TOPIC}, groupId = "payment-component",
+            containerFactory = "fundsTransferKafkaListenerFactory")
+    public void settlePayment(ConsumerRecord<String, FundsTransfer> transferOutcome) {
+        UUID paymentId = transferOutcome.value().paymentId();
+        LOGGER.info("Got funds transfer outcome from kafka topic: {} for Payment: {}", transferOutcome.topic(), paymentId);
+        String status = FundsTransfer.APPLIED_TOPIC.equals(transferOutcome.topic())
+                ? PAYMENT_COMPLETED_STATUS
+                : PAYMENT_FAILED_STATUS;
+        if (paymentRepository.settlePendingById(paymentId, status) == 0) {
+            LOGGER.warn("Payment: {} was not found or is already settled, ignoring {} outcome", paymentId, status);
+            return;
+        }
+        LOGGER.info("Payment: {} was marked as {}", paymentId, status);
+    }
+
     private AccountDTO getAccountByCardNumber(String cardNumber, boolean isFrom) {
         LOGGER.info("{} {}", isFrom ? ACCOUNT_FROM_SEARCHING_LOG : ACCOUNT_TO_SEARCHING_LOG, cardNumber);
 
@@ -374,39 +464,30 @@ public class KafkaPaymentServiceImpl implements KafkaPaymentService {
         }
     }
 
-    private void debitFunds(AccountDTO account, BigDecimal amount, String correlationId) {
-        account.setBalance(account.getBalance().subtract(amount));
-        LOGGER.info("Debiting account ID: {}", account.getId());
-        sendAccountUpdate("debit-funds", account, correlationId);
-    }
-
-    private void creditFunds(AccountDTO account, BigDecimal amount, String correlationId) {
-        account.setBalance(account.getBalance().add(amount));
-        LOGGER.info("Crediting account ID: {}", account.getId());
-        sendAccountUpdate("credit-funds", account, correlationId);
-    }
-
-    private void sendAccountUpdate(String topic, AccountDTO accountDTO, String correlationId) {
-        LOGGER.info("Trying to create topic: {} with correlation id: {}", topic, correlationId);
-        ProducerRecord<String, AccountDTO> responseTopic = new ProducerRecord<>(topic, null, accountDTO);
-        responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
-        requestDTOKafkaTemplate.send(responseTopic);
-        LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
-    }
-
-    @Transactional
-    private Payment savePayment(PaymentDTO dto, UUID fromId, UUID toId) {
+    private Payment savePayment(PaymentDTO dto, UUID fromId, UUID toId, String correlationId) {
         dto.setPaymentType("Account to Account Transfer");
-        LOGGER.info("Saving payment in DB");
-        return paymentRepository.save(convertPaymentDTOToModel(fromId, toId, dto));
+        LOGGER.info("Saving payment with its funds transfer in DB");
+        return transactionTemplate.execute(status -> {
+            Payment savedPayment = paymentRepository.save(convertPaymentDTOToModel(fromId, toId, dto));
+            paymentOutboxRepository.save(new PaymentOutbox(FundsTransfer.TRANSFER_TOPIC,
+                    new FundsTransfer(savedPayment.getId(), fromId, toId, dto.getAmount(), Instant.now()),
+                    correlationId));
+            return savedPayment;
+        });
     }
 
     private void sendPaymentResponse(Payment payment, String correlationId) {
         LOGGER.info("Sending response to topic: create-payment-by-accounts-response with correlation id: {}", correlationId);
         ProducerRecord<String, PaymentDTO> responseTopic = new ProducerRecord<>(
-                "create-payment-by-accounts-response", null, convertPaymentModelToDTO(payment));
+                replyTopicResolver.resolve("create-payment-by-accounts-response"), null, convertPaymentModelToDTO(payment));
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
+
+    private static String extractCorrelationId(ConsumerRecord<?, ?> record) {
+        return Optional.ofNullable(record.headers().lastHeader(KafkaHeaders.CORRELATION_ID))
+                .map(header -> new String(header.value(), StandardCharsets.UTF_8))
+                .orElse(null);
+    }
 }
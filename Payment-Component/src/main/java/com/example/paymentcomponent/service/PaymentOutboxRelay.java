@@ -0,0 +1,111 @@
+package com.example.paymentcomponent.service;
+
+import com.example.kafkaschema.schema.FundsTransfer;
+import com.example.paymentcomponent.model.PaymentOutbox;
+import com.example.paymentcomponent.repository.PaymentOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Service
+public class PaymentOutboxRelay {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PaymentOutboxRelay.class);
+    private static final long RELAY_LOCK_KEY = 0x7061796d656e74L;
+
+    private final PaymentOutboxRepository paymentOutboxRepository;
+    private final KafkaTemplate<String, FundsTransfer> fundsTransferKafkaTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long sendTimeoutMillis;
+    private final Counter publishedMessages;
+    private final Counter failedBatches;
+
+    public PaymentOutboxRelay(PaymentOutboxRepository paymentOutboxRepository,
+                              KafkaTemplate<String, FundsTransfer> fundsTransferKafkaTemplate,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${payment.outbox.batch-size:500}") int batchSize,
+                              @Value("${payment.outbox.send-timeout-ms:10000}") long sendTimeoutMillis) {
+        this.paymentOutboxRepository = paymentOutboxRepository;
+        this.fundsTransferKafkaTemplate = fundsTransferKafkaTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.sendTimeoutMillis = sendTimeoutMillis;
+        this.publishedMessages = Counter.builder("payment.outbox.published")
+                .description("Funds transfers relayed from the payment outbox to Kafka")
+                .register(meterRegistry);
+        this.failedBatches = Counter.builder("payment.outbox.failed-batches")
+                .description("Outbox batches left in place for the next relay run after a failed send")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.outbox.relay-interval-ms:100}")
+    public void relay() {
+        Integer published;
+        do {
+            published = transactionTemplate.execute(this::publishBatch);
+        } while (published != null && published == batchSize);
+    }
+
+    private int publishBatch(TransactionStatus status) {
+        if (!paymentOutboxRepository.tryRelayLock(RELAY_LOCK_KEY)) {
+            return 0;
+        }
+        List<PaymentOutbox> batch = paymentOutboxRepository.findNextBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        List<CompletableFuture<SendResult<String, FundsTransfer>>> sends = batch.stream()
+                .map(this::send)
+                .toList();
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return keepBatch(status, batch, exception);
+        } catch (ExecutionException | TimeoutException exception) {
+            return keepBatch(status, batch, exception);
+        }
+        paymentOutboxRepository.deleteAllByIdInBatch(batch.stream().map(PaymentOutbox::getId).toList());
+        publishedMessages.increment(batch.size());
+        LOGGER.debug("Relayed {} funds transfers from the payment outbox", batch.size());
+        return batch.size();
+    }
+
+    private CompletableFuture<SendResult<String, FundsTransfer>> send(PaymentOutbox outboxMessage) {
+        ProducerRecord<String, FundsTransfer> requestTopic = new ProducerRecord<>(outboxMessage.getTopic(),
+                outboxMessage.getFromAccountId().toString(), outboxMessage.toFundsTransfer());
+        if (outboxMessage.getCorrelationId() != null) {
+            requestTopic.headers().add(KafkaHeaders.CORRELATION_ID,
+                    outboxMessage.getCorrelationId().getBytes(StandardCharsets.UTF_8));
+        }
+        return fundsTransferKafkaTemplate.send(requestTopic);
+    }
+
+    private int keepBatch(TransactionStatus status, List<PaymentOutbox> batch, Exception exception) {
+        status.setRollbackOnly();
+        failedBatches.increment();
+        LOGGER.error("Failed to relay {} funds transfers starting at outbox id: {}, retrying on the next run: {}",
+                batch.size(), batch.get(0).getId(), exception.getMessage());
+        return 0;
+    }
+}
@@ -0,0 +1,15 @@
+CREATE TABLE payment
+(
+    id              uuid PRIMARY KEY,
+    amount          numeric(38, 2),
+    from_account_id uuid,
+    to_account_id   uuid,
+    payment_date    timestamp(6),
+    payment_type    varchar(255),
+    status          varchar(255),
+    description     varchar(255)
+);
+
+CREATE INDEX idx_payment_from_account_id_payment_date ON payment (from_account_id, payment_date);
+CREATE INDEX idx_payment_to_account_id_payment_date ON payment (to_account_id, payment_date);
+CREATE INDEX idx_payment_payment_type ON payment (payment_type);
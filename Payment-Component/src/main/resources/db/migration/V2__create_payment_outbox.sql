@@ -0,0 +1,13 @@
+CREATE SEQUENCE payment_outbox_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE payment_outbox
+(
+    id             bigint PRIMARY KEY,
+    topic          varchar(255),
+    account_id     uuid,
+    payment_id     uuid,
+    delta          numeric(38, 2),
+    occurred_at    timestamp(6) with time zone,
+    correlation_id varchar(255),
+    created_date   timestamp(6)
+);
@@ -0,0 +1,20 @@
+ALTER TABLE payment_outbox RENAME COLUMN account_id TO from_account_id;
+ALTER TABLE payment_outbox RENAME COLUMN delta TO amount;
+ALTER TABLE payment_outbox ADD COLUMN to_account_id uuid;
+
+UPDATE payment_outbox debit
+SET topic         = 'transfer-funds',
+    amount        = -debit.amount,
+    to_account_id = credit.from_account_id
+FROM payment_outbox credit
+WHERE debit.topic = 'debit-funds'
+  AND credit.topic = 'credit-funds'
+  AND credit.payment_id = debit.payment_id;
+
+DELETE
+FROM payment_outbox credit
+WHERE credit.topic = 'credit-funds'
+  AND EXISTS(SELECT 1
+             FROM payment_outbox transfer
+             WHERE transfer.topic = 'transfer-funds'
+               AND transfer.payment_id = credit.payment_id);
@@ -0,0 +1,99 @@
+package com.example.paymentcomponent.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {"spring.cloud.config.enabled=false", "spring.jpa.hibernate.ddl-auto=validate"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RepositoryIndexCoverageTest {
+    private static final IndexedQuery PAYMENT_BY_SENDER = on("payment", "idx_payment_from_account_id_payment_date",
+            "from_account_id");
+    private static final IndexedQuery PAYMENT_BY_SENDER_AND_DATE = on("payment",
+            "idx_payment_from_account_id_payment_date", "from_account_id", "payment_date");
+    private static final IndexedQuery PAYMENT_BY_RECEIVER = on("payment", "idx_payment_to_account_id_payment_date",
+            "to_account_id");
+    private static final IndexedQuery PAYMENT_BY_RECEIVER_AND_DATE = on("payment",
+            "idx_payment_to_account_id_payment_date", "to_account_id", "payment_date");
+    private static final IndexedQuery PAYMENT_BY_TYPE = on("payment", "idx_payment_payment_type", "payment_type");
+    private static final IndexedQuery PAYMENT_BY_ID = on("payment", "payment_pkey", "id");
+    private static final IndexedQuery OUTBOX_BY_ID = on("payment_outbox", "payment_outbox_pkey", "id");
+
+    private static final Map<String, List<IndexedQuery>> INDEXED_QUERIES = Map.ofEntries(
+            Map.entry("PaymentRepository.findAllByFromAccountId", List.of(PAYMENT_BY_SENDER)),
+            Map.entry("PaymentRepository.findAllByToAccountId", List.of(PAYMENT_BY_RECEIVER)),
+            Map.entry("PaymentRepository.findAllByPaymentType", List.of(PAYMENT_BY_TYPE)),
+            Map.entry("PaymentRepository.findAllByFromAccountIdAndPaymentDateBetween",
+                    List.of(PAYMENT_BY_SENDER_AND_DATE)),
+            Map.entry("PaymentRepository.findAllByToAccountIdAndPaymentDateBetween",
+                    List.of(PAYMENT_BY_RECEIVER_AND_DATE)),
+            Map.entry("PaymentRepository.settlePendingById", List.of(PAYMENT_BY_ID)),
+            Map.entry("PaymentOutboxRepository.tryRelayLock", List.of()),
+            Map.entry("PaymentOutboxRepository.findNextBatch", List.of(OUTBOX_BY_ID)));
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyRepositoryQueryIsMappedToAnIndex() {
+        List<String> unmappedQueries = Stream.of(PaymentRepository.class, PaymentOutboxRepository.class)
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isSynthetic())
+                        .map(method -> repository.getSimpleName() + "." + method.getName()))
+                .filter(query -> !INDEXED_QUERIES.containsKey(query))
+                .toList();
+
+        assertThat(unmappedQueries).as("Repository queries without an index mapping").isEmpty();
+    }
+
+    @Test
+    void everyMappedIndexLeadsWithTheQueriedColumns() {
+        INDEXED_QUERIES.forEach((query, indexedQueries) -> indexedQueries.forEach(indexedQuery ->
+                assertThat(indexColumns(indexedQuery))
+                        .as("%s should be served by index %s", query, indexedQuery.index())
+                        .startsWith(indexedQuery.leadingColumns().toArray(String[]::new))));
+    }
+
+    private List<String> indexColumns(IndexedQuery indexedQuery) {
+        return jdbcTemplate.queryForList("SELECT pg_get_indexdef(i.indexrelid, column_number, true) " +
+                        "FROM pg_index i JOIN pg_class index_class ON index_class.oid = i.indexrelid " +
+                        "CROSS JOIN generate_series(1, i.indnatts) AS column_number " +
+                        "WHERE i.indrelid = CAST(? AS regclass) AND index_class.relname = ? " +
+                        "ORDER BY column_number", String.class, indexedQuery.table(), indexedQuery.index())
+                .stream()
+                .map(RepositoryIndexCoverageTest::normalize)
+                .toList();
+    }
+
+    private static IndexedQuery on(String table, String index, String... leadingColumns) {
+        return new IndexedQuery(table, index, Arrays.stream(leadingColumns)
+                .map(RepositoryIndexCoverageTest::normalize)
+                .toList());
+    }
+
+    private static String normalize(String indexColumn) {
+        return indexColumn.replace("::text", "").replaceAll("[()\\s]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedQuery(String table, String index, List<String> leadingColumns) {
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.securitycomponent.config;
 
+import com.example.kafkaschema.group.InstanceConsumerGroups;
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import com.example.kafkaschema.serde.WireDeserializer;
 import com.example.securitycomponent.dto.AuthRequestDTO;
 import com.example.securitycomponent.exception.GlobalKafkaExceptionHandler;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -11,6 +14,8 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.CompositeRecordInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
@@ -25,9 +30,18 @@ public class KafkaConsumerConfig {
     private String kafkaBootstrapServers;
 
     private final GlobalKafkaExceptionHandler globalKafkaExceptionHandler;
+    private final ReplyTopicResolver replyTopicResolver;
+    private final RequestDeadlineContext requestDeadlineContext;
+    private final InstanceConsumerGroups instanceConsumerGroups;
 
-    public KafkaConsumerConfig(GlobalKafkaExceptionHandler globalKafkaExceptionHandler) {
+    public KafkaConsumerConfig(GlobalKafkaExceptionHandler globalKafkaExceptionHandler,
+                               ReplyTopicResolver replyTopicResolver,
+                               RequestDeadlineContext requestDeadlineContext,
+                               InstanceConsumerGroups instanceConsumerGroups) {
         this.globalKafkaExceptionHandler = globalKafkaExceptionHandler;
+        this.replyTopicResolver = replyTopicResolver;
+        this.requestDeadlineContext = requestDeadlineContext;
+        this.instanceConsumerGroups = instanceConsumerGroups;
     }
 
     @Bean
@@ -37,7 +51,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueSecurityComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.securitycomponent.dto.AuthRequestDTO",
                 JsonDeserializer.TRUSTED_PACKAGES, "*",
                 JsonDeserializer.TYPE_MAPPINGS,
@@ -51,6 +65,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(usersAuthRequestDTOConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -61,7 +76,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueSecurityComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.HashMap",
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -73,6 +88,34 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(mapStringToStringConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public ConsumerFactory<String, EntityChangeEvent> userEventConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, instanceConsumerGroups.groupId("user-events"),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, EntityChangeEvent.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example.kafkaschema.schema"
+        ));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, EntityChangeEvent> userEventKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, EntityChangeEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(userEventConsumerFactory());
+        return factory;
+    }
+
+    private <K, V> RecordInterceptor<K, V> requestRecordInterceptor() {
+        return new CompositeRecordInterceptor<>(requestDeadlineContext.recordInterceptor(),
+                replyTopicResolver.recordInterceptor());
+    }
+}
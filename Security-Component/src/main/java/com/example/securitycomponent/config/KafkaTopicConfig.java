@@ -0,0 +1,33 @@
+package com.example.securitycomponent.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.List;
+
+@Configuration
+public class KafkaTopicConfig {
+    private static final List<String> REQUEST_TOPICS = List.of(
+            "user-authentication"
+    );
+
+    @Value("${kafka.topics.partitions:1}")
+    private int requestTopicPartitions;
+
+    @Value("${kafka.topics.replicas:1}")
+    private int requestTopicReplicas;
+
+    @Bean
+    public KafkaAdmin.NewTopics requestTopics() {
+        return new KafkaAdmin.NewTopics(REQUEST_TOPICS.stream()
+                .map(topic -> TopicBuilder.name(topic)
+                        .partitions(requestTopicPartitions)
+                        .replicas(requestTopicReplicas)
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+}
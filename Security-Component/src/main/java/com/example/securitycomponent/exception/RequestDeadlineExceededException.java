@@ -0,0 +1,9 @@
+package com.example.securitycomponent.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class RequestDeadlineExceededException extends CustomKafkaException {
+    public RequestDeadlineExceededException(String target) {
+        super(HttpStatus.REQUEST_TIMEOUT, "Request deadline exceeded before calling: " + target);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.securitycomponent.feign;
 
 import com.example.securitycomponent.config.SecurityAppComponentConfig;
+import com.example.securitycomponent.config.RequestDeadlineContext;
 import com.example.securitycomponent.utils.JwtUtil;
 import feign.FeignException;
 import feign.RequestInterceptor;
@@ -14,14 +15,18 @@ public class FeignClientInterceptor implements RequestInterceptor {
     private static final Logger LOGGER = LoggerFactory.getLogger(FeignClientInterceptor.class);
     private final JwtUtil jwtUtil;
     private final SecurityAppComponentConfig securityConfig;
+    private final RequestDeadlineContext requestDeadlineContext;
 
-    public FeignClientInterceptor(JwtUtil jwtUtil, SecurityAppComponentConfig securityConfig) {
+    public FeignClientInterceptor(JwtUtil jwtUtil, SecurityAppComponentConfig securityConfig,
+                                  RequestDeadlineContext requestDeadlineContext) {
         this.jwtUtil = jwtUtil;
         this.securityConfig = securityConfig;
+        this.requestDeadlineContext = requestDeadlineContext;
     }
 
     @Override
     public void apply(RequestTemplate requestTemplate) {
+        applyDeadline(requestTemplate);
         String method = requestTemplate.method();
         String path = requestTemplate.path();
 
@@ -44,6 +49,15 @@ public class FeignClientInterceptor implements RequestInterceptor {
         }
     }
 
+    private void applyDeadline(RequestTemplate requestTemplate) {
+        requestDeadlineContext.checkDeadline(requestTemplate.feignTarget().name());
+        Long deadline = requestDeadlineContext.getDeadline();
+        if (deadline != null) {
+            requestTemplate.removeHeader(RequestDeadlineContext.DEADLINE_HEADER);
+            requestTemplate.header(RequestDeadlineContext.DEADLINE_HEADER, String.valueOf(deadline));
+        }
+    }
+
     private void refreshToken() {
         try {
             securityConfig.setJwtToken(jwtUtil.generateComponentToken(
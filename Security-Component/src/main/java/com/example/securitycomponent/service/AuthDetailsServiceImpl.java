@@ -3,7 +3,6 @@ package com.example.securitycomponent.service;
 import com.example.securitycomponent.dto.AuthRequestDTO;
 import com.example.securitycomponent.exception.CustomKafkaException;
 import com.example.securitycomponent.feign.AppRegistryComponentClient;
-import com.example.securitycomponent.feign.UsersComponentClient;
 import feign.FeignException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,19 +18,19 @@ import java.util.UUID;
 @Service
 public class AuthDetailsServiceImpl implements AuthDetailsService {
     private static final Logger LOGGER = LoggerFactory.getLogger(AuthDetailsServiceImpl.class);
-    private final UsersComponentClient usersComponentClient;
+    private final UsersNearCache usersNearCache;
     private final AppRegistryComponentClient appRegistryComponentClient;
 
-    public AuthDetailsServiceImpl(@Qualifier("Users-Components") UsersComponentClient usersComponentClient,
+    public AuthDetailsServiceImpl(UsersNearCache usersNearCache,
                                   @Qualifier("AppRegistry-Components") AppRegistryComponentClient appRegistryComponentClient) {
-        this.usersComponentClient = usersComponentClient;
+        this.usersNearCache = usersNearCache;
         this.appRegistryComponentClient = appRegistryComponentClient;
     }
 
 
     public void authenticateUser(AuthRequestDTO authRequestDTO) throws FeignException {
         LOGGER.info("Trying to find user with email: \"{}\"", authRequestDTO.principal());
-        usersComponentClient.findByEmail(authRequestDTO.principal().toString())
+        usersNearCache.findByEmail(authRequestDTO.principal().toString())
                 .filter(userEntity ->
                         userEntity.getEmail().equals(authRequestDTO.principal().toString()) &&
                                 passwordEncoder().matches(authRequestDTO.credentials().toString(),
@@ -1,5 +1,6 @@
 package com.example.securitycomponent.service;
 
+import com.example.securitycomponent.config.ReplyTopicResolver;
 import com.example.securitycomponent.dto.AuthRequestDTO;
 import com.example.securitycomponent.dto.AuthResponseDTO;
 import com.example.securitycomponent.exception.CustomKafkaException;
@@ -22,17 +23,21 @@ public class KafkaAuthServiceImpl implements KafkaAuthService {
     private final AuthDetailsService authDetailsService;
     private final JwtUtil jwtUtil;
     private final KafkaTemplate<String, AuthResponseDTO> responseDTOKafkaTemplate;
+    private final ReplyTopicResolver replyTopicResolver;
 
-    public KafkaAuthServiceImpl(AuthDetailsService authDetailsService, JwtUtil jwtUtil, KafkaTemplate<String, AuthResponseDTO> responseDTOKafkaTemplate) {
+    public KafkaAuthServiceImpl(AuthDetailsService authDetailsService, JwtUtil jwtUtil, KafkaTemplate<String, AuthResponseDTO> responseDTOKafkaTemplate,
+                                ReplyTopicResolver replyTopicResolver) {
         this.authDetailsService = authDetailsService;
         this.jwtUtil = jwtUtil;
         this.responseDTOKafkaTemplate = responseDTOKafkaTemplate;
+        this.replyTopicResolver = replyTopicResolver;
     }
 
 
     @Override
     @KafkaListener(topics = "user-authentication", groupId = "security-component",
-            containerFactory = "usersAuthRequestDTOKafkaListenerFactory")
+            containerFactory = "usersAuthRequestDTOKafkaListenerFactory",
+            concurrency = "${kafka.listener.user-authentication.concurrency:${kafka.listener.concurrency:1}}")
     public void authenticateUser(AuthRequestDTO authRequestDTO, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: user-authentication with correlation id: {} ", correlationId);
         try {
@@ -44,17 +49,14 @@ public class KafkaAuthServiceImpl implements KafkaAuthService {
             LOGGER.info("Generated JWT Token: {}", jwtToken);
             LOGGER.info("Trying to create topic: user-authentication-response with correlation id: {} ", correlationId);
             ProducerRecord<String, AuthResponseDTO> responseTopic = new ProducerRecord<>(
-                    "user-authentication-response", null, new AuthResponseDTO(jwtToken));
+                    replyTopicResolver.resolve("user-authentication-response"), null, new AuthResponseDTO(jwtToken));
             responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
             responseDTOKafkaTemplate.send(responseTopic);
             LOGGER.info("Topic was created and allocated in kafka broker successfully: {}", responseTopic.value());
         } catch (AuthenticationException | FeignException error) {
             LOGGER.error("Authentication failed for User with Email: {} Password: {}",
                     authRequestDTO.principal(), authRequestDTO.credentials());
-            throw new CustomKafkaException(HttpStatus.UNAUTHORIZED, String.format(
-                            """
-                            "Authentication failed": "Invalid email or password" correlationId:%s"
-                            """, correlationId));
+            throw new CustomKafkaException(HttpStatus.UNAUTHORIZED, "Authentication failed: Invalid email or password");
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.example.securitycomponent.service;
+
+import com.example.kafkaschema.cache.NearCache;
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import com.example.securitycomponent.dto.UsersDTO;
+import com.example.securitycomponent.feign.UsersComponentClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Service
+public class UsersNearCache {
+    public static final String USER_EVENTS_TOPIC = "user-events";
+    private static final Logger LOGGER = LoggerFactory.getLogger(UsersNearCache.class);
+
+    private final UsersComponentClient usersComponentClient;
+    private final NearCache<String, UsersDTO> usersByEmail;
+
+    public UsersNearCache(@Qualifier("Users-Components") UsersComponentClient usersComponentClient,
+                          MeterRegistry meterRegistry,
+                          @Value("${users.near-cache.max-entries:10000}") int maxEntries,
+                          @Value("${users.near-cache.ttl-ms:60000}") long ttlMs) {
+        this.usersComponentClient = usersComponentClient;
+        this.usersByEmail = new NearCache<>("users-by-email", maxEntries, Duration.ofMillis(ttlMs),
+                meterRegistry, UsersDTO::getId);
+    }
+
+    public Optional<UsersDTO> findByEmail(String userEmail) {
+        return usersByEmail.get(userEmail, usersComponentClient::findByEmail);
+    }
+
+    @KafkaListener(topics = USER_EVENTS_TOPIC, containerFactory = "userEventKafkaListenerFactory")
+    public void onUserEvent(EntityChangeEvent userEvent) {
+        LOGGER.debug("Got {} event for User with ID: {}, invalidating cached lookups", userEvent.change(), userEvent.id());
+        usersByEmail.invalidateById(userEvent.id());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.userscomponent.config;
+
+import com.example.kafkaschema.routing.ReadYourWritesContext;
+import com.example.kafkaschema.routing.ReadYourWritesPinListener;
+import com.example.kafkaschema.routing.ReplicaRoutingDataSource;
+import com.example.kafkaschema.schema.ReadYourWritesPin;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+public class DataSourceRoutingConfig {
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSourceRoutingConfig.class);
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${datasource.replicas.urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${datasource.replicas.max-lag-ms:1000}")
+    private long replicaMaxLagMillis;
+
+    @Value("${datasource.read-your-writes.window-ms:5000}")
+    private long readYourWritesWindowMillis;
+
+    private final DataSourceProperties dataSourceProperties;
+    private final MeterRegistry meterRegistry;
+    private final KafkaTemplate<String, ReadYourWritesPin> readYourWritesPinKafkaTemplate;
+
+    public DataSourceRoutingConfig(DataSourceProperties dataSourceProperties, MeterRegistry meterRegistry,
+                                   KafkaTemplate<String, ReadYourWritesPin> readYourWritesPinKafkaTemplate) {
+        this.dataSourceProperties = dataSourceProperties;
+        this.meterRegistry = meterRegistry;
+        this.readYourWritesPinKafkaTemplate = readYourWritesPinKafkaTemplate;
+    }
+
+    @Bean
+    public ReadYourWritesContext readYourWritesContext() {
+        return new ReadYourWritesContext(Duration.ofMillis(readYourWritesWindowMillis), meterRegistry, this::publishPin);
+    }
+
+    @Bean
+    public ReadYourWritesPinListener readYourWritesPinListener() {
+        return new ReadYourWritesPinListener(readYourWritesContext(), applicationName);
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String replicaUrl : replicaUrls) {
+            if (!replicaUrl.isBlank()) {
+                String replicaName = "replica-" + (replicas.size() + 1);
+                HikariDataSource replica = buildPool(applicationName + "-" + replicaName, replicaUrl.trim());
+                replica.setReadOnly(true);
+                replicas.put(replicaName, replica);
+            }
+        }
+        LOGGER.info("Routing read-only transactions to {} replicas", replicas.size());
+        return new ReplicaRoutingDataSource(buildPool(applicationName + "-primary", dataSourceProperties.determineUrl()),
+                replicas, readYourWritesContext(), Duration.ofMillis(replicaMaxLagMillis), meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource() {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource());
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-probe-interval-ms:1000}")
+    public void probeReplicaLag() {
+        replicaRoutingDataSource().probeReplicaLag();
+        readYourWritesContext().evictExpired();
+    }
+
+    private void publishPin(ReadYourWritesPin pin) {
+        readYourWritesPinKafkaTemplate.send(ReadYourWritesPinListener.topicFor(applicationName), pin.sessionId(), pin)
+                .whenComplete((result, exception) -> {
+                    if (exception != null) {
+                        LOGGER.warn("Failed to share read-your-writes pin with other instances", exception);
+                    }
+                });
+    }
+
+    private HikariDataSource buildPool(String poolName, String url) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
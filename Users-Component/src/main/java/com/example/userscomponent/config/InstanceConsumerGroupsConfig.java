@@ -0,0 +1,31 @@
+package com.example.userscomponent.config;
+
+import com.example.kafkaschema.group.InstanceConsumerGroups;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Configuration
+public class InstanceConsumerGroupsConfig {
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    private final KafkaAdmin kafkaAdmin;
+
+    public InstanceConsumerGroupsConfig(KafkaAdmin kafkaAdmin) {
+        this.kafkaAdmin = kafkaAdmin;
+    }
+
+    @Bean
+    public InstanceConsumerGroups instanceConsumerGroups() {
+        return new InstanceConsumerGroups(applicationName, kafkaAdmin.getConfigurationProperties());
+    }
+
+    @Scheduled(initialDelayString = "${kafka.instance-groups.sweep.initial-delay-ms:60000}",
+            fixedDelayString = "${kafka.instance-groups.sweep.interval-ms:3600000}")
+    public void sweepStaleInstanceGroups() {
+        instanceConsumerGroups().sweepStaleGroups();
+    }
+}
@@ -1,5 +1,10 @@
 package com.example.userscomponent.config;
 
+import com.example.kafkaschema.group.InstanceConsumerGroups;
+import com.example.kafkaschema.routing.ReadYourWritesContext;
+import com.example.kafkaschema.routing.ReadYourWritesPinListener;
+import com.example.kafkaschema.schema.ReadYourWritesPin;
+import com.example.kafkaschema.serde.WireDeserializer;
 import com.example.userscomponent.dto.UsersDTO;
 import com.example.userscomponent.exception.GlobalKafkaExceptionHandler;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
@@ -11,6 +16,8 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.CompositeRecordInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
 import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 
@@ -26,9 +33,21 @@ public class KafkaConsumerConfig {
     private String kafkaBootstrapServers;
 
     private final GlobalKafkaExceptionHandler globalKafkaExceptionHandler;
+    private final ReplyTopicResolver replyTopicResolver;
+    private final RequestDeadlineContext requestDeadlineContext;
+    private final ReadYourWritesContext readYourWritesContext;
+    private final InstanceConsumerGroups instanceConsumerGroups;
 
-    public KafkaConsumerConfig(GlobalKafkaExceptionHandler globalKafkaExceptionHandler) {
+    public KafkaConsumerConfig(GlobalKafkaExceptionHandler globalKafkaExceptionHandler,
+                               ReplyTopicResolver replyTopicResolver,
+                               RequestDeadlineContext requestDeadlineContext,
+                               ReadYourWritesContext readYourWritesContext,
+                               InstanceConsumerGroups instanceConsumerGroups) {
         this.globalKafkaExceptionHandler = globalKafkaExceptionHandler;
+        this.replyTopicResolver = replyTopicResolver;
+        this.requestDeadlineContext = requestDeadlineContext;
+        this.readYourWritesContext = readYourWritesContext;
+        this.instanceConsumerGroups = instanceConsumerGroups;
     }
 
     @Bean
@@ -38,7 +57,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueUsersComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "com.example.userscomponent.dto.UsersDTO",
                 JsonDeserializer.TRUSTED_PACKAGES, "*",
                 JsonDeserializer.TYPE_MAPPINGS,
@@ -52,6 +71,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(usersDTOConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -62,7 +82,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueUsersComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
     }
@@ -73,6 +93,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(uuidConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -83,7 +104,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueUsersComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
     }
@@ -94,6 +115,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(stringConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -104,7 +126,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueUsersComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.HashMap",
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -116,6 +138,7 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(mapUUIDToDTOConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
 
@@ -126,7 +149,7 @@ public class KafkaConsumerConfig {
                 ConsumerConfig.GROUP_ID_CONFIG, uniqueUsersComponentGroupId,
                 ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
                 ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
-                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class.getName(),
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
                 JsonDeserializer.VALUE_DEFAULT_TYPE, "java.util.HashMap",
                 JsonDeserializer.TRUSTED_PACKAGES, "*"
         ));
@@ -138,6 +161,34 @@ public class KafkaConsumerConfig {
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(mapUUIDToStringConsumerFactory());
         factory.setCommonErrorHandler(globalKafkaExceptionHandler);
+        factory.setRecordInterceptor(requestRecordInterceptor());
         return factory;
     }
-}
\ No newline at end of file
+
+    @Bean
+    public ConsumerFactory<String, ReadYourWritesPin> readYourWritesPinConsumerFactory() {
+        return new DefaultKafkaConsumerFactory<>(Map.of(
+                ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
+                ConsumerConfig.GROUP_ID_CONFIG, instanceConsumerGroups.groupId("read-your-writes-pins"),
+                ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest",
+                ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class,
+                ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class,
+                ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, WireDeserializer.class.getName(),
+                JsonDeserializer.VALUE_DEFAULT_TYPE, ReadYourWritesPin.class.getName(),
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example.kafkaschema.schema"
+        ));
+    }
+
+    @Bean(ReadYourWritesPinListener.CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, ReadYourWritesPin> readYourWritesPinKafkaListenerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, ReadYourWritesPin> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(readYourWritesPinConsumerFactory());
+        return factory;
+    }
+
+    private <K, V> RecordInterceptor<K, V> requestRecordInterceptor() {
+        return new CompositeRecordInterceptor<>(requestDeadlineContext.recordInterceptor(),
+                replyTopicResolver.recordInterceptor(), readYourWritesContext.recordInterceptor());
+    }
+}
@@ -1,5 +1,8 @@
 package com.example.userscomponent.config;
 
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import com.example.kafkaschema.schema.ReadYourWritesPin;
+import com.example.kafkaschema.serde.WireFormat;
 import com.example.userscomponent.dto.UsersDTO;
 import com.example.userscomponent.dto.ErrorDTO;
 import org.apache.kafka.clients.producer.ProducerConfig;
@@ -7,10 +10,10 @@ import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.Map;
 
@@ -19,26 +22,73 @@ public class KafkaProducerConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String kafkaBootstrapServers;
 
+    private final Environment environment;
+
+    public KafkaProducerConfig(Environment environment) {
+        this.environment = environment;
+    }
+
     @Bean
     public KafkaTemplate<String, ErrorDTO> usersErrorDTOKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(errorProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, UsersDTO> usersDTOKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(responseProducerFactory());
     }
 
     @Bean
     public KafkaTemplate<String, String> stringMessageKafkaTemplate() {
-        return new KafkaTemplate<>(buildProducerFactory());
+        return buildKafkaTemplate(responseProducerFactory());
+    }
+
+    @Bean
+    public KafkaTemplate<String, EntityChangeEvent> userEventKafkaTemplate() {
+        return buildKafkaTemplate(eventProducerFactory());
+    }
+
+    @Bean
+    public KafkaTemplate<String, ReadYourWritesPin> readYourWritesPinKafkaTemplate() {
+        return buildKafkaTemplate(eventProducerFactory());
+    }
+
+    @Bean
+    public ProducerFactory<String, Object> responseProducerFactory() {
+        return buildProducerFactory("response");
+    }
+
+    @Bean
+    public ProducerFactory<String, Object> errorProducerFactory() {
+        return buildProducerFactory("error");
     }
 
-    private <T> ProducerFactory<String, T> buildProducerFactory() {
+    @Bean
+    public ProducerFactory<String, Object> eventProducerFactory() {
+        return buildProducerFactory("event");
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> KafkaTemplate<String, T> buildKafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>((ProducerFactory<String, T>) (ProducerFactory<String, ?>) producerFactory);
+    }
+
+    private ProducerFactory<String, Object> buildProducerFactory(String topicClass) {
         return new DefaultKafkaProducerFactory<>(Map.of(
                 ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaBootstrapServers,
                 ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
-                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG,
+                WireFormat.serializerFor(environment.getProperty(WireFormat.PROPERTY, WireFormat.JSON)),
+                ProducerConfig.LINGER_MS_CONFIG, producerProperty(topicClass, "linger-ms", "5"),
+                ProducerConfig.BATCH_SIZE_CONFIG, producerProperty(topicClass, "batch-size", "32768"),
+                ProducerConfig.COMPRESSION_TYPE_CONFIG, producerProperty(topicClass, "compression-type", "lz4"),
+                ProducerConfig.ACKS_CONFIG, producerProperty(topicClass, "acks", "all"),
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, producerProperty(topicClass, "enable-idempotence", "true")
         ));
     }
+
+    private String producerProperty(String topicClass, String name, String defaultValue) {
+        return environment.getProperty("kafka.producer." + topicClass + "." + name,
+                environment.getProperty("kafka.producer." + name, defaultValue));
+    }
 }
\ No newline at end of file
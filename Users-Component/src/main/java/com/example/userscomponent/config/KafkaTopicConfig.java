@@ -0,0 +1,64 @@
+package com.example.userscomponent.config;
+
+import com.example.kafkaschema.routing.ReadYourWritesPinListener;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.List;
+
+@Configuration
+public class KafkaTopicConfig {
+    public static final String USER_EVENTS_TOPIC = "user-events";
+
+    private static final List<String> REQUEST_TOPICS = List.of(
+            "create-user",
+            "get-user-by-id",
+            "get-user-by-email",
+            "get-user-by-full-name",
+            "get-user-by-phone-number",
+            "update-user-by-id",
+            "update-user-password-by-id",
+            "delete-user-by-id",
+            "delete-user-by-email",
+            "delete-user-by-full-name"
+    );
+
+    @Value("${spring.application.name}")
+    private String applicationName;
+
+    @Value("${kafka.topics.partitions:1}")
+    private int requestTopicPartitions;
+
+    @Value("${kafka.topics.replicas:1}")
+    private int requestTopicReplicas;
+
+    @Bean
+    public KafkaAdmin.NewTopics requestTopics() {
+        return new KafkaAdmin.NewTopics(REQUEST_TOPICS.stream()
+                .map(topic -> TopicBuilder.name(topic)
+                        .partitions(requestTopicPartitions)
+                        .replicas(requestTopicReplicas)
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+
+    @Bean
+    public NewTopic userEventsTopic() {
+        return TopicBuilder.name(USER_EVENTS_TOPIC)
+                .partitions(requestTopicPartitions)
+                .replicas(requestTopicReplicas)
+                .build();
+    }
+
+    @Bean
+    public NewTopic readYourWritesPinsTopic() {
+        return TopicBuilder.name(ReadYourWritesPinListener.topicFor(applicationName))
+                .partitions(requestTopicPartitions)
+                .replicas(requestTopicReplicas)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.userscomponent.model;
 
+import com.example.kafkaschema.id.TimeOrderedId;
 import jakarta.persistence.*;
 
 import java.time.LocalDateTime;
@@ -8,9 +9,10 @@ import java.util.UUID;
 @Entity
 public class Users {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
     private String fullName;
+    @Column(unique = true)
     private String email;
     private String phoneNumber;
     private String password;
@@ -1,8 +1,11 @@
 package com.example.userscomponent.repository;
 
 import com.example.userscomponent.model.Users;
+import feign.Param;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -11,6 +14,13 @@ import java.util.UUID;
 public interface UsersRepository extends JpaRepository<Users, UUID> {
     Optional<Users> findByEmail(String email);
 
+    @Transactional
+    @Query(value = "INSERT INTO users (id, full_name, email, phone_number, password, created_date, status) " +
+            "VALUES (:#{#user.id}, :#{#user.fullName}, :#{#user.email}, :#{#user.phoneNumber}, " +
+            ":#{#user.password}, :#{#user.createdDate}, :#{#user.status}) " +
+            "ON CONFLICT (email) DO NOTHING RETURNING *", nativeQuery = true)
+    Optional<Users> insertIfEmailAbsent(@Param("user") Users user);
+
     Optional<Users> findByFullNameIgnoreCase(String fullName);
 
     Optional<Users> findByPhoneNumber(String phoneNumber);
@@ -1,5 +1,8 @@
 package com.example.userscomponent.service;
 
+import com.example.kafkaschema.id.TimeOrderedUuid;
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import com.example.userscomponent.config.ReplyTopicResolver;
 import com.example.userscomponent.dto.UsersDTO;
 import com.example.userscomponent.exception.CustomKafkaException;
 import com.example.userscomponent.model.Users;
@@ -10,6 +13,7 @@ import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.core.KafkaTemplate;
@@ -34,6 +38,8 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
 
     private final KafkaTemplate<String, UsersDTO> responseDTOKafkaTemplate;
     private final KafkaTemplate<String, String> responseMessageKafkaTemplate;
+    private final ReplyTopicResolver replyTopicResolver;
+    private final UserEventPublisher userEventPublisher;
 
     private final PasswordEncoder passwordEncoder;
     private final UsersRepository usersRepository;
@@ -41,11 +47,15 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
     @Autowired
     public KafkaUsersServiceImpl(PasswordEncoder passwordEncoder, UsersRepository usersRepository,
                                  KafkaTemplate<String, UsersDTO> responseDTOKafkaTemplate,
-                                 KafkaTemplate<String, String> responseMessageKafkaTemplate) {
+                                 KafkaTemplate<String, String> responseMessageKafkaTemplate,
+                                 ReplyTopicResolver replyTopicResolver,
+                                 UserEventPublisher userEventPublisher) {
         this.passwordEncoder = passwordEncoder;
         this.usersRepository = usersRepository;
         this.responseDTOKafkaTemplate = responseDTOKafkaTemplate;
         this.responseMessageKafkaTemplate = responseMessageKafkaTemplate;
+        this.replyTopicResolver = replyTopicResolver;
+        this.userEventPublisher = userEventPublisher;
     }
 
     private UsersDTO convertUsersModelToDTO(Users user) {
@@ -60,6 +70,7 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
 
     private Users convertUsersDTOToModel(UsersDTO usersDTO) {
         Users users = new Users();
+        users.setId(TimeOrderedUuid.next());
         users.setFullName(usersDTO.getFullName());
         users.setEmail(usersDTO.getEmail());
         users.setPassword(passwordEncoder.encode(usersDTO.getPassword()));
@@ -70,24 +81,23 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
     }
 
     @Override
-    @KafkaListener(topics = "create-user", containerFactory = "usersDTOKafkaListenerFactory")
+    @KafkaListener(topics = "create-user", containerFactory = "usersDTOKafkaListenerFactory",
+            concurrency = "${kafka.listener.create-user.concurrency:${kafka.listener.concurrency:1}}")
     public void createUser(UsersDTO usersDTO, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: create-user with correlation id: {} ", correlationId);
-        LOGGER.info(USER_SEARCHING_LOG, usersDTO.getEmail());
-        usersRepository.findByEmail(usersDTO.getEmail())
-                .ifPresent(userEntity -> {
+        LOGGER.info("Trying to create User with email: {} in DB", usersDTO.getEmail());
+        Users userEntity = usersRepository.insertIfEmailAbsent(convertUsersDTOToModel(usersDTO))
+                .orElseThrow(() -> {
                     LOGGER.error("User with such email already exists: {},", usersDTO.getEmail());
-                    throw new CustomKafkaException(HttpStatus.FOUND, "User with such email: "
-                            + usersDTO.getEmail() + " already exist correlationId:" + correlationId);
+                    return new CustomKafkaException(HttpStatus.FOUND, "User with such email: "
+                            + usersDTO.getEmail() + " already exist");
                 });
-
-        LOGGER.info("User email is unique, trying to create User in DB");
-        Users userEntity = usersRepository.save(convertUsersDTOToModel(usersDTO));
         LOGGER.info("User created successfully: {}", userEntity);
+        userEventPublisher.publish(EntityChangeEvent.CREATED, userEntity.getId());
 
         LOGGER.info("Trying to create topic: create-user-response with correlation id: {} ", correlationId);
         ProducerRecord<String, UsersDTO> responseTopic = new ProducerRecord<>(
-                "create-user-response", null, convertUsersModelToDTO(userEntity));
+                replyTopicResolver.resolve("create-user-response"), null, convertUsersModelToDTO(userEntity));
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -95,7 +105,8 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
 
     @Override
     @KafkaListener(topics = "get-user-by-id", groupId = "users-components",
-            containerFactory = "uuidKafkaListenerFactory")
+            containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-user-by-id.concurrency:${kafka.listener.concurrency:1}}")
     public void getUserById(UUID userId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-user-by-id with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, userId);
@@ -107,12 +118,12 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, userId);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "User with such ID: " + userId + " was not found correlationId:" + correlationId);
+                            "User with such ID: " + userId + " was not found");
                 });
 
         LOGGER.info("Trying to create topic: get-user-by-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, UsersDTO> responseTopic = new ProducerRecord<>(
-                "get-user-by-id-response", null, responseUserDTO);
+                replyTopicResolver.resolve("get-user-by-id-response"), null, responseUserDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -120,7 +131,8 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
 
     @Override
     @KafkaListener(topics = "get-user-by-email", groupId = "users-components",
-            containerFactory = "stringKafkaListenerFactory")
+            containerFactory = "stringKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-user-by-email.concurrency:${kafka.listener.concurrency:1}}")
     public void getUserByEmail(String userEmail, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-user-by-email with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, userEmail);
@@ -132,12 +144,12 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, userEmail);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "User with such email: " + userEmail + " was not found correlationId:" + correlationId);
+                            "User with such email: " + userEmail + " was not found");
                 });
 
         LOGGER.info("Trying to create topic: get-user-by-email-response with correlation id: {} ", correlationId);
         ProducerRecord<String, UsersDTO> responseTopic = new ProducerRecord<>(
-                "get-user-by-email-response", null, responseUserDTO);
+                replyTopicResolver.resolve("get-user-by-email-response"), null, responseUserDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -145,7 +157,8 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
 
     @Override
     @KafkaListener(topics = "get-user-by-full-name", groupId = "users-components",
-            containerFactory = "stringKafkaListenerFactory")
+            containerFactory = "stringKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-user-by-full-name.concurrency:${kafka.listener.concurrency:1}}")
     public void getUserByFullName(String userFullName, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-user-by-full-name with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, userFullName);
@@ -157,12 +170,12 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, userFullName);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "User with such full name: " + userFullName + " was not found correlationId:" + correlationId);
+                            "User with such full name: " + userFullName + " was not found");
                 });
 
         LOGGER.info("Trying to create topic: get-user-by-full-name-response with correlation id: {} ", correlationId);
         ProducerRecord<String, UsersDTO> responseTopic = new ProducerRecord<>(
-                "get-user-by-full-name-response", null, responseUserDTO);
+                replyTopicResolver.resolve("get-user-by-full-name-response"), null, responseUserDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -170,7 +183,8 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
 
     @Override
     @KafkaListener(topics = "get-user-by-phone-number", groupId = "users-components",
-            containerFactory = "stringKafkaListenerFactory")
+            containerFactory = "stringKafkaListenerFactory",
+            concurrency = "${kafka.listener.get-user-by-phone-number.concurrency:${kafka.listener.concurrency:1}}")
     public void getUserByPhoneNumber(String userPhoneNumber, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: get-user-by-phone-number with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, userPhoneNumber);
@@ -182,19 +196,20 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, userPhoneNumber);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "User with such phone number: " + userPhoneNumber + " was not found correlationId:" + correlationId);
+                            "User with such phone number: " + userPhoneNumber + " was not found");
                 });
 
         LOGGER.info("Trying to create topic: get-user-by-phone-number-response with correlation id: {} ", correlationId);
         ProducerRecord<String, UsersDTO> responseTopic = new ProducerRecord<>(
-                "get-user-by-phone-number-response", null, responseUserDTO);
+                replyTopicResolver.resolve("get-user-by-phone-number-response"), null, responseUserDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
     @Override
-    @KafkaListener(topics = "update-user-by-id", containerFactory = "mapUUIDToDTOKafkaListenerFactory")
+    @KafkaListener(topics = "update-user-by-id", containerFactory = "mapUUIDToDTOKafkaListenerFactory",
+            concurrency = "${kafka.listener.update-user-by-id.concurrency:${kafka.listener.concurrency:1}}")
     public void updateUser(Map<String, UsersDTO> mapUUIDToDTO, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: update-user-by-id with correlation id: {} ", correlationId);
         ObjectMapper objectMapper = new ObjectMapper();
@@ -209,26 +224,34 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
                     userEntity.setEmail(usersDTO.getEmail());
                     userEntity.setPhoneNumber(usersDTO.getPhoneNumber());
                     userEntity.setPassword(passwordEncoder.encode(usersDTO.getPassword()));
-                    usersRepository.save(userEntity);
+                    try {
+                        usersRepository.saveAndFlush(userEntity);
+                    } catch (DataIntegrityViolationException exception) {
+                        LOGGER.error("User with such email already exists: {},", usersDTO.getEmail());
+                        throw new CustomKafkaException(HttpStatus.FOUND, "User with such email: "
+                                + usersDTO.getEmail() + " already exist");
+                    }
                     LOGGER.info("User updated successfully: {}", userEntity);
+                    userEventPublisher.publish(EntityChangeEvent.UPDATED, userEntity.getId());
                     return convertUsersModelToDTO(userEntity);
                 })
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, userId);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "User with such ID: " + userId + " was not found correlationId:" + correlationId);
+                            "User with such ID: " + userId + " was not found");
                 });
 
         LOGGER.info("Trying to create topic: update-user-by-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, UsersDTO> responseTopic = new ProducerRecord<>(
-                "update-user-by-id-response", null, responseUserDTO);
+                replyTopicResolver.resolve("update-user-by-id-response"), null, responseUserDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
     }
 
     @Override
-    @KafkaListener(topics = "update-user-password-by-id", containerFactory = "mapUUIDToStringKafkaListenerFactory")
+    @KafkaListener(topics = "update-user-password-by-id", containerFactory = "mapUUIDToStringKafkaListenerFactory",
+            concurrency = "${kafka.listener.update-user-password-by-id.concurrency:${kafka.listener.concurrency:1}}")
     public void updatePasswordById(Map<String, String> mapUUIDToString, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: update-user-password-by-id with correlation id: {} ", correlationId);
         String userId = mapUUIDToString.keySet().iterator().next().replaceAll("\"", "");
@@ -241,17 +264,18 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
                     userEntity.setPassword(passwordEncoder.encode(newPassword));
                     usersRepository.save(userEntity);
                     LOGGER.info("User password updated successfully: {}", userEntity);
+                    userEventPublisher.publish(EntityChangeEvent.UPDATED, userEntity.getId());
                     return convertUsersModelToDTO(userEntity);
                 })
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, userId);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "User with such ID: " + userId + " was not found correlationId:" + correlationId);
+                            "User with such ID: " + userId + " was not found");
                 });
 
         LOGGER.info("Trying to create topic: update-user-password-by-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, UsersDTO> responseTopic = new ProducerRecord<>(
-                "update-user-password-by-id-response", null, responseUserDTO);
+                replyTopicResolver.resolve("update-user-password-by-id-response"), null, responseUserDTO);
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseDTOKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -259,7 +283,8 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
 
     @Transactional
     @Override
-    @KafkaListener(topics = "delete-user-by-id", containerFactory = "uuidKafkaListenerFactory")
+    @KafkaListener(topics = "delete-user-by-id", containerFactory = "uuidKafkaListenerFactory",
+            concurrency = "${kafka.listener.delete-user-by-id.concurrency:${kafka.listener.concurrency:1}}")
     public void deleteUserById(UUID userId, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: delete-user-by-id with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, userId);
@@ -267,14 +292,15 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, userId);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "User with such ID: " + userId + " was not found correlationId:" + correlationId);
+                            "User with such ID: " + userId + " was not found");
                 });
         usersRepository.deleteById(userId);
         LOGGER.info(DELETED_USER_LOG, user);
+        userEventPublisher.publish(EntityChangeEvent.DELETED, user.getId());
 
         LOGGER.info("Trying to create topic: delete-user-by-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, String> responseTopic = new ProducerRecord<>(
-                "delete-user-by-id-response", null, "User deleted successfully");
+                replyTopicResolver.resolve("delete-user-by-id-response"), null, "User deleted successfully");
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseMessageKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -282,7 +308,8 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
 
     @Transactional
     @Override
-    @KafkaListener(topics = "delete-user-by-email", containerFactory = "stringKafkaListenerFactory")
+    @KafkaListener(topics = "delete-user-by-email", containerFactory = "stringKafkaListenerFactory",
+            concurrency = "${kafka.listener.delete-user-by-email.concurrency:${kafka.listener.concurrency:1}}")
     public void deleteUserByEmail(String userEmail, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: delete-user-by-email with correlation id: {} ", correlationId);
         LOGGER.info("Trying to find User with email: {}", userEmail.replaceAll("\"", ""));
@@ -290,14 +317,15 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
                 .orElseThrow(() -> {
                     LOGGER.error(USER_NOT_FOUND_LOG, userEmail);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "User with such email: " + userEmail + " was not found correlationId:" + correlationId);
+                            "User with such email: " + userEmail + " was not found");
                 });
         usersRepository.deleteByEmail(userEmail);
         LOGGER.info(DELETED_USER_LOG, user);
+        userEventPublisher.publish(EntityChangeEvent.DELETED, user.getId());
 
         LOGGER.info("Trying to create topic: delete-user-by-id-response with correlation id: {} ", correlationId);
         ProducerRecord<String, String> responseTopic = new ProducerRecord<>(
-                "delete-user-by-id-response", null, "User deleted successfully");
+                replyTopicResolver.resolve("delete-user-by-id-response"), null, "User deleted successfully");
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseMessageKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
@@ -305,7 +333,8 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
 
     @Transactional
     @Override
-    @KafkaListener(topics = "delete-user-by-full-name", containerFactory = "stringKafkaListenerFactory")
+    @KafkaListener(topics = "delete-user-by-full-name", containerFactory = "stringKafkaListenerFactory",
+            concurrency = "${kafka.listener.delete-user-by-full-name.concurrency:${kafka.listener.concurrency:1}}")
     public void deleteUserByFullName(String userFullName, @Header(KafkaHeaders.CORRELATION_ID) String correlationId) {
         LOGGER.info("Got request from kafka topic: delete-user-by-full-name with correlation id: {} ", correlationId);
         LOGGER.info(USER_SEARCHING_LOG, userFullName);
@@ -313,14 +342,15 @@ public class KafkaUsersServiceImpl implements KafkaUsersService {
                 .orElseThrow(() -> {
                     LOGGER.error("User with such name was not found: {}", userFullName);
                     return new CustomKafkaException(HttpStatus.NOT_FOUND,
-                            "User with such full name: " + userFullName + " was not found correlationId:" + correlationId);
+                            "User with such full name: " + userFullName + " was not found");
                 });
         usersRepository.deleteByFullName(userFullName);
         LOGGER.info(DELETED_USER_LOG, user);
+        userEventPublisher.publish(EntityChangeEvent.DELETED, user.getId());
 
         LOGGER.info("Trying to create topic: delete-user-by-full-name-response with correlation id: {} ", correlationId);
         ProducerRecord<String, String> responseTopic = new ProducerRecord<>(
-                "delete-user-by-full-name-response", null, "User deleted successfully");
+                replyTopicResolver.resolve("delete-user-by-full-name-response"), null, "User deleted successfully");
         responseTopic.headers().add(KafkaHeaders.CORRELATION_ID, correlationId.getBytes());
         responseMessageKafkaTemplate.send(responseTopic);
         LOGGER.info(ALLOCATED_TOPIC_LOG, responseTopic.value());
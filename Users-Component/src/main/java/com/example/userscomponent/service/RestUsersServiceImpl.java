@@ -7,11 +7,13 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.UUID;
 
 @Service
+@Transactional(readOnly = true)
 public class RestUsersServiceImpl implements RestUsersService {
     private static final Logger LOGGER = LoggerFactory.getLogger(RestUsersServiceImpl.class);
     private static final String USER_SEARCHING_LOG = "Trying to find User by: {}";
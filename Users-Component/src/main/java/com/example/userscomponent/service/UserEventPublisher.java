@@ -0,0 +1,51 @@
+package com.example.userscomponent.service;
+
+import com.example.kafkaschema.schema.EntityChangeEvent;
+import com.example.userscomponent.config.KafkaTopicConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Service
+public class UserEventPublisher {
+    private static final Logger LOGGER = LoggerFactory.getLogger(UserEventPublisher.class);
+    private static final String ENTITY = "user";
+
+    private final KafkaTemplate<String, EntityChangeEvent> userEventKafkaTemplate;
+
+    public UserEventPublisher(KafkaTemplate<String, EntityChangeEvent> userEventKafkaTemplate) {
+        this.userEventKafkaTemplate = userEventKafkaTemplate;
+    }
+
+    public void publish(String change, UUID userId) {
+        EntityChangeEvent event = new EntityChangeEvent(ENTITY, userId, change, Instant.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(event);
+                }
+            });
+        } else {
+            send(event);
+        }
+    }
+
+    private void send(EntityChangeEvent event) {
+        ProducerRecord<String, EntityChangeEvent> userEvent = new ProducerRecord<>(
+                KafkaTopicConfig.USER_EVENTS_TOPIC, event.id().toString(), event);
+        userEventKafkaTemplate.send(userEvent).whenComplete((sendResult, throwable) -> {
+            if (throwable != null) {
+                LOGGER.error("Failed to publish {} event for User with ID: {}", event.change(), event.id(), throwable);
+            }
+        });
+        LOGGER.debug("Published {} event for User with ID: {}", event.change(), event.id());
+    }
+}
@@ -0,0 +1,15 @@
+CREATE TABLE users
+(
+    id           uuid PRIMARY KEY,
+    full_name    varchar(255),
+    email        varchar(255),
+    phone_number varchar(255),
+    password     varchar(255),
+    created_date timestamp(6),
+    status       varchar(255),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE INDEX idx_users_full_name ON users (full_name);
+CREATE INDEX idx_users_upper_full_name ON users (upper(full_name));
+CREATE INDEX idx_users_phone_number ON users (phone_number);
@@ -0,0 +1,89 @@
+package com.example.userscomponent.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest(properties = {"spring.cloud.config.enabled=false", "spring.jpa.hibernate.ddl-auto=validate"})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class RepositoryIndexCoverageTest {
+    private static final IndexedQuery USER_BY_EMAIL = on("users", "uk_users_email", "email");
+    private static final IndexedQuery USER_BY_FULL_NAME = on("users", "idx_users_full_name", "full_name");
+    private static final IndexedQuery USER_BY_FULL_NAME_IGNORE_CASE = on("users", "idx_users_upper_full_name",
+            "upper(full_name)");
+    private static final IndexedQuery USER_BY_PHONE_NUMBER = on("users", "idx_users_phone_number", "phone_number");
+
+    private static final Map<String, List<IndexedQuery>> INDEXED_QUERIES = Map.ofEntries(
+            Map.entry("UsersRepository.findByEmail", List.of(USER_BY_EMAIL)),
+            Map.entry("UsersRepository.insertIfEmailAbsent", List.of(USER_BY_EMAIL)),
+            Map.entry("UsersRepository.findByFullNameIgnoreCase", List.of(USER_BY_FULL_NAME_IGNORE_CASE)),
+            Map.entry("UsersRepository.findByPhoneNumber", List.of(USER_BY_PHONE_NUMBER)),
+            Map.entry("UsersRepository.deleteByEmail", List.of(USER_BY_EMAIL)),
+            Map.entry("UsersRepository.deleteByFullName", List.of(USER_BY_FULL_NAME)));
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void everyRepositoryQueryIsMappedToAnIndex() {
+        List<String> unmappedQueries = Stream.of(UsersRepository.class)
+                .flatMap(repository -> Arrays.stream(repository.getDeclaredMethods())
+                        .filter(method -> !method.isSynthetic())
+                        .map(method -> repository.getSimpleName() + "." + method.getName()))
+                .filter(query -> !INDEXED_QUERIES.containsKey(query))
+                .toList();
+
+        assertThat(unmappedQueries).as("Repository queries without an index mapping").isEmpty();
+    }
+
+    @Test
+    void everyMappedIndexLeadsWithTheQueriedColumns() {
+        INDEXED_QUERIES.forEach((query, indexedQueries) -> indexedQueries.forEach(indexedQuery ->
+                assertThat(indexColumns(indexedQuery))
+                        .as("%s should be served by index %s", query, indexedQuery.index())
+                        .startsWith(indexedQuery.leadingColumns().toArray(String[]::new))));
+    }
+
+    private List<String> indexColumns(IndexedQuery indexedQuery) {
+        return jdbcTemplate.queryForList("SELECT pg_get_indexdef(i.indexrelid, column_number, true) " +
+                        "FROM pg_index i JOIN pg_class index_class ON index_class.oid = i.indexrelid " +
+                        "CROSS JOIN generate_series(1, i.indnatts) AS column_number " +
+                        "WHERE i.indrelid = CAST(? AS regclass) AND index_class.relname = ? " +
+                        "ORDER BY column_number", String.class, indexedQuery.table(), indexedQuery.index())
+                .stream()
+                .map(RepositoryIndexCoverageTest::normalize)
+                .toList();
+    }
+
+    private static IndexedQuery on(String table, String index, String... leadingColumns) {
+        return new IndexedQuery(table, index, Arrays.stream(leadingColumns)
+                .map(RepositoryIndexCoverageTest::normalize)
+                .toList());
+    }
+
+    private static String normalize(String indexColumn) {
+        return indexColumn.replace("::text", "").replaceAll("[()\\s]", "").toLowerCase(Locale.ROOT);
+    }
+
+    private record IndexedQuery(String table, String index, List<String> leadingColumns) {
+    }
+}